@@ -21,19 +21,33 @@
 package org.onap.policy.distribution.forwarding;
 
 /**
- * An error has occured when forwarding a policy.
+ * An error has occured when forwarding a policy. The error is either permanent, such as a policy the forwarder can't
+ * handle or rejects, or retryable, such as a forwarding target that can't be reached for the time being.
  */
 public class PolicyForwardingException extends Exception {
 
     private static final long serialVersionUID = 3866850096319435806L;
 
+    private final boolean retryable;
+
     /**
      * Construct an instance with the given message.
      * 
      * @param message the error message
      */
     public PolicyForwardingException(String message) {
+        this(message, false);
+    }
+
+    /**
+     * Construct an instance with the given message.
+     *
+     * @param message the error message
+     * @param retryable true if forwarding the policy again may succeed
+     */
+    public PolicyForwardingException(String message, boolean retryable) {
         super(message);
+        this.retryable = retryable;
     }
 
     /**
@@ -43,7 +57,28 @@ public class PolicyForwardingException extends Exception {
      * @param cause the cause
      */
     public PolicyForwardingException(String message, Throwable cause) {
+        this(message, cause, false);
+    }
+
+    /**
+     * Construct an instance with the given message and cause.
+     *
+     * @param message the error message
+     * @param cause the cause
+     * @param retryable true if forwarding the policy again may succeed
+     */
+    public PolicyForwardingException(String message, Throwable cause, boolean retryable) {
         super(message, cause);
+        this.retryable = retryable;
+    }
+
+    /**
+     * Check if forwarding the policy again may succeed.
+     *
+     * @return true if the error is retryable, false if it is permanent
+     */
+    public boolean isRetryable() {
+        return retryable;
     }
 
 }
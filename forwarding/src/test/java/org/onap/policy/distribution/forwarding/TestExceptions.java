@@ -20,6 +20,9 @@
 
 package org.onap.policy.distribution.forwarding;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import org.junit.jupiter.api.Test;
 import org.onap.policy.common.utils.test.ExceptionsTester;
 
@@ -28,5 +31,8 @@ class TestExceptions {
     @Test
     void test() {
         new ExceptionsTester().test(PolicyForwardingException.class);
+        assertFalse(new PolicyForwardingException("permanent").isRetryable());
+        assertTrue(new PolicyForwardingException("retryable", true).isRetryable());
+        assertTrue(new PolicyForwardingException("retryable", new Exception(), true).isRetryable());
     }
 }
@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2018 Ericsson. All rights reserved.
  *  Modifications Copyright (C) 2021 Bell Canada. All rights reserved.
+ *  Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,15 +22,69 @@
 
 package org.onap.policy.distribution.model;
 
-import lombok.AllArgsConstructor;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import lombok.Getter;
 
 /**
  * Represents a CSAR file that a {@link Policy} can be decoded from.
  */
-@Getter
-@AllArgsConstructor
-public class Csar implements PolicyInput {
+public class Csar implements PolicyInput, Closeable {
 
+    @Getter
     private String csarFilePath;
+
+    private CsarArchive archive;
+
+    public Csar(final String csarFilePath) {
+        this.csarFilePath = csarFilePath;
+    }
+
+    /**
+     * Get the archive view of the CSAR file shared by all the decoders handling this input.
+     *
+     * @return the archive view of the CSAR file
+     */
+    public synchronized CsarArchive getArchive() {
+        if (archive == null) {
+            archive = createArchive();
+        }
+        return archive;
+    }
+
+    /**
+     * Get a stream to read the raw contents of the CSAR.
+     *
+     * @return the stream of the CSAR contents, to be closed by the caller
+     * @throws IOException if the CSAR can't be read
+     */
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(Path.of(csarFilePath));
+    }
+
+    /**
+     * Create the archive view of the CSAR.
+     *
+     * @return the archive view
+     */
+    protected CsarArchive createArchive() {
+        return new CsarArchive(csarFilePath);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (archive != null) {
+            try {
+                archive.close();
+            } finally {
+                archive = null;
+            }
+        }
+    }
 }
@@ -0,0 +1,345 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import lombok.Getter;
+
+/**
+ * Shared view of the contents of a CSAR file. The archive is opened and its entries indexed once, on first access, so
+ * that every decoder handling the same {@link Csar} reads from a single open archive. Decoders can also cache what
+ * they parse from an entry so that other decoders reuse it rather than inflating and parsing the entry again. The
+ * archive is either a CSAR file or the contents of a CSAR held in memory. The contents of a CSAR held in memory are
+ * indexed from the central directory of the zip, as a {@link ZipFile} indexes a file, so indexing inflates nothing and
+ * reading an entry inflates only that entry, checked as {@link ZipFile} checks it against its size and CRC-32.
+ */
+public class CsarArchive implements Closeable {
+
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int END_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xffff;
+    private static final int CENTRAL_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_SIZE = 46;
+    private static final int LOCAL_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_SIZE = 30;
+    private static final long ZIP64_MARKER = 0xffffffffL;
+
+    @Getter
+    private final String csarFilePath;
+
+    // The contents of the CSAR, null if the archive is read from the CSAR file
+    private final byte[] payload;
+
+    private final Map<String, Object> parsedEntries = new ConcurrentHashMap<>();
+    private ZipFile zipFile;
+    private Map<String, ZipEntry> entries;
+    // The offsets of the local headers of the entries in the contents of the CSAR held in memory
+    private Map<String, Long> localHeaderOffsets;
+
+    /**
+     * Create a view of the given CSAR file, the file is not opened until its contents are accessed.
+     *
+     * @param csarFilePath the path of the CSAR file
+     */
+    public CsarArchive(final String csarFilePath) {
+        this.csarFilePath = csarFilePath;
+        this.payload = null;
+    }
+
+    /**
+     * Create a view of the contents of a CSAR held in memory, the contents are not indexed until they are accessed.
+     *
+     * @param csarName the name of the CSAR, in place of the path of a CSAR file
+     * @param payload the contents of the CSAR
+     */
+    public CsarArchive(final String csarName, final byte[] payload) {
+        this.csarFilePath = csarName;
+        this.payload = payload;
+    }
+
+    /**
+     * Get the entries of the archive, in the order they appear in the archive.
+     *
+     * @return the entries of the archive
+     * @throws IOException if the archive can't be opened
+     */
+    public synchronized Collection<ZipEntry> getEntries() throws IOException {
+        return open().values();
+    }
+
+    /**
+     * Get an entry of the archive by name.
+     *
+     * @param entryName the name of the entry
+     * @return the entry, or null if the archive has no entry with that name
+     * @throws IOException if the archive can't be opened
+     */
+    public synchronized ZipEntry getEntry(final String entryName) throws IOException {
+        return open().get(entryName);
+    }
+
+    /**
+     * Get a stream to read the uncompressed contents of an entry of the archive.
+     *
+     * @param entry the entry to read
+     * @return the stream of the entry contents, to be closed by the caller
+     * @throws IOException if the archive can't be opened or the entry can't be read
+     */
+    public synchronized InputStream getInputStream(final ZipEntry entry) throws IOException {
+        open();
+        return payload != null ? getPayloadInputStream(entry) : zipFile.getInputStream(entry);
+    }
+
+    /**
+     * Get the object parsed from an entry of the archive by an earlier call to {@link #putParsedEntry}.
+     *
+     * @param <T> the type of the parsed object
+     * @param entryName the name of the entry
+     * @param type the type of the parsed object
+     * @return the parsed object, or null if the entry hasn't been parsed into an object of that type
+     */
+    public <T> T getParsedEntry(final String entryName, final Class<T> type) {
+        final var parsed = parsedEntries.get(entryName);
+        return type.isInstance(parsed) ? type.cast(parsed) : null;
+    }
+
+    /**
+     * Cache the object parsed from an entry of the archive.
+     *
+     * @param entryName the name of the entry
+     * @param parsed the object parsed from the entry
+     */
+    public void putParsedEntry(final String entryName, final Object parsed) {
+        parsedEntries.put(entryName, parsed);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        parsedEntries.clear();
+        entries = null;
+        localHeaderOffsets = null;
+        if (zipFile != null) {
+            try {
+                zipFile.close();
+            } finally {
+                zipFile = null;
+            }
+        }
+    }
+
+    private Map<String, ZipEntry> open() throws IOException {
+        if (entries == null) {
+            final var index = new LinkedHashMap<String, ZipEntry>();
+            if (payload != null) {
+                indexPayload(index);
+            } else {
+                zipFile = new ZipFile(csarFilePath);
+                final var enumeration = zipFile.entries();
+                while (enumeration.hasMoreElements()) {
+                    final var entry = enumeration.nextElement();
+                    index.put(entry.getName(), entry);
+                }
+            }
+            entries = Collections.unmodifiableMap(index);
+        }
+        return entries;
+    }
+
+    private void indexPayload(final Map<String, ZipEntry> index) throws IOException {
+        final var buffer = ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN);
+        final int end = findEndOfCentralDirectory(buffer);
+        final int entryCount = Short.toUnsignedInt(buffer.getShort(end + 10));
+        final long directoryOffset = Integer.toUnsignedLong(buffer.getInt(end + 16));
+        if (entryCount == 0) {
+            throw new ZipException("No zip entries found in " + csarFilePath);
+        }
+        if (directoryOffset == ZIP64_MARKER) {
+            throw new ZipException("Zip64 archive " + csarFilePath + " is not supported");
+        }
+
+        final var offsets = new HashMap<String, Long>();
+        long position = directoryOffset;
+        for (var i = 0; i < entryCount; i++) {
+            checkBounds(position, CENTRAL_SIZE);
+            final var header = (int) position;
+            if (buffer.getInt(header) != CENTRAL_SIGNATURE) {
+                throw new ZipException("Invalid zip central directory in " + csarFilePath);
+            }
+            final int nameLength = Short.toUnsignedInt(buffer.getShort(header + 28));
+            final int extraLength = Short.toUnsignedInt(buffer.getShort(header + 30));
+            final int commentLength = Short.toUnsignedInt(buffer.getShort(header + 32));
+            checkBounds(position + CENTRAL_SIZE, nameLength);
+
+            final var entry = new ZipEntry(
+                    new String(payload, header + CENTRAL_SIZE, nameLength, StandardCharsets.UTF_8));
+            entry.setMethod(Short.toUnsignedInt(buffer.getShort(header + 10)));
+            entry.setCrc(Integer.toUnsignedLong(buffer.getInt(header + 16)));
+            entry.setCompressedSize(Integer.toUnsignedLong(buffer.getInt(header + 20)));
+            entry.setSize(Integer.toUnsignedLong(buffer.getInt(header + 24)));
+            final long localHeaderOffset = Integer.toUnsignedLong(buffer.getInt(header + 42));
+            if (entry.getCompressedSize() == ZIP64_MARKER || entry.getSize() == ZIP64_MARKER
+                    || localHeaderOffset == ZIP64_MARKER) {
+                throw new ZipException("Zip64 entry " + entry.getName() + " in " + csarFilePath + " is not supported");
+            }
+
+            index.put(entry.getName(), entry);
+            offsets.put(entry.getName(), localHeaderOffset);
+            position += CENTRAL_SIZE + nameLength + extraLength + commentLength;
+        }
+        localHeaderOffsets = offsets;
+    }
+
+    // The end of central directory record is the last record of a zip, followed only by the zip comment
+    private int findEndOfCentralDirectory(final ByteBuffer buffer) throws ZipException {
+        final int lowest = Math.max(0, payload.length - END_SIZE - MAX_COMMENT_SIZE);
+        for (int position = payload.length - END_SIZE; position >= lowest; position--) {
+            if (buffer.getInt(position) == END_SIGNATURE) {
+                return position;
+            }
+        }
+        // unlike a zip file, the contents held in memory aren't checked to be a zip until they are indexed
+        throw new ZipException("No zip entries found in " + csarFilePath);
+    }
+
+    // The data of the entry is inflated straight from the contents, without reading any other entry
+    private InputStream getPayloadInputStream(final ZipEntry entry) throws IOException {
+        final Long localHeaderOffset = localHeaderOffsets.get(entry.getName());
+        if (localHeaderOffset == null) {
+            throw new ZipException("Zip entry " + entry.getName() + " not found in " + csarFilePath);
+        }
+        checkBounds(localHeaderOffset, LOCAL_SIZE);
+        final var buffer = ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN);
+        final var header = localHeaderOffset.intValue();
+        final int nameLength = Short.toUnsignedInt(buffer.getShort(header + 26));
+        if (buffer.getInt(header) != LOCAL_SIGNATURE || !hasName(header + LOCAL_SIZE, nameLength, entry.getName())) {
+            throw new ZipException("Invalid zip local header for " + entry.getName() + " in " + csarFilePath);
+        }
+        final long dataOffset =
+                (long) header + LOCAL_SIZE + nameLength + Short.toUnsignedInt(buffer.getShort(header + 28));
+        checkBounds(dataOffset, entry.getCompressedSize());
+
+        final var start = (int) dataOffset;
+        final var length = (int) entry.getCompressedSize();
+        if (entry.getMethod() == ZipEntry.STORED) {
+            return new VerifiedEntryInputStream(new ByteArrayInputStream(payload, start, length), entry);
+        }
+        if (entry.getMethod() != ZipEntry.DEFLATED) {
+            throw new ZipException("Unsupported compression method " + entry.getMethod() + " of zip entry "
+                    + entry.getName() + " in " + csarFilePath);
+        }
+
+        // raw inflation needs a byte past the deflated data, there is always at least the central directory after it
+        checkBounds(dataOffset, length + 1L);
+        final var inflater = new Inflater(true);
+        return new VerifiedEntryInputStream(new InflaterInputStream(
+                new ByteArrayInputStream(payload, start, length + 1), inflater) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        }, entry);
+    }
+
+    private boolean hasName(final int offset, final int nameLength, final String name) throws ZipException {
+        checkBounds(offset, nameLength);
+        final var nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        return Arrays.equals(payload, offset, offset + nameLength, nameBytes, 0, nameBytes.length);
+    }
+
+    private void checkBounds(final long offset, final long length) throws ZipException {
+        if (offset < 0 || length < 0 || offset + length > payload.length) {
+            throw new ZipException("Truncated zip " + csarFilePath);
+        }
+    }
+
+    /**
+     * Stream of the uncompressed contents of an entry, failing if the contents don't match the size and CRC-32 of the
+     * entry in the central directory.
+     */
+    private final class VerifiedEntryInputStream extends CheckedInputStream {
+        private final ZipEntry entry;
+        private long count;
+
+        private VerifiedEntryInputStream(final InputStream in, final ZipEntry entry) {
+            super(in, new CRC32());
+            this.entry = entry;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int read = super.read();
+            verify(read < 0 ? -1 : 1);
+            return read;
+        }
+
+        @Override
+        public int read(final byte[] buf, final int off, final int len) throws IOException {
+            final int read = super.read(buf, off, len);
+            verify(len == 0 ? 0 : read);
+            return read;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void verify(final int read) throws ZipException {
+            if (read > 0) {
+                count += read;
+                if (count > entry.getSize()) {
+                    throw new ZipException("Zip entry " + entry.getName() + " in " + csarFilePath
+                            + " is larger than its size " + entry.getSize());
+                }
+            } else if (read < 0 && (count != entry.getSize() || getChecksum().getValue() != entry.getCrc())) {
+                throw new ZipException("Invalid size or CRC-32 of zip entry " + entry.getName() + " in "
+                        + csarFilePath);
+            }
+        }
+    }
+}
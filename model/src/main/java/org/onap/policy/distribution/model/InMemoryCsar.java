@@ -0,0 +1,62 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import lombok.Getter;
+
+/**
+ * Represents a CSAR held in memory that a {@link Policy} can be decoded from, such as an artifact downloaded from SDC.
+ * Its entries are read straight from its contents, so the CSAR never has to be written to a file to be decoded.
+ */
+public class InMemoryCsar extends Csar {
+
+    @Getter
+    private final byte[] payload;
+
+    /**
+     * Create a CSAR held in memory.
+     *
+     * @param csarName the name of the CSAR, returned as its file path
+     * @param payload the contents of the CSAR
+     */
+    public InMemoryCsar(final String csarName, final byte[] payload) {
+        super(csarName);
+        this.payload = payload;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(payload);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected CsarArchive createArchive() {
+        return new CsarArchive(getCsarFilePath(), payload);
+    }
+}
@@ -96,7 +96,8 @@ public class FilePolicyForwarder implements PolicyForwarder {
             LOGGER.debug("Successfully forwarded the policy to store into file {}.", path);
         } catch (final InvalidPathException | IOException exp) {
             final String message = "Error sending policy to file under path:" + fileForwarderParameters.getPath();
-            throw new PolicyForwardingException(message, exp);
+            // the file system may accept the policy once it is writable again
+            throw new PolicyForwardingException(message, exp, exp instanceof IOException);
         }
     }
 }
@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2022 Nordix Foundation.
+ *  Copyright (C) 2022, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,6 +34,7 @@ import org.onap.policy.common.endpoints.http.client.HttpClientFactoryInstance;
 import org.onap.policy.common.parameters.ParameterService;
 import org.onap.policy.distribution.forwarding.PolicyForwarder;
 import org.onap.policy.distribution.forwarding.PolicyForwardingException;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaEntity;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
 import org.slf4j.Logger;
@@ -70,16 +71,18 @@ public class LifecycleApiAutomationCompositionForwarder implements PolicyForward
     @Override
     public void forward(final Collection<ToscaEntity> entities) throws PolicyForwardingException {
         final List<ToscaEntity> failedEntities = new ArrayList<>();
+        var retryable = true;
         for (final ToscaEntity entity : entities) {
-            forwardSingleEntity(failedEntities, entity);
+            retryable &= forwardSingleEntity(failedEntities, entity);
         }
         if (!failedEntities.isEmpty()) {
             throw new PolicyForwardingException(
-                "Failed forwarding the following entities: " + Arrays.toString(failedEntities.toArray()));
+                "Failed forwarding the following entities: " + Arrays.toString(failedEntities.toArray()), retryable);
         }
     }
 
-    private void forwardSingleEntity(final List<ToscaEntity> failedEntities, final ToscaEntity entity) {
+    // Returns false if the entity failed in a way that forwarding it again won't fix
+    private boolean forwardSingleEntity(final List<ToscaEntity> failedEntities, final ToscaEntity entity) {
         try {
             if (entity instanceof ToscaServiceTemplate) {
                 final var toscaServiceTemplate = (ToscaServiceTemplate) entity;
@@ -94,7 +97,9 @@ public class LifecycleApiAutomationCompositionForwarder implements PolicyForward
         } catch (final Exception exp) {
             LOGGER.error(exp.getMessage(), exp);
             failedEntities.add(entity);
+            return LifecycleApiPolicyForwarder.isRetryable(exp);
         }
+        return true;
     }
 
     private void commissionAutomationComposition(final ToscaServiceTemplate toscaServiceTemplate)
@@ -103,16 +108,22 @@ public class LifecycleApiAutomationCompositionForwarder implements PolicyForward
     }
 
     private void invokeHttpClient(final Entity<?> entity) throws PolicyForwardingException {
+        final var startTime = System.nanoTime();
         var response = automationCompositionClient.post(
             LifecycleApiAutomationCompositionForwarder.COMMISSION_AUTOMATION_COMPOSITION_URI, entity,
             Map.of(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON, HttpHeaders.CONTENT_TYPE,
                 MediaType.APPLICATION_JSON));
+        DistributionStatisticsManager.observeForwardRequestDuration(getClass().getSimpleName(),
+            COMMISSION_AUTOMATION_COMPOSITION_URI, System.nanoTime() - startTime);
         if (response.getStatus() / 100 != 2) {
             LOGGER.error("Invocation of path {} failed for entity {}. Response status: {}, Response status info: {}",
                 LifecycleApiAutomationCompositionForwarder.COMMISSION_AUTOMATION_COMPOSITION_URI,
                 entity, response.getStatus(), response.getStatusInfo());
-            throw new PolicyForwardingException("Failed creating the entity - " + entity);
+            response.close();
+            throw new PolicyForwardingException("Failed creating the entity - " + entity,
+                LifecycleApiPolicyForwarder.isRetryable(response.getStatus()));
         }
+        response.close();
     }
 }
 
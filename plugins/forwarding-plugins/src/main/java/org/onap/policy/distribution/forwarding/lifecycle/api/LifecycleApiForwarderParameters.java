@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2019, 2024 Nordix Foundation.
+ *  Copyright (C) 2019, 2024, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -22,6 +22,8 @@
 package org.onap.policy.distribution.forwarding.lifecycle.api;
 
 import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.parameters.annotations.Min;
 import org.onap.policy.common.parameters.annotations.NotBlank;
 import org.onap.policy.common.parameters.annotations.NotNull;
 import org.onap.policy.common.parameters.annotations.Valid;
@@ -43,6 +45,24 @@ public class LifecycleApiForwarderParameters extends PolicyForwarderConfiguratio
     private @Valid RestClientParameters papParameters;
     private boolean deployPolicies = true;
 
+    // Maximum number of templates forwarded concurrently, templates are forwarded one at a time if not set
+    @Min(0)
+    @Setter
+    private int maxInFlightRequests;
+
+    // Time to wait for the policies of other distributions to deploy in the same PAP request, not waited if not set
+    @Min(0)
+    @Setter
+    private long deployBatchWindowMillis;
+
+    // Skip the creation of the policy types already created by this forwarder
+    @Setter
+    private boolean cachePolicyTypes;
+
+    // Read the policy types that already exist from the policy framework when the forwarder is configured
+    @Setter
+    private boolean warmPolicyTypeCache;
+
     public LifecycleApiForwarderParameters() {
         super(LifecycleApiForwarderParameters.class.getSimpleName());
     }
@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2019, 2022 Nordix Foundation.
+ *  Copyright (C) 2019, 2022, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
  *  Modifications Copyright (C) 2021 Bell Canada.
  * ================================================================================
@@ -22,21 +22,31 @@
 
 package org.onap.policy.distribution.forwarding.lifecycle.api;
 
+import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.onap.policy.common.endpoints.http.client.HttpClient;
 import org.onap.policy.common.endpoints.http.client.HttpClientConfigException;
 import org.onap.policy.common.endpoints.http.client.HttpClientFactoryInstance;
 import org.onap.policy.common.parameters.ParameterService;
 import org.onap.policy.distribution.forwarding.PolicyForwarder;
 import org.onap.policy.distribution.forwarding.PolicyForwardingException;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
 import org.onap.policy.models.pap.concepts.PdpDeployPolicies;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifierOptVersion;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaEntity;
@@ -47,11 +57,13 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This class provides an implementation of {@link PolicyForwarder} interface for forwarding the given policies & policy
- * types to the life cycle api's of policy framework.
+ * types to the life cycle api's of policy framework. The policy type, policy and deployment of a template are always
+ * forwarded in that order, but different templates can be forwarded concurrently if a maximum number of in flight
+ * requests is configured. The policies of all the templates forwarded together are deployed by a single PAP request.
  *
  * @author Ram Krishna Verma (ram.krishna.verma@est.tech)
  */
-public class LifecycleApiPolicyForwarder implements PolicyForwarder {
+public class LifecycleApiPolicyForwarder implements PolicyForwarder, Closeable {
 
     private static final String DEPLOY_POLICY_URI = "/policy/pap/v1/pdps/policies";
     private static final String CREATE_POLICY_TYPE_URI = "/policy/api/v1/policytypes";
@@ -61,6 +73,13 @@ public class LifecycleApiPolicyForwarder implements PolicyForwarder {
     private LifecycleApiForwarderParameters forwarderParameters;
     private HttpClient apiClient;
     private HttpClient papClient;
+    private ExecutorService forwardingExecutor;
+    private PapDeployCoalescer deployCoalescer;
+    private PolicyTypeRegistry policyTypeRegistry;
+
+    // The policies to deploy once the policy type and policies of a template are created
+    private record TemplateDeployment(ToscaEntity entity, List<ToscaConceptIdentifierOptVersion> policies) {
+    }
 
     /**
      * {@inheritDoc}.
@@ -71,6 +90,26 @@ public class LifecycleApiPolicyForwarder implements PolicyForwarder {
 
         apiClient = HttpClientFactoryInstance.getClientFactory().build(forwarderParameters.getApiParameters());
         papClient = HttpClientFactoryInstance.getClientFactory().build(forwarderParameters.getPapParameters());
+
+        if (forwarderParameters.isCachePolicyTypes()) {
+            policyTypeRegistry = new PolicyTypeRegistry();
+            if (forwarderParameters.isWarmPolicyTypeCache()) {
+                loadPolicyTypes();
+            }
+        }
+
+        deployCoalescer =
+                new PapDeployCoalescer(this::deployPolicies, forwarderParameters.getDeployBatchWindowMillis());
+
+        if (forwarderParameters.getMaxInFlightRequests() > 0) {
+            final var threadCount = new AtomicInteger();
+            forwardingExecutor = Executors.newFixedThreadPool(forwarderParameters.getMaxInFlightRequests(),
+                runnable -> {
+                    final var thread = new Thread(runnable, "lifecycle-api-forwarder-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        }
     }
 
     /**
@@ -78,32 +117,81 @@ public class LifecycleApiPolicyForwarder implements PolicyForwarder {
      */
     @Override
     public void forward(final Collection<ToscaEntity> entities) throws PolicyForwardingException {
-        final List<ToscaEntity> failedEntities = new ArrayList<>();
-        for (final ToscaEntity entity : entities) {
-            forwardSingleEntity(failedEntities, entity);
+        final List<ToscaEntity> failedEntities = Collections.synchronizedList(new ArrayList<>());
+        final List<TemplateDeployment> deployments = Collections.synchronizedList(new ArrayList<>());
+        final var retryable = new AtomicBoolean(true);
+        if (forwardingExecutor == null) {
+            for (final ToscaEntity entity : entities) {
+                forwardSingleEntity(failedEntities, deployments, retryable, entity);
+            }
+        } else {
+            CompletableFuture.allOf(entities.stream()
+                .map(entity -> CompletableFuture.runAsync(
+                    () -> forwardSingleEntity(failedEntities, deployments, retryable, entity), forwardingExecutor))
+                .toArray(CompletableFuture[]::new)).join();
         }
+        deployTemplates(failedEntities, deployments, retryable);
         if (!failedEntities.isEmpty()) {
+            // the entities are only worth forwarding again if none of them was rejected
             throw new PolicyForwardingException(
-                    "Failed forwarding the following entities: " + Arrays.toString(failedEntities.toArray()));
+                    "Failed forwarding the following entities: " + Arrays.toString(failedEntities.toArray()),
+                    retryable.get());
         }
     }
 
-    private void forwardSingleEntity(final List<ToscaEntity> failedEntities, final ToscaEntity entity) {
-        Response policyCreated = null;
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() {
+        if (forwardingExecutor != null) {
+            forwardingExecutor.shutdown();
+        }
+        if (deployCoalescer != null) {
+            deployCoalescer.close();
+        }
+    }
+
+    /**
+     * Check if an error of the forwarding of an entity may not recur when it is forwarded again, the HTTP client
+     * failing to connect or timing out, or the policy framework failing to handle the request.
+     *
+     * @param exp the error
+     * @return true if forwarding the entity again may succeed
+     */
+    static boolean isRetryable(final Throwable exp) {
+        if (exp instanceof PolicyForwardingException forwardingException) {
+            return forwardingException.isRetryable();
+        }
+        return exp instanceof ProcessingException;
+    }
+
+    /**
+     * Check if a request that failed with a response status may succeed when it is sent again.
+     *
+     * @param status the response status
+     * @return true for a request timeout, too many requests or a server error
+     */
+    static boolean isRetryable(final int status) {
+        return status == 408 || status == 429 || status / 100 == 5;
+    }
+
+    private void forwardSingleEntity(final List<ToscaEntity> failedEntities,
+            final List<TemplateDeployment> deployments, final AtomicBoolean retryable, final ToscaEntity entity) {
         try {
             if (entity instanceof ToscaServiceTemplate) {
                 final var toscaServiceTemplate = (ToscaServiceTemplate) entity;
                 if (null != toscaServiceTemplate.getPolicyTypes() && !toscaServiceTemplate.getPolicyTypes().isEmpty()) {
-                    createPolicyType(toscaServiceTemplate);
+                    createPolicyTypeIfUnknown(toscaServiceTemplate);
                 }
                 if (null != toscaServiceTemplate.getToscaTopologyTemplate()
                         && null != toscaServiceTemplate.getToscaTopologyTemplate().getPolicies()
                         && !toscaServiceTemplate.getToscaTopologyTemplate().getPolicies().isEmpty()
                         && !toscaServiceTemplate.getToscaTopologyTemplate().getPolicies().get(0).entrySet().isEmpty()) {
-                    policyCreated = createPolicy(toscaServiceTemplate);
-                }
-                if (forwarderParameters.isDeployPolicies() && policyCreated != null) {
-                    deployPolicy(policyCreated.readEntity(ToscaServiceTemplate.class));
+                    final var policyCreated = createPolicy(toscaServiceTemplate);
+                    if (forwarderParameters.isDeployPolicies()) {
+                        deployments.add(new TemplateDeployment(entity, getPoliciesToDeploy(policyCreated)));
+                    }
                 }
             } else {
                 throw new PolicyForwardingException("The entity is not of type ToscaServiceTemplate - " + entity);
@@ -111,22 +199,77 @@ public class LifecycleApiPolicyForwarder implements PolicyForwarder {
         } catch (final Exception exp) {
             LOGGER.error(exp.getMessage(), exp);
             failedEntities.add(entity);
+            if (!isRetryable(exp)) {
+                retryable.set(false);
+            }
+        }
+    }
+
+    private void createPolicyTypeIfUnknown(final ToscaServiceTemplate toscaServiceTemplate)
+            throws PolicyForwardingException {
+        if (policyTypeRegistry == null) {
+            createPolicyType(toscaServiceTemplate);
+        } else if (policyTypeRegistry.containsAll(toscaServiceTemplate)) {
+            LOGGER.debug("Policy types {} already exist, not creating them", toscaServiceTemplate.getPolicyTypes()
+                .keySet());
+        } else {
+            createPolicyType(toscaServiceTemplate);
+            policyTypeRegistry.register(toscaServiceTemplate);
+        }
+    }
+
+    private void loadPolicyTypes() {
+        try (var response = apiClient.get(CREATE_POLICY_TYPE_URI)) {
+            if (response.getStatus() / 100 != 2) {
+                LOGGER.warn("Couldn't read the existing policy types. Response status: {}, Response status info: {}",
+                    response.getStatus(), response.getStatusInfo());
+                return;
+            }
+            policyTypeRegistry.registerExisting(response.readEntity(ToscaServiceTemplate.class));
+            LOGGER.debug("{} existing policy types read from the policy framework", policyTypeRegistry.size());
+        } catch (final RuntimeException exp) {
+            // the policy types are then created as they are forwarded
+            LOGGER.warn("Couldn't read the existing policy types", exp);
         }
     }
 
     private void createPolicyType(final ToscaServiceTemplate toscaServiceTemplate)
             throws PolicyForwardingException {
         invokeHttpClient(Entity.entity(toscaServiceTemplate, MediaType.APPLICATION_JSON), CREATE_POLICY_TYPE_URI,
-            true);
+            true).close();
     }
 
-    private Response createPolicy(final ToscaServiceTemplate toscaServiceTemplate) throws PolicyForwardingException {
-        return invokeHttpClient(Entity.entity(toscaServiceTemplate, MediaType.APPLICATION_JSON),
-                CREATE_POLICY_URI, true);
+    private ToscaServiceTemplate createPolicy(final ToscaServiceTemplate toscaServiceTemplate)
+            throws PolicyForwardingException {
+        // the created policies are only read if they are to be deployed, the response is closed in any case
+        try (var response = invokeHttpClient(Entity.entity(toscaServiceTemplate, MediaType.APPLICATION_JSON),
+                CREATE_POLICY_URI, true)) {
+            return forwarderParameters.isDeployPolicies() ? response.readEntity(ToscaServiceTemplate.class) : null;
+        }
     }
 
-    private void deployPolicy(final ToscaServiceTemplate toscaServiceTemplate) throws PolicyForwardingException {
-        final var pdpPolicies = new PdpDeployPolicies();
+    private void deployTemplates(final List<ToscaEntity> failedEntities, final List<TemplateDeployment> deployments,
+            final AtomicBoolean retryable) {
+        if (deployments.isEmpty()) {
+            return;
+        }
+
+        final var results = deployCoalescer.deploy(deployments.stream().map(TemplateDeployment::policies).toList());
+        for (var index = 0; index < deployments.size(); index++) {
+            try {
+                results.get(index).join();
+            } catch (final CompletionException exp) {
+                LOGGER.error(exp.getCause().getMessage(), exp.getCause());
+                failedEntities.add(deployments.get(index).entity());
+                if (!isRetryable(exp.getCause())) {
+                    retryable.set(false);
+                }
+            }
+        }
+    }
+
+    private List<ToscaConceptIdentifierOptVersion> getPoliciesToDeploy(
+            final ToscaServiceTemplate toscaServiceTemplate) {
         final List<ToscaConceptIdentifierOptVersion> policyIdentifierList = new ArrayList<>();
         for (final Map<String, ToscaPolicy> policyMap : toscaServiceTemplate.getToscaTopologyTemplate().getPolicies()) {
             final String policyId =
@@ -138,19 +281,31 @@ public class LifecycleApiPolicyForwarder implements PolicyForwarder {
                     new ToscaConceptIdentifierOptVersion(policyId, policyVersion);
             policyIdentifierList.add(toscaPolicyIdentifier);
         }
-        pdpPolicies.setPolicies(policyIdentifierList);
-        invokeHttpClient(Entity.entity(pdpPolicies, MediaType.APPLICATION_JSON), DEPLOY_POLICY_URI, false);
+        return policyIdentifierList;
+    }
+
+    private void deployPolicies(final List<ToscaConceptIdentifierOptVersion> policies)
+            throws PolicyForwardingException {
+        final var pdpPolicies = new PdpDeployPolicies();
+        pdpPolicies.setPolicies(policies);
+        invokeHttpClient(Entity.entity(pdpPolicies, MediaType.APPLICATION_JSON), DEPLOY_POLICY_URI, false).close();
     }
 
+    // The returned response must be closed by the caller so that its connection can be reused
     private Response invokeHttpClient(final Entity<?> entity, final String path, final boolean wantApi)
             throws PolicyForwardingException {
+        final var startTime = System.nanoTime();
         var response = getHttpClient(wantApi).post(path, entity, Map.of(HttpHeaders.ACCEPT,
                         MediaType.APPLICATION_JSON, HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON));
+        DistributionStatisticsManager.observeForwardRequestDuration(getClass().getSimpleName(), path,
+                System.nanoTime() - startTime);
         if (response.getStatus() / 100 != 2) {
             LOGGER.error(
                     "Invocation of path {} failed for entity {}. Response status: {}, Response status info: {}",
                     path, entity, response.getStatus(), response.getStatusInfo());
-            throw new PolicyForwardingException("Failed creating the entity - " + entity);
+            response.close();
+            throw new PolicyForwardingException("Failed creating the entity - " + entity,
+                    isRetryable(response.getStatus()));
         }
         return response;
     }
@@ -0,0 +1,172 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.forwarding.lifecycle.api;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.distribution.forwarding.PolicyForwardingException;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifierOptVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces the deployments of the policies of several templates into a single PAP deployment request, so that PAP
+ * runs one deployment cycle across the PDPs rather than one per template. The deployments submitted together are
+ * always coalesced, and deployments submitted by different callers are also coalesced if they are submitted within a
+ * configured window. If a coalesced request fails, the deployments are retried one at a time so that the outcome of
+ * each deployment is still known.
+ */
+class PapDeployCoalescer implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PapDeployCoalescer.class);
+
+    /**
+     * Sends a deployment request to PAP.
+     */
+    @FunctionalInterface
+    interface PapDeployer {
+
+        /**
+         * Deploy the given policies.
+         *
+         * @param policies the policies to deploy
+         * @throws PolicyForwardingException if the policies couldn't be deployed
+         */
+        void deploy(List<ToscaConceptIdentifierOptVersion> policies) throws PolicyForwardingException;
+    }
+
+    private record Deployment(List<ToscaConceptIdentifierOptVersion> policies, CompletableFuture<Void> result) {
+    }
+
+    private final PapDeployer deployer;
+    private final long windowMillis;
+    private final ScheduledExecutorService scheduler;
+
+    // The deployments waiting for the current window to close
+    private List<Deployment> pendingDeployments = new ArrayList<>();
+
+    /**
+     * Create a coalescer.
+     *
+     * @param deployer the sender of the deployment requests
+     * @param windowMillis the time to wait for other deployments to coalesce with, 0 to only coalesce the deployments
+     *        submitted together
+     */
+    PapDeployCoalescer(final PapDeployer deployer, final long windowMillis) {
+        this.deployer = deployer;
+        this.windowMillis = windowMillis;
+        if (windowMillis > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final var thread = new Thread(runnable, "pap-deploy-coalescer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Deploy the policies of several templates.
+     *
+     * @param deployments the policies to deploy for each template
+     * @return a future for each template, completed once its policies are deployed, or completed exceptionally if
+     *         they couldn't be deployed
+     */
+    List<CompletableFuture<Void>> deploy(final List<List<ToscaConceptIdentifierOptVersion>> deployments) {
+        final List<Deployment> batch =
+            deployments.stream().map(policies -> new Deployment(policies, new CompletableFuture<>())).toList();
+
+        if (scheduler == null || !enqueue(batch)) {
+            send(batch);
+        }
+
+        return batch.stream().map(Deployment::result).toList();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            // shut down under the lock taken by enqueue so that no deployment is scheduled on a stopped scheduler
+            synchronized (this) {
+                scheduler.shutdown();
+            }
+            sendPending();
+        }
+    }
+
+    private synchronized boolean enqueue(final List<Deployment> batch) {
+        if (scheduler.isShutdown()) {
+            return false;
+        }
+        if (pendingDeployments.isEmpty()) {
+            scheduler.schedule(this::sendPending, windowMillis, TimeUnit.MILLISECONDS);
+        }
+        pendingDeployments.addAll(batch);
+        return true;
+    }
+
+    private void sendPending() {
+        final List<Deployment> batch;
+        synchronized (this) {
+            batch = pendingDeployments;
+            pendingDeployments = new ArrayList<>();
+        }
+        send(batch);
+    }
+
+    private void send(final List<Deployment> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        final var policies = batch.stream().flatMap(deployment -> deployment.policies().stream()).distinct().toList();
+        try {
+            deployer.deploy(policies);
+            batch.forEach(deployment -> deployment.result().complete(null));
+            return;
+        } catch (final PolicyForwardingException | RuntimeException exp) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(exp);
+                return;
+            }
+            LOGGER.warn("Deployment of {} policies of {} templates failed, deploying each template separately",
+                policies.size(), batch.size(), exp);
+        }
+
+        for (final Deployment deployment : batch) {
+            try {
+                deployer.deploy(deployment.policies());
+                deployment.result().complete(null);
+            } catch (final PolicyForwardingException | RuntimeException exp) {
+                deployment.result().completeExceptionally(exp);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.forwarding.lifecycle.api;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicyType;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of the policy types known to exist in the policy framework, used to skip the creation of the policy types
+ * of a template when they have all been created already. A policy type created by the forwarder is known by its name,
+ * its version and a hash of its contents, so that a changed definition of the same type version is still sent to the
+ * policy framework. A policy type read from the policy framework is known by its name and version only, since the
+ * policy framework doesn't allow a policy type version to be redefined.
+ */
+class PolicyTypeRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PolicyTypeRegistry.class);
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    // Hash recorded for the policy types that exist whatever their contents
+    private static final String ANY_CONTENTS = "";
+
+    private final StandardCoder coder = new StandardCoder();
+
+    // The hash of the contents of each known policy type, keyed by the name and version of the policy type
+    private final Map<String, String> knownTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Check if all the policy types of a template are known to exist.
+     *
+     * @param template the template
+     * @return true if all the policy types of the template exist with the same contents
+     */
+    boolean containsAll(final ToscaServiceTemplate template) {
+        for (final Map.Entry<String, ToscaPolicyType> policyType : template.getPolicyTypes().entrySet()) {
+            final var knownHash = knownTypes.get(getKey(policyType.getKey(), policyType.getValue()));
+            if (knownHash == null) {
+                return false;
+            }
+            if (!ANY_CONTENTS.equals(knownHash) && !knownHash.equals(getHash(policyType.getValue()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Register the policy types of a template once they have been created.
+     *
+     * @param template the template
+     */
+    void register(final ToscaServiceTemplate template) {
+        template.getPolicyTypes().forEach((name, policyType) -> {
+            final var hash = getHash(policyType);
+            if (hash != null) {
+                knownTypes.put(getKey(name, policyType), hash);
+            }
+        });
+    }
+
+    /**
+     * Register the policy types read from the policy framework, which are known to exist whatever their contents.
+     *
+     * @param template the template holding the policy types read from the policy framework
+     */
+    void registerExisting(final ToscaServiceTemplate template) {
+        if (template.getPolicyTypes() != null) {
+            template.getPolicyTypes().forEach((name, policyType) -> knownTypes.put(getKey(name, policyType),
+                ANY_CONTENTS));
+        }
+    }
+
+    /**
+     * Get the number of known policy types.
+     *
+     * @return the number of known policy types
+     */
+    int size() {
+        return knownTypes.size();
+    }
+
+    private String getKey(final String name, final ToscaPolicyType policyType) {
+        return name + ":" + policyType.getVersion();
+    }
+
+    // A policy type whose hash can't be computed is never registered, so it is always created
+    private String getHash(final ToscaPolicyType policyType) {
+        try {
+            final var messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            return HexFormat.of().formatHex(
+                messageDigest.digest(coder.encode(policyType).getBytes(StandardCharsets.UTF_8)));
+        } catch (final CoderException | NoSuchAlgorithmException exp) {
+            LOGGER.warn("Couldn't compute the hash of policy type {}", policyType.getName(), exp);
+            return null;
+        }
+    }
+}
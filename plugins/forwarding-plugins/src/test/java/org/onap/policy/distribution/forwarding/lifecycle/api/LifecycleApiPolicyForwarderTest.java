@@ -23,7 +23,10 @@ package org.onap.policy.distribution.forwarding.lifecycle.api;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import jakarta.ws.rs.ProcessingException;
 import java.util.ArrayList;
 import java.util.Collection;
 import org.junit.jupiter.api.AfterAll;
@@ -101,6 +104,35 @@ class LifecycleApiPolicyForwarderTest {
         }).doesNotThrowAnyException();
     }
 
+    @Test
+    void testForwardPolicyConcurrentlyUsingSimulator() throws Exception {
+        final LifecycleApiForwarderParameters parameters =
+                ParameterService.get(LifecycleApiForwarderParameters.class.getSimpleName());
+        parameters.setMaxInFlightRequests(2);
+
+        final var forwarder = new LifecycleApiPolicyForwarder();
+        try {
+            forwarder.configure(LifecycleApiForwarderParameters.class.getSimpleName());
+
+            final Collection<ToscaEntity> policies = new ArrayList<>();
+            policies.add(standardCoder.decode(ResourceUtils.getResourceAsString(POLICY_TYPE),
+                    ToscaServiceTemplate.class));
+            policies.add(standardCoder.decode(ResourceUtils.getResourceAsString(POLICY), ToscaServiceTemplate.class));
+            policies.add(standardCoder.decode(ResourceUtils.getResourceAsString(POLICY_ERROR),
+                    ToscaServiceTemplate.class));
+
+            assertThatThrownBy(() -> forwarder.forward(policies)).isInstanceOf(PolicyForwardingException.class)
+                    .hasMessageContaining("Failed forwarding the following entities:")
+                    .hasMessageContaining(policies.toArray()[2].toString());
+
+            policies.remove(policies.toArray()[2]);
+            assertThatCode(() -> forwarder.forward(policies)).doesNotThrowAnyException();
+        } finally {
+            forwarder.close();
+            parameters.setMaxInFlightRequests(0);
+        }
+    }
+
     @Test
     void testForwardPolicyFailureUsingSimulator() throws Exception {
 
@@ -122,7 +154,22 @@ class LifecycleApiPolicyForwarderTest {
         policies.add(unsupportedPolicy);
 
         assertThatThrownBy(() -> forwarder.forward(policies)).isInstanceOf(PolicyForwardingException.class)
-                .hasMessageContaining("Failed forwarding the following entities:");
+                .hasMessageContaining("Failed forwarding the following entities:")
+                .matches(exp -> !((PolicyForwardingException) exp).isRetryable());
+    }
+
+    @Test
+    void testRetryableFailures() {
+        assertTrue(LifecycleApiPolicyForwarder.isRetryable(503));
+        assertTrue(LifecycleApiPolicyForwarder.isRetryable(408));
+        assertTrue(LifecycleApiPolicyForwarder.isRetryable(429));
+        assertFalse(LifecycleApiPolicyForwarder.isRetryable(400));
+        assertFalse(LifecycleApiPolicyForwarder.isRetryable(404));
+
+        assertTrue(LifecycleApiPolicyForwarder.isRetryable(new ProcessingException("connection refused")));
+        assertTrue(LifecycleApiPolicyForwarder.isRetryable(new PolicyForwardingException("unavailable", true)));
+        assertFalse(LifecycleApiPolicyForwarder.isRetryable(new PolicyForwardingException("rejected")));
+        assertFalse(LifecycleApiPolicyForwarder.isRetryable(new IllegalArgumentException("rejected")));
     }
 
     static class UnsupportedPolicy extends ToscaEntity {
@@ -0,0 +1,112 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.forwarding.lifecycle.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.distribution.forwarding.PolicyForwardingException;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifierOptVersion;
+
+/**
+ * Class to perform unit test of {@link PapDeployCoalescer}.
+ */
+class PapDeployCoalescerTest {
+
+    private final ToscaConceptIdentifierOptVersion policy1 = new ToscaConceptIdentifierOptVersion("policy1", "1.0.0");
+    private final ToscaConceptIdentifierOptVersion policy2 = new ToscaConceptIdentifierOptVersion("policy2", "1.0.0");
+    private final ToscaConceptIdentifierOptVersion failing = new ToscaConceptIdentifierOptVersion("failing", "1.0.0");
+    private final List<List<ToscaConceptIdentifierOptVersion>> requests = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testDeployTemplatesTogether() {
+        try (var coalescer = new PapDeployCoalescer(this::deploy, 0)) {
+            final var results = coalescer.deploy(List.of(List.of(policy1), List.of(policy2, policy1)));
+
+            results.forEach(CompletableFuture::join);
+            assertEquals(List.of(List.of(policy1, policy2)), requests);
+        }
+    }
+
+    @Test
+    void testDeployFailureRetriedPerTemplate() {
+        try (var coalescer = new PapDeployCoalescer(this::deploy, 0)) {
+            final var results = coalescer.deploy(List.of(List.of(policy1), List.of(failing), List.of(policy2)));
+
+            results.get(0).join();
+            assertThatThrownBy(results.get(1)::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(PolicyForwardingException.class);
+            results.get(2).join();
+            assertEquals(List.of(List.of(policy1, failing, policy2), List.of(policy1), List.of(failing),
+                List.of(policy2)), requests);
+        }
+    }
+
+    @Test
+    void testDeploySingleTemplateFailure() {
+        try (var coalescer = new PapDeployCoalescer(this::deploy, 0)) {
+            final var result = coalescer.deploy(List.of(List.of(failing))).get(0);
+
+            assertThatThrownBy(result::join).hasCauseInstanceOf(PolicyForwardingException.class);
+            assertEquals(1, requests.size());
+        }
+    }
+
+    @Test
+    void testDeployWithinWindow() {
+        try (var coalescer = new PapDeployCoalescer(this::deploy, 200)) {
+            final var first = coalescer.deploy(List.of(List.of(policy1)));
+            final var second = coalescer.deploy(List.of(List.of(policy2)));
+            assertFalse(first.get(0).isDone());
+
+            CompletableFuture.allOf(first.get(0), second.get(0)).orTimeout(5, TimeUnit.SECONDS).join();
+            assertEquals(List.of(List.of(policy1, policy2)), requests);
+        }
+    }
+
+    @Test
+    void testCloseDeploysPending() {
+        final var coalescer = new PapDeployCoalescer(this::deploy, 60000);
+        final var result = coalescer.deploy(List.of(List.of(policy1))).get(0);
+
+        coalescer.close();
+
+        assertThat(result).isCompleted();
+        final var afterClose = coalescer.deploy(List.of(List.of(policy2))).get(0);
+        assertThat(afterClose).isCompleted();
+        assertEquals(List.of(List.of(policy1), List.of(policy2)), requests);
+    }
+
+    private void deploy(final List<ToscaConceptIdentifierOptVersion> policies) throws PolicyForwardingException {
+        requests.add(policies);
+        if (policies.contains(failing)) {
+            throw new PolicyForwardingException("deployment failed");
+        }
+    }
+}
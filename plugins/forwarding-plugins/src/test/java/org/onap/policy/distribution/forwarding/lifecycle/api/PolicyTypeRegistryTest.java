@@ -0,0 +1,93 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.forwarding.lifecycle.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicyType;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+
+/**
+ * Class to perform unit test of {@link PolicyTypeRegistry}.
+ */
+class PolicyTypeRegistryTest {
+
+    private final PolicyTypeRegistry registry = new PolicyTypeRegistry();
+
+    @Test
+    void testRegisteredTypesKnown() {
+        final var template = createTemplate(createPolicyType("1.0.0", "type"));
+        assertFalse(registry.containsAll(template));
+
+        registry.register(template);
+        assertTrue(registry.containsAll(template));
+        assertTrue(registry.containsAll(createTemplate(createPolicyType("1.0.0", "type"))));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void testChangedTypeUnknown() {
+        registry.register(createTemplate(createPolicyType("1.0.0", "type")));
+
+        assertFalse(registry.containsAll(createTemplate(createPolicyType("1.0.0", "changed type"))));
+        assertFalse(registry.containsAll(createTemplate(createPolicyType("2.0.0", "type"))));
+    }
+
+    @Test
+    void testTemplateWithUnknownType() {
+        registry.register(createTemplate(createPolicyType("1.0.0", "type")));
+
+        final var template = createTemplate(createPolicyType("1.0.0", "type"));
+        final var otherType = createPolicyType("1.0.0", "other type");
+        template.getPolicyTypes().put("onap.policies.Other", otherType);
+        assertFalse(registry.containsAll(template));
+    }
+
+    @Test
+    void testExistingTypesKnownWhateverTheirContents() {
+        registry.registerExisting(createTemplate(createPolicyType("1.0.0", "type")));
+
+        assertTrue(registry.containsAll(createTemplate(createPolicyType("1.0.0", "changed type"))));
+        assertFalse(registry.containsAll(createTemplate(createPolicyType("2.0.0", "type"))));
+
+        registry.registerExisting(new ToscaServiceTemplate());
+        assertEquals(1, registry.size());
+    }
+
+    private ToscaPolicyType createPolicyType(final String version, final String description) {
+        final var policyType = new ToscaPolicyType();
+        policyType.setName("onap.policies.Test");
+        policyType.setVersion(version);
+        policyType.setDescription(description);
+        return policyType;
+    }
+
+    private ToscaServiceTemplate createTemplate(final ToscaPolicyType policyType) {
+        final var template = new ToscaServiceTemplate();
+        template.setPolicyTypes(new LinkedHashMap<>());
+        template.getPolicyTypes().put(policyType.getName(), policyType);
+        return template;
+    }
+}
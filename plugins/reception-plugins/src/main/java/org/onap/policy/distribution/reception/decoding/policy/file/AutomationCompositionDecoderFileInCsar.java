@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2021-2022 Nordix Foundation.
+ *  Copyright (C) 2021-2022, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -58,7 +58,7 @@ public class AutomationCompositionDecoderFileInCsar implements PolicyDecoder<Csa
      */
     @Override
     public boolean canHandle(final PolicyInput policyInput) {
-        return policyInput.getClass().isAssignableFrom(Csar.class);
+        return policyInput instanceof Csar;
     }
 
     /**
@@ -70,7 +70,7 @@ public class AutomationCompositionDecoderFileInCsar implements PolicyDecoder<Csa
 
         try {
             Map<String, ToscaServiceTemplate> templates = new HashMap<>();
-            ReceptionUtil.unzip(csar.getCsarFilePath(), templates,
+            ReceptionUtil.unzip(csar.getArchive(), templates,
                 decoderParameters.getAutomationCompositionType(), NODE_TYPES, DATA_TYPES);
 
             var node = templates.get(NODE_TYPES);
@@ -79,10 +79,12 @@ public class AutomationCompositionDecoderFileInCsar implements PolicyDecoder<Csa
             templates.forEach((entry, t) -> {
                 if (entry.contains(decoderParameters.getAutomationCompositionType())
                     && t.getToscaTopologyTemplate() != null) {
-                    t.setNodeTypes(node != null ? node.getNodeTypes() : null);
-                    t.setDataTypes(data != null ? data.getDataTypes() : null);
+                    // the decoded templates are shared with the other decoders of the csar, so amend a copy
+                    var automationComposition = new ToscaServiceTemplate(t);
+                    automationComposition.setNodeTypes(node != null ? node.getNodeTypes() : null);
+                    automationComposition.setDataTypes(data != null ? data.getDataTypes() : null);
 
-                    automationCompositionList.add(t);
+                    automationCompositionList.add(automationComposition);
                 }
             });
 
@@ -1,7 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2018 Ericsson. All rights reserved.
- *  Modifications Copyright (C) 2019, 2021-2022 Nordix Foundation.
+ *  Modifications Copyright (C) 2019, 2021-2022, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
  *  Modifications Copyright (C) 2021 Bell Canada. All rights reserved.
  * ================================================================================
@@ -59,7 +59,7 @@ public class PolicyDecoderFileInCsarToPolicy implements PolicyDecoder<Csar, Tosc
      */
     @Override
     public boolean canHandle(final PolicyInput policyInput) {
-        return policyInput.getClass().isAssignableFrom(Csar.class);
+        return policyInput instanceof Csar;
     }
 
     /**
@@ -71,7 +71,7 @@ public class PolicyDecoderFileInCsarToPolicy implements PolicyDecoder<Csar, Tosc
 
         try {
             Map<String, ToscaServiceTemplate> templates = new HashMap<>();
-            ReceptionUtil.unzip(csar.getCsarFilePath(), templates, decoderParameters.getPolicyFileName(),
+            ReceptionUtil.unzip(csar.getArchive(), templates, decoderParameters.getPolicyFileName(),
                 decoderParameters.getPolicyTypeFileName());
             policyList = new ArrayList<>(templates.values());
 
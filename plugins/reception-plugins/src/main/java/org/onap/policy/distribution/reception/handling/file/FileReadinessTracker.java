@@ -0,0 +1,222 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.ZipFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the files appearing in a watched directory until they are complete, so that a file is only handed on for
+ * processing once it has been fully written. A file is complete once its size and modification time have stopped
+ * changing for a quiescence period and it opens as a valid zip file. Files named as being still written, such as
+ * hidden files or files with a temporary suffix, are ignored, since writers following the atomic rename convention
+ * rename them to their final name once written. A file that doesn't become complete before a deadline is quarantined.
+ *
+ * <p>All the checks run on a single scheduler thread, so that no worker thread is held while a file is being written.
+ */
+class FileReadinessTracker implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileReadinessTracker.class);
+
+    private static final List<String> IN_PROGRESS_SUFFIXES = List.of(".tmp", ".part", ".partial", ".filepart");
+
+    private final Consumer<Path> readyConsumer;
+    private final Consumer<Path> rejectedConsumer;
+    private final long quiescenceMillis;
+    private final long deadlineMillis;
+    private final Path quarantinePath;
+    private final ScheduledExecutorService scheduler;
+
+    // The files being tracked, only accessed on the scheduler thread
+    private final Map<Path, TrackedFile> trackedFiles = new HashMap<>();
+
+    private static class TrackedFile {
+        private final long firstSeen;
+        private long lastChange;
+        private long size = -1;
+        private long lastModified = -1;
+
+        TrackedFile(final long now, final BasicFileAttributes attributes) {
+            firstSeen = now;
+            lastChange = now;
+            // seeded with the attributes the file has when tracked, so that an unchanged file is complete after a
+            // single quiescence period
+            if (attributes != null) {
+                size = attributes.size();
+                lastModified = attributes.lastModifiedTime().toMillis();
+            }
+        }
+    }
+
+    /**
+     * Create a tracker.
+     *
+     * @param readyConsumer the consumer the complete files are handed to, invoked on the scheduler thread
+     * @param rejectedConsumer the consumer the files that never became complete are handed to, invoked on the
+     *        scheduler thread
+     * @param quiescenceMillis the time a file must remain unchanged to be considered complete
+     * @param deadlineMillis the time after which a file that isn't complete is quarantined
+     * @param quarantinePath the directory quarantined files are moved to, null to leave them in place
+     */
+    FileReadinessTracker(final Consumer<Path> readyConsumer, final Consumer<Path> rejectedConsumer,
+            final long quiescenceMillis, final long deadlineMillis, final Path quarantinePath) {
+        this.readyConsumer = readyConsumer;
+        this.rejectedConsumer = rejectedConsumer;
+        this.quiescenceMillis = quiescenceMillis;
+        this.deadlineMillis = deadlineMillis;
+        this.quarantinePath = quarantinePath;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "file-readiness-tracker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Track a file that has been created or modified. A file already being tracked has its quiescence period
+     * restarted.
+     *
+     * @param file the file
+     */
+    void track(final Path file) {
+        if (isInProgress(file)) {
+            LOGGER.debug("Ignoring {}, its name marks it as being written", file);
+            return;
+        }
+        scheduler.execute(() -> {
+            final var now = System.currentTimeMillis();
+            final var trackedFile = trackedFiles.get(file);
+            if (trackedFile != null) {
+                trackedFile.lastChange = now;
+                return;
+            }
+            trackedFiles.put(file, new TrackedFile(now, readAttributes(file)));
+            scheduleCheck(file);
+        });
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void scheduleCheck(final Path file) {
+        scheduler.schedule(() -> check(file), quiescenceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void check(final Path file) {
+        final var trackedFile = trackedFiles.get(file);
+        final var now = System.currentTimeMillis();
+
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (final NoSuchFileException exp) {
+            LOGGER.debug("{} was removed before it was complete", file, exp);
+            trackedFiles.remove(file);
+            return;
+        } catch (final IOException exp) {
+            LOGGER.debug("Couldn't read the attributes of {}", file, exp);
+            recheckOrQuarantine(file, trackedFile, now);
+            return;
+        }
+
+        final var lastModified = attributes.lastModifiedTime().toMillis();
+        if (attributes.size() != trackedFile.size || lastModified != trackedFile.lastModified) {
+            trackedFile.size = attributes.size();
+            trackedFile.lastModified = lastModified;
+            trackedFile.lastChange = now;
+        }
+
+        if (now - trackedFile.lastChange >= quiescenceMillis && isValidZip(file)) {
+            trackedFiles.remove(file);
+            LOGGER.debug("{} is complete", file);
+            readyConsumer.accept(file);
+            return;
+        }
+
+        recheckOrQuarantine(file, trackedFile, now);
+    }
+
+    private void recheckOrQuarantine(final Path file, final TrackedFile trackedFile, final long now) {
+        if (now - trackedFile.firstSeen < deadlineMillis) {
+            scheduleCheck(file);
+            return;
+        }
+
+        trackedFiles.remove(file);
+        rejectedConsumer.accept(file);
+        if (quarantinePath == null) {
+            LOGGER.warn("{} didn't become a complete CSAR within {} ms, ignoring it", file, deadlineMillis);
+            return;
+        }
+        try {
+            Files.move(file, quarantinePath.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+            LOGGER.warn("{} didn't become a complete CSAR within {} ms, moved it to {}", file, deadlineMillis,
+                quarantinePath);
+        } catch (final IOException exp) {
+            LOGGER.warn("{} didn't become a complete CSAR within {} ms and couldn't be quarantined", file,
+                deadlineMillis, exp);
+        }
+    }
+
+    private BasicFileAttributes readAttributes(final Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (final IOException exp) {
+            LOGGER.debug("Couldn't read the attributes of {}", file, exp);
+            return null;
+        }
+    }
+
+    private boolean isValidZip(final Path file) {
+        try (var zipFile = new ZipFile(file.toFile())) {
+            return true;
+        } catch (final IOException exp) {
+            LOGGER.debug("{} is not a complete zip file yet", file, exp);
+            return false;
+        }
+    }
+
+    private boolean isInProgress(final Path file) {
+        final var fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return fileName.startsWith(".") || IN_PROGRESS_SUFFIXES.stream().anyMatch(fileName::endsWith);
+    }
+}
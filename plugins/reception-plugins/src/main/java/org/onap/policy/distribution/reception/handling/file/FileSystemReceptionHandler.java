@@ -1,7 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2018 Intel Corp. All rights reserved.
- *  Copyright (C) 2019 Nordix Foundation.
+ *  Copyright (C) 2019, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2019, 2021 AT&T Intellectual Property. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -23,23 +23,33 @@
 package org.onap.policy.distribution.reception.handling.file;
 
 import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.zip.ZipFile;
+import java.util.stream.Stream;
 import org.onap.policy.common.parameters.ParameterService;
 import org.onap.policy.distribution.model.Csar;
-import org.onap.policy.distribution.reception.decoding.PolicyDecodingException;
 import org.onap.policy.distribution.reception.handling.AbstractReceptionHandler;
+import org.onap.policy.distribution.reception.handling.PolicyForwardingResult;
+import org.onap.policy.distribution.reception.handling.file.FileSystemReceptionHandlerConfigurationParameterGroup.DiscoveryMode;
+import org.onap.policy.distribution.reception.handling.file.FileSystemReceptionHandlerConfigurationParameterGroup.QueueFullPolicy;
+import org.onap.policy.distribution.reception.handling.file.ProcessedFileJournal.Outcome;
 import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +61,25 @@ public class FileSystemReceptionHandler extends AbstractReceptionHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemReceptionHandler.class);
     private boolean running = false;
+    private FileSystemReceptionHandlerConfigurationParameterGroup handlerParameters =
+            new FileSystemReceptionHandlerConfigurationParameterGroup();
+    private ProcessedFileJournal journal;
+    private volatile List<WatchedDirectory> watchedDirectories = List.of();
+
+    // A directory of the watch path, with the work queue of the files discovered in it and, if it is watched
+    // recursively, in its subdirectories
+    private record WatchedDirectory(Path path, boolean recursive, FileWorkQueue workQueue) {
+    }
+
+    // The components the files discovered in the watched directories go through
+    private record FilePipeline(List<WatchedDirectory> directories, WatchDirectoryScanner scanner,
+            FileReadinessTracker readinessTracker) {
+
+        void close() {
+            readinessTracker.close();
+            directories.forEach(directory -> directory.workQueue().shutdown());
+        }
+    }
 
     /**
      * {@inheritDoc}.
@@ -59,8 +88,7 @@ public class FileSystemReceptionHandler extends AbstractReceptionHandler {
     protected void initializeReception(final String parameterGroupName) {
         LOGGER.debug("FileSystemReceptionHandler init...");
         try {
-            final FileSystemReceptionHandlerConfigurationParameterGroup handlerParameters =
-                    ParameterService.get(parameterGroupName);
+            handlerParameters = ParameterService.get(parameterGroupName);
             final var fileClientHandler =
                     new FileClientHandler(this, handlerParameters.getWatchPath(), handlerParameters.getMaxThread());
             final var fileWatcherThread = new Thread(fileClientHandler);
@@ -76,6 +104,7 @@ public class FileSystemReceptionHandler extends AbstractReceptionHandler {
     @Override
     public void destroy() {
         running = false;
+        destroyPlugins();
     }
 
     /**
@@ -88,99 +117,333 @@ public class FileSystemReceptionHandler extends AbstractReceptionHandler {
     }
 
     /**
-     * Initialize the file watcher thread.
+     * Initialize the file watcher thread. Besides the given path, the additional watch directories configured are
+     * watched, the files discovered in each directory being processed by a pool of workers of its own.
      *
      * @param watchPath Path to watch
+     * @param maxThread the number of workers processing the files discovered in the path
      */
     public void initFileWatcher(final String watchPath, final int maxThread) throws IOException {
-        try (final var watcher = FileSystems.getDefault().newWatchService()) {
-            final var dir = Paths.get(watchPath);
-            dir.register(watcher, ENTRY_CREATE);
-            LOGGER.debug("Watch Service registered for dir: {}", dir.getFileName());
-            startWatchService(watcher, dir, maxThread);
+        FilePipeline pipeline = null;
+        try {
+            pipeline = createFilePipeline(watchPath, maxThread);
+            if (handlerParameters.getDiscoveryMode() == DiscoveryMode.POLLING) {
+                startPollingService(pipeline);
+            } else {
+                try (final var watcher = FileSystems.getDefault().newWatchService()) {
+                    startWatchService(watcher, pipeline);
+                }
+            }
         } catch (final Exception ex) {
             LOGGER.error("FileWatcher initialization failed", ex);
             Thread.currentThread().interrupt();
+        } finally {
+            if (pipeline != null) {
+                pipeline.close();
+            }
         }
     }
 
     /**
-     * Method to keep watching the given path for any new file created.
+     * Method to keep watching the watched directories for any new file created, subdirectories created at runtime
+     * being registered as well in the directories watched recursively. A new file is only read once it is complete,
+     * the files being written are tracked on a single thread rather than holding the threads of the pools. Complete
+     * files wait for a worker of their directory in a bounded queue, and are held as pending once the queue is full.
+     * A directory is scanned for the files missed whenever the watch service overflows, and optionally for its
+     * backlog at startup. The files recorded in the processed file journal are skipped by the scans unless they have
+     * changed since.
      *
      * @param watcher the watcher
-     * @param dir the watch directory
-     * @param maxThread the max thread number
+     * @param pipeline the components the discovered files go through
+     * @throws IOException if a watched directory can't be registered
      * @throws InterruptedException if it occurs
      */
-    protected void startWatchService(final WatchService watcher, final Path dir, final int maxThread)
-            throws InterruptedException {
-        WatchKey key;
-        final ExecutorService pool = Executors.newFixedThreadPool(maxThread);
+    private void startWatchService(final WatchService watcher, final FilePipeline pipeline)
+            throws IOException, InterruptedException {
+        // the directory each key was registered for
+        final Map<WatchKey, Path> keys = new HashMap<>();
+        final List<Path> registeredDirs = new ArrayList<>();
+        for (final var directory : pipeline.directories()) {
+            registeredDirs.addAll(register(watcher, keys, directory.path(), directory.recursive()));
+        }
+        LOGGER.debug("Watch Service registered for {} directories", registeredDirs.size());
+        discoverBacklog(pipeline, registeredDirs);
 
-        try {
-            running = true;
-            while (running) {
-                key = watcher.take();
-                processFileEvents(dir, key, pool);
-                final boolean valid = key.reset();
-                if (!valid) {
+        running = true;
+        while (running) {
+            awaitWorkQueueCapacity(pipeline);
+            final var key = watcher.take();
+            final var dir = keys.get(key);
+            if (dir != null && processFileEvents(dir, key, pipeline, watcher, keys)) {
+                LOGGER.warn("Watch service overflowed, scanning {} for the files missed", dir);
+                pipeline.scanner().scan(dir).forEach(pipeline.readinessTracker()::track);
+                if (findDirectory(pipeline, dir).recursive()) {
+                    register(watcher, keys, dir, true).forEach(newDir -> discover(pipeline, newDir));
+                }
+            }
+            if (!key.reset()) {
+                keys.remove(key);
+                LOGGER.debug("Watch key of {} no longer valid", dir);
+                if (keys.isEmpty()) {
                     LOGGER.error("Watch key no longer valid!");
                     break;
                 }
             }
-        } finally {
-            pool.shutdown();
         }
     }
 
-    private void processFileEvents(final Path dir, final WatchKey key, final ExecutorService pool) {
+    /**
+     * Method to keep polling the watched directories for any new file created, for the file systems on which the
+     * watch service doesn't report the files created reliably. Each poll lists the directories and compares the size
+     * and modification time of their files with those of the previous poll, the new and changed files being handed to
+     * the same pipeline as the files reported by the watch service.
+     *
+     * @param pipeline the components the discovered files go through
+     * @throws InterruptedException if it occurs
+     */
+    private void startPollingService(final FilePipeline pipeline) throws InterruptedException {
+        discoverBacklog(pipeline, listDirectories(pipeline));
+
+        running = true;
+        while (running) {
+            awaitWorkQueueCapacity(pipeline);
+            for (final var dir : listDirectories(pipeline)) {
+                pipeline.scanner().poll(dir).forEach(pipeline.readinessTracker()::track);
+            }
+            Thread.sleep(handlerParameters.getScanIntervalMillis());
+        }
+    }
+
+    private FilePipeline createFilePipeline(final String watchPath, final int maxThread) {
+        final List<WatchedDirectory> directories = new ArrayList<>();
+        directories.add(createWatchedDirectory(getReceptionHandlerName(), watchPath, maxThread,
+            handlerParameters.isRecursive()));
+        for (final var directory : handlerParameters.getWatchDirectories()) {
+            directories.add(createWatchedDirectory(getReceptionHandlerName() + ":" + directory.getPath(),
+                directory.getPath(), directory.getMaxThread() > 0 ? directory.getMaxThread() : maxThread,
+                directory.isRecursive()));
+        }
+        watchedDirectories = List.copyOf(directories);
+
+        final var scanner = new WatchDirectoryScanner(handlerParameters.getBacklogScanOrder());
+        if (handlerParameters.getJournalFile() != null) {
+            journal = new ProcessedFileJournal(Paths.get(handlerParameters.getJournalFile()));
+            journal.getEntries().forEach(entry ->
+                scanner.recordHandled(Paths.get(entry.path()), entry.size(), entry.lastModified()));
+        }
+
+        return new FilePipeline(directories, scanner, new FileReadinessTracker(file -> {
+            scanner.recordHandled(file);
+            findDirectory(directories, file).workQueue().submit(file);
+        }, file -> {
+            scanner.recordHandled(file);
+            if (journal != null) {
+                journal.record(file, Outcome.REJECTED);
+            }
+            DistributionStatisticsManager.updateTotalDistributionCount();
+            DistributionStatisticsManager.updateDistributionFailureCount();
+        }, handlerParameters.getFileQuiescenceMillis(),
+            TimeUnit.SECONDS.toMillis(handlerParameters.getFileReadyTimeoutSeconds()),
+            handlerParameters.getQuarantinePath() != null ? Paths.get(handlerParameters.getQuarantinePath()) : null));
+    }
+
+    private WatchedDirectory createWatchedDirectory(final String name, final String path, final int maxThread,
+            final boolean recursive) {
+        return new WatchedDirectory(Paths.get(path).toAbsolutePath(), recursive, new FileWorkQueue(name, maxThread,
+            handlerParameters.getMaxQueueSize(), handlerParameters.getMaxInFlightBytes(), this::processFile));
+    }
+
+    // The watched directory a file was discovered in, the innermost one if watched directories are nested
+    private static WatchedDirectory findDirectory(final List<WatchedDirectory> directories, final Path file) {
+        WatchedDirectory found = directories.get(0);
+        var foundDepth = -1;
+        for (final var directory : directories) {
+            if (file.startsWith(directory.path()) && directory.path().getNameCount() > foundDepth) {
+                found = directory;
+                foundDepth = directory.path().getNameCount();
+            }
+        }
+        return found;
+    }
+
+    private static WatchedDirectory findDirectory(final FilePipeline pipeline, final Path file) {
+        return findDirectory(pipeline.directories(), file);
+    }
+
+    // Registers a directory, and its subdirectories if recursive, returning the directories not registered before
+    private List<Path> register(final WatchService watcher, final Map<WatchKey, Path> keys, final Path dir,
+            final boolean recursive) throws IOException {
+        final List<Path> registeredDirs = new ArrayList<>();
+        try (var dirs = recursive ? Files.walk(dir).filter(Files::isDirectory) : Stream.of(dir)) {
+            for (final var subDir : (Iterable<Path>) dirs::iterator) {
+                if (keys.put(subDir.register(watcher, ENTRY_CREATE, ENTRY_MODIFY), subDir) == null) {
+                    registeredDirs.add(subDir);
+                }
+            }
+        } catch (final UncheckedIOException exp) {
+            // a subdirectory was removed while being walked, the directories registered so far are kept
+            LOGGER.debug("Couldn't register all the subdirectories of {}", dir, exp);
+        }
+        return registeredDirs;
+    }
+
+    private List<Path> listDirectories(final FilePipeline pipeline) {
+        final List<Path> dirs = new ArrayList<>();
+        for (final var directory : pipeline.directories()) {
+            if (!directory.recursive()) {
+                dirs.add(directory.path());
+                continue;
+            }
+            try (var subDirs = Files.walk(directory.path())) {
+                subDirs.filter(Files::isDirectory).forEach(dirs::add);
+            } catch (final IOException | UncheckedIOException exp) {
+                LOGGER.warn("Couldn't list the subdirectories of {}", directory.path(), exp);
+            }
+        }
+        return dirs;
+    }
+
+    // At startup, the files already present are either processed or ignored unless they change
+    private void discoverBacklog(final FilePipeline pipeline, final List<Path> dirs) {
+        for (final var dir : dirs) {
+            if (handlerParameters.isScanBacklogOnStartup()) {
+                discover(pipeline, dir);
+            } else {
+                pipeline.scanner().seed(dir);
+            }
+        }
+    }
+
+    private void discover(final FilePipeline pipeline, final Path dir) {
+        pipeline.scanner().scan(dir).forEach(pipeline.readinessTracker()::track);
+    }
+
+    private void awaitWorkQueueCapacity(final FilePipeline pipeline) throws InterruptedException {
+        if (handlerParameters.getQueueFullPolicy() != QueueFullPolicy.PAUSE_WATCHER) {
+            return;
+        }
+        for (final var directory : pipeline.directories()) {
+            if (directory.workQueue().isSaturated()) {
+                LOGGER.debug("Work queue of {} full, pausing the discovery of new files", directory.path());
+                directory.workQueue().awaitCapacity();
+            }
+        }
+    }
+
+    // Returns true if events were lost, in which case the directory must be scanned for the files missed
+    private boolean processFileEvents(final Path dir, final WatchKey key, final FilePipeline pipeline,
+            final WatchService watcher, final Map<WatchKey, Path> keys) {
+        var overflowed = false;
         for (final WatchEvent<?> event : key.pollEvents()) {
-            @SuppressWarnings("unchecked")
-            final WatchEvent<Path> ev = (WatchEvent<Path>) event;
-            final Path fileName = ev.context();
-            pool.execute(() -> {
-                LOGGER.debug("new CSAR found: {}", fileName);
-                DistributionStatisticsManager.updateTotalDistributionCount();
-                final String fullFilePath = dir.toString() + File.separator + fileName.toString();
-                try {
-                    waitForFileToBeReady(fullFilePath);
-                    createPolicyInputAndCallHandler(fullFilePath);
-                    LOGGER.debug("CSAR complete: {}", fileName);
-                } catch (final InterruptedException e) {
-                    LOGGER.error("waitForFileToBeReady interrupted", e);
-                    Thread.currentThread().interrupt();
+            if (event.kind() == OVERFLOW) {
+                overflowed = true;
+            } else if (event.kind() == ENTRY_CREATE || event.kind() == ENTRY_MODIFY) {
+                @SuppressWarnings("unchecked")
+                final WatchEvent<Path> ev = (WatchEvent<Path>) event;
+                final var file = dir.resolve(ev.context());
+                if (Files.isDirectory(file)) {
+                    if (event.kind() == ENTRY_CREATE && findDirectory(pipeline, dir).recursive()) {
+                        registerCreatedDirectory(watcher, keys, pipeline, file);
+                    }
+                } else if (event.kind() == ENTRY_CREATE || !pipeline.scanner().isHandled(file)) {
+                    // modifications are only watched to follow the files being written, not the files already handled
+                    pipeline.readinessTracker().track(file);
+                } else {
+                    LOGGER.debug("Ignoring the modification of {}, already handled unchanged", file);
                 }
-            });
+            }
         }
+        return overflowed;
+    }
+
+    private void registerCreatedDirectory(final WatchService watcher, final Map<WatchKey, Path> keys,
+            final FilePipeline pipeline, final Path dir) {
+        try {
+            // the files created before the directory was registered are found by scanning it
+            register(watcher, keys, dir, true).forEach(newDir -> discover(pipeline, newDir));
+        } catch (final IOException exp) {
+            LOGGER.warn("Couldn't register the directory {}", dir, exp);
+        }
+    }
+
+    private CompletableFuture<Void> processFile(final Path file) {
+        LOGGER.debug("new CSAR found: {}", file.getFileName());
+        DistributionStatisticsManager.updateTotalDistributionCount();
+        return createPolicyInputAndCallHandler(file.toString());
     }
 
     /**
-     * Method to create policy input & call policy handlers.
+     * Method to create policy input & call policy handlers. The input is handed to the reception pipeline of this
+     * handler, so the calling thread does not wait for the policies to be decoded and forwarded if a staged pipeline
+     * is configured.
      *
      * @param fileName the filename
+     * @return a future completed once the policies are decoded and forwarded and the file is completed
      */
-    protected void createPolicyInputAndCallHandler(final String fileName) {
+    protected CompletableFuture<Void> createPolicyInputAndCallHandler(final String fileName) {
+        final var csarObject = new Csar(fileName);
+        DistributionStatisticsManager.updateTotalDownloadCount();
+        return inputReceivedAsync(csarObject).handle((results, exp) -> {
+            if (exp == null) {
+                DistributionStatisticsManager.updateDownloadSuccessCount();
+                DistributionStatisticsManager.updateDistributionSuccessCount();
+            } else {
+                DistributionStatisticsManager.updateDownloadFailureCount();
+                DistributionStatisticsManager.updateDistributionFailureCount();
+                LOGGER.error("Policy creation failed", exp);
+            }
+            completeFile(Paths.get(fileName).toAbsolutePath(), isSuccessful(results, exp));
+            LOGGER.debug("CSAR complete: {}", fileName);
+            return null;
+        });
+    }
+
+    private boolean isSuccessful(final List<PolicyForwardingResult> results, final Throwable exp) {
+        return exp == null && (results == null || results.stream().allMatch(PolicyForwardingResult::isSuccessful));
+    }
+
+    // Record the outcome of a processed file in the journal and move it out of the watch path if configured to
+    private void completeFile(final Path file, final boolean successful) {
+        if (journal != null) {
+            journal.record(file, successful ? Outcome.SUCCESS : Outcome.FAILURE);
+        }
+
+        final var targetPath = successful ? handlerParameters.getArchivePath() : handlerParameters.getFailedPath();
+        if (targetPath == null) {
+            return;
+        }
+
+        // the file keeps its path relative to its watched directory, so that files of the same name don't collide
+        final var target = Paths.get(targetPath).resolve(relativePath(file));
         try {
-            final var csarObject = new Csar(fileName);
-            DistributionStatisticsManager.updateTotalDownloadCount();
-            inputReceived(csarObject);
-            DistributionStatisticsManager.updateDownloadSuccessCount();
-            DistributionStatisticsManager.updateDistributionSuccessCount();
-        } catch (final PolicyDecodingException ex) {
-            DistributionStatisticsManager.updateDownloadFailureCount();
-            DistributionStatisticsManager.updateDistributionFailureCount();
-            LOGGER.error("Policy creation failed", ex);
+            Files.createDirectories(target.getParent());
+            LOGGER.debug("Moved {} to {}", file, move(file, target));
+        } catch (final IOException exp) {
+            LOGGER.warn("Couldn't move {} to {}", file, targetPath, exp);
+        }
+    }
+
+    private Path relativePath(final Path file) {
+        final var directories = watchedDirectories;
+        if (!directories.isEmpty()) {
+            final var directory = findDirectory(directories, file);
+            if (file.startsWith(directory.path())) {
+                return directory.path().relativize(file);
+            }
         }
+        return file.getFileName();
     }
 
-    private void waitForFileToBeReady(final String fullFilePath) throws InterruptedException {
-        var flag = true;
-        while (flag) {
-            TimeUnit.MILLISECONDS.sleep(100);
-            try (var zipFile = new ZipFile(fullFilePath)) {
-                flag = false;
-            } catch (final IOException exp) {
-                LOGGER.error("file is not ready for reading, wait for sometime and try again", exp);
+    // Moves a file without replacing an existing one, a numeric suffix being added to the name of the target if taken.
+    // The move isn't atomic, as an atomic move replaces an existing target on most platforms, but it is a rename on a
+    // single file system.
+    private static Path move(final Path file, final Path target) throws IOException {
+        var candidate = target;
+        for (var suffix = 1;; suffix++) {
+            try {
+                return Files.move(file, candidate);
+            } catch (final FileAlreadyExistsException exp) {
+                candidate = target.resolveSibling(target.getFileName() + "." + suffix);
             }
         }
     }
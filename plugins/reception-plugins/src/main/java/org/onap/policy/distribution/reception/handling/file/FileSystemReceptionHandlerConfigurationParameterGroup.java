@@ -1,7 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2018 Intel. All rights reserved.
- *  Modifications Copyright (C) 2019 Nordix Foundation.
+ *  Modifications Copyright (C) 2019, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -23,6 +23,10 @@
 package org.onap.policy.distribution.reception.handling.file;
 
 import java.io.File;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 import org.onap.policy.common.parameters.BeanValidationResult;
@@ -30,8 +34,10 @@ import org.onap.policy.common.parameters.BeanValidator;
 import org.onap.policy.common.parameters.ObjectValidationResult;
 import org.onap.policy.common.parameters.ValidationResult;
 import org.onap.policy.common.parameters.ValidationStatus;
+import org.onap.policy.common.parameters.annotations.Min;
 import org.onap.policy.common.parameters.annotations.NotBlank;
 import org.onap.policy.common.parameters.annotations.NotNull;
+import org.onap.policy.common.parameters.annotations.Valid;
 import org.onap.policy.distribution.reception.parameters.ReceptionHandlerConfigurationParameterGroup;
 
 /**
@@ -40,13 +46,96 @@ import org.onap.policy.distribution.reception.parameters.ReceptionHandlerConfigu
  */
 @Getter
 @Setter
-@NotNull
-@NotBlank
 public class FileSystemReceptionHandlerConfigurationParameterGroup extends ReceptionHandlerConfigurationParameterGroup {
 
+    private static final long DEFAULT_FILE_QUIESCENCE_MILLIS = 1000;
+    private static final long DEFAULT_FILE_READY_TIMEOUT_SECONDS = 600;
+    private static final int DEFAULT_MAX_QUEUE_SIZE = 100;
+    private static final long DEFAULT_SCAN_INTERVAL_MILLIS = 5000;
+
+    /**
+     * How the handler discovers the files created in the watch path.
+     */
+    public enum DiscoveryMode {
+        // events of the file system watch service
+        WATCH_SERVICE,
+        // periodic scans of the watch path, for file systems such as NFS mounts on which watch events aren't reliable
+        POLLING
+    }
+
+    /**
+     * What the handler does when the work queue is full.
+     */
+    public enum QueueFullPolicy {
+        // hold the further complete files in a pending index of their paths until the queue drains
+        SPILL,
+        // also stop taking file events from the watch service until the queue drains
+        PAUSE_WATCHER
+    }
+
+    /**
+     * The order the files found by a scan of the watch path are processed in.
+     */
+    public enum BacklogScanOrder {
+        // oldest modification time first
+        MTIME,
+        NAME
+    }
+
+    @NotNull
+    @NotBlank
     private String watchPath;
     private int maxThread;
 
+    // Also watch the subdirectories of the watch path, including those created at runtime
+    private boolean recursive;
+
+    // Directories watched in addition to the watch path, each with its own workers
+    private List<@NotNull @Valid WatchDirectoryParameters> watchDirectories = new ArrayList<>();
+
+    private DiscoveryMode discoveryMode = DiscoveryMode.WATCH_SERVICE;
+
+    // Time between the scans of the watch path in polling discovery mode
+    @Min(1)
+    private long scanIntervalMillis = DEFAULT_SCAN_INTERVAL_MILLIS;
+
+    // Time a new file must remain unchanged before it is read
+    @Min(1)
+    private long fileQuiescenceMillis = DEFAULT_FILE_QUIESCENCE_MILLIS;
+
+    // Time after which a new file that isn't a complete CSAR is quarantined
+    @Min(1)
+    private long fileReadyTimeoutSeconds = DEFAULT_FILE_READY_TIMEOUT_SECONDS;
+
+    // Directory the files that never become complete CSARs are moved to, they are left in place if not set
+    private String quarantinePath;
+
+    // Maximum number of complete files waiting for a worker
+    @Min(1)
+    private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+
+    // Maximum total size of the files admitted for processing, not limited if not set
+    @Min(0)
+    private long maxInFlightBytes;
+
+    // Applies to the work queue of each watched directory, the discovery of new files in all the directories is
+    // paused while any of their queues is full if the watcher is paused
+    private QueueFullPolicy queueFullPolicy = QueueFullPolicy.SPILL;
+
+    // Process the files already in the watch path at startup, they are otherwise only processed if they change
+    private boolean scanBacklogOnStartup;
+
+    private BacklogScanOrder backlogScanOrder = BacklogScanOrder.MTIME;
+
+    // File the processed files are recorded in so that a restart skips them, no journal is kept if not set
+    private String journalFile;
+
+    // Directory the successfully processed files are moved to, they are left in place if not set
+    private String archivePath;
+
+    // Directory the files that failed to be processed are moved to, they are left in place if not set
+    private String failedPath;
+
     public FileSystemReceptionHandlerConfigurationParameterGroup() {
         super(FileSystemReceptionHandlerConfigurationParameterGroup.class.getSimpleName());
     }
@@ -58,9 +147,63 @@ public class FileSystemReceptionHandlerConfigurationParameterGroup extends Recep
     public BeanValidationResult validate() {
         final BeanValidationResult validationResult = new BeanValidator().validateTop(getClass().getSimpleName(), this);
         validationResult.addResult(validatePathElement(watchPath, "watchPath"));
+        if (watchDirectories != null) {
+            watchDirectories.stream().filter(directory -> directory != null && directory.getPath() != null)
+                .forEach(directory -> validationResult.addResult(
+                    validatePathElement(directory.getPath(), "watchDirectories")));
+        }
+        if (quarantinePath != null) {
+            validationResult.addResult(validatePathElement(quarantinePath, "quarantinePath"));
+            validationResult.addResult(validateNotWatched(quarantinePath, "quarantinePath"));
+        }
+        if (archivePath != null) {
+            validationResult.addResult(validatePathElement(archivePath, "archivePath"));
+            validationResult.addResult(validateNotWatched(archivePath, "archivePath"));
+        }
+        if (failedPath != null) {
+            validationResult.addResult(validatePathElement(failedPath, "failedPath"));
+            validationResult.addResult(validateNotWatched(failedPath, "failedPath"));
+        }
         return validationResult;
     }
 
+    /**
+     * Validate that a directory the files are moved to isn't watched, the files moved to it would otherwise be
+     * discovered and processed again.
+     *
+     * @param element the directory to validate
+     * @param elementName the element name for error message
+     */
+    private ValidationResult validateNotWatched(final String element, final String elementName) {
+        final var watchedDirectories = new ArrayList<WatchDirectoryParameters>();
+        final var mainDirectory = new WatchDirectoryParameters();
+        mainDirectory.setPath(watchPath);
+        mainDirectory.setRecursive(recursive);
+        watchedDirectories.add(mainDirectory);
+        if (watchDirectories != null) {
+            watchDirectories.stream().filter(directory -> directory != null && directory.getPath() != null)
+                .forEach(watchedDirectories::add);
+        }
+
+        try {
+            final var target = Path.of(element).toAbsolutePath().normalize();
+            for (final var directory : watchedDirectories) {
+                if (directory.getPath() == null) {
+                    continue;
+                }
+                final var watched = Path.of(directory.getPath()).toAbsolutePath().normalize();
+                if (target.equals(watched) || directory.isRecursive() && target.startsWith(watched)) {
+                    return new ObjectValidationResult(elementName, element, ValidationStatus.INVALID,
+                        "is watched for files, as part of " + directory.getPath());
+                }
+            }
+        } catch (final InvalidPathException exp) {
+            // an invalid path is already reported as not being a valid directory
+            return null;
+        }
+        return null;
+    }
+
 
     /**
      * Validate the string element.
@@ -0,0 +1,205 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of the complete files waiting to be processed by the workers of a file system reception handler. A
+ * file is admitted to the workers while the queue has room and the total size of the files admitted and not processed
+ * yet is within a limit, otherwise only its path is held in a pending index until earlier files are processed. A file
+ * stays admitted until its processing completes, even if it is handed over to another thread by the processor. The
+ * queue depth, the size of the files in flight and the time files wait for a worker are exposed as statistics.
+ */
+class FileWorkQueue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileWorkQueue.class);
+
+    private record QueuedFile(Path file, long size, long readyTime) {
+    }
+
+    private final String receptionHandlerName;
+    private final int maxAdmitted;
+    private final long maxInFlightBytes;
+    private final Function<Path, CompletionStage<?>> processor;
+    private final ThreadPoolExecutor executor;
+
+    // The files that couldn't be admitted yet, in the order they became complete
+    private final Deque<QueuedFile> pendingFiles = new ArrayDeque<>();
+    private int admittedCount;
+    private long inFlightBytes;
+
+    /**
+     * Create a work queue.
+     *
+     * @param receptionHandlerName the name of the reception handler, used to label the statistics
+     * @param threadCount the number of worker threads
+     * @param maxQueueSize the maximum number of admitted files waiting for a worker
+     * @param maxInFlightBytes the maximum total size of the admitted files, 0 for no limit
+     * @param processor the processor of the files, invoked on the worker threads, returning a stage completed once the
+     *        file is processed or null if the file is processed when the processor returns
+     */
+    FileWorkQueue(final String receptionHandlerName, final int threadCount, final int maxQueueSize,
+            final long maxInFlightBytes, final Function<Path, CompletionStage<?>> processor) {
+        this.receptionHandlerName = receptionHandlerName;
+        this.maxAdmitted = threadCount + maxQueueSize;
+        this.maxInFlightBytes = maxInFlightBytes;
+        this.processor = processor;
+
+        // the admission limits keep the queue within its bounds, the slack covers the workers finishing a file after
+        // the next file is admitted
+        final var threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threadCount, threadCount, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(maxAdmitted), runnable -> {
+                final var thread = new Thread(runnable, "file-reception-worker-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * Submit a complete file, it is admitted to the workers if the limits allow, otherwise it is held as pending.
+     *
+     * @param file the file
+     */
+    synchronized void submit(final Path file) {
+        final var queuedFile = new QueuedFile(file, getSize(file), System.nanoTime());
+        if (pendingFiles.isEmpty() && canAdmit(queuedFile)) {
+            admit(queuedFile);
+        } else {
+            LOGGER.debug("Work queue full, holding {} as pending", file);
+            pendingFiles.add(queuedFile);
+        }
+        updateQueueStatistics();
+    }
+
+    /**
+     * Check if files are being held as pending because the limits are reached.
+     *
+     * @return true if the queue is saturated
+     */
+    synchronized boolean isSaturated() {
+        return !pendingFiles.isEmpty();
+    }
+
+    /**
+     * Wait until no file is held as pending.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    synchronized void awaitCapacity() throws InterruptedException {
+        while (!pendingFiles.isEmpty()) {
+            wait();
+        }
+    }
+
+    /**
+     * Get the number of files waiting for a worker, admitted or pending.
+     *
+     * @return the number of files waiting
+     */
+    synchronized int getQueueDepth() {
+        return executor.getQueue().size() + pendingFiles.size();
+    }
+
+    /**
+     * Stop the workers once the admitted files are processed, the pending files are dropped.
+     */
+    synchronized void shutdown() {
+        if (!pendingFiles.isEmpty()) {
+            LOGGER.warn("Dropping {} pending files on shutdown", pendingFiles.size());
+            pendingFiles.clear();
+            notifyAll();
+        }
+        executor.shutdown();
+    }
+
+    private boolean canAdmit(final QueuedFile queuedFile) {
+        if (admittedCount >= maxAdmitted) {
+            return false;
+        }
+        // a file larger than the limit is still admitted on its own, so that it is processed eventually
+        return maxInFlightBytes <= 0 || admittedCount == 0 || inFlightBytes + queuedFile.size() <= maxInFlightBytes;
+    }
+
+    private void admit(final QueuedFile queuedFile) {
+        admittedCount++;
+        inFlightBytes += queuedFile.size();
+        executor.execute(() -> process(queuedFile));
+    }
+
+    private void process(final QueuedFile queuedFile) {
+        DistributionStatisticsManager.observeFileQueueWaitDuration(receptionHandlerName,
+            System.nanoTime() - queuedFile.readyTime());
+        updateQueueStatistics();
+        CompletionStage<?> processing = null;
+        try {
+            processing = processor.apply(queuedFile.file());
+        } catch (final RuntimeException exp) {
+            LOGGER.error("Processing of {} failed", queuedFile.file(), exp);
+        }
+        if (processing == null) {
+            completed(queuedFile);
+        } else {
+            // the file stays in flight until the reception pipeline has decoded and forwarded it
+            processing.whenComplete((result, exp) -> completed(queuedFile));
+        }
+    }
+
+    private synchronized void completed(final QueuedFile queuedFile) {
+        admittedCount--;
+        inFlightBytes -= queuedFile.size();
+        while (!pendingFiles.isEmpty() && canAdmit(pendingFiles.peek()) && !executor.isShutdown()) {
+            admit(pendingFiles.poll());
+        }
+        if (pendingFiles.isEmpty()) {
+            notifyAll();
+        }
+        updateQueueStatistics();
+    }
+
+    private synchronized void updateQueueStatistics() {
+        DistributionStatisticsManager.setFileQueueDepth(receptionHandlerName, getQueueDepth());
+        DistributionStatisticsManager.setFileInFlightBytes(receptionHandlerName, inFlightBytes);
+    }
+
+    private long getSize(final Path file) {
+        try {
+            return Files.size(file);
+        } catch (final IOException exp) {
+            LOGGER.debug("Couldn't read the size of {}", file, exp);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.file;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.onap.policy.distribution.reception.handling.ContentDigest;
+import org.onap.policy.distribution.reception.handling.JournalFiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only journal of the files processed by a file system reception handler, recording for each file its path,
+ * size, modification time, SHA-256 hash and the outcome of its processing. The journal lets a restarted handler tell
+ * the files it already processed from new files without processing them again. It is compacted when loaded and whenever
+ * the entries appended since the last compaction outnumber the entries it kept, keeping the latest entry of each file
+ * that is still present, so that neither the journal nor its entries grow with the files moved away.
+ */
+class ProcessedFileJournal {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessedFileJournal.class);
+
+    private static final String SEPARATOR = "\t";
+    private static final int FIELD_COUNT = 5;
+    private static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    /**
+     * The outcome of the processing of a file.
+     */
+    enum Outcome {
+        // the policies of the file were forwarded by all the forwarders
+        SUCCESS,
+        // the file couldn't be decoded or forwarded
+        FAILURE,
+        // the file never became a complete CSAR
+        REJECTED
+    }
+
+    /**
+     * An entry of the journal.
+     *
+     * @param path the path of the file
+     * @param size the size of the file
+     * @param lastModified the modification time of the file in milliseconds
+     * @param hash the hex encoded SHA-256 hash of the file, empty if it couldn't be computed
+     * @param outcome the outcome of the processing of the file
+     */
+    record Entry(String path, long size, long lastModified, String hash, Outcome outcome) {
+    }
+
+    private final Path journalFile;
+    private final int compactionThreshold;
+
+    // The latest entry of each file, in the order the files were processed
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private int appendedSinceCompaction;
+    private int keptOnCompaction;
+
+    /**
+     * Create the journal, loading the entries already in the journal file.
+     *
+     * @param journalFile the journal file
+     */
+    ProcessedFileJournal(final Path journalFile) {
+        this(journalFile, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    ProcessedFileJournal(final Path journalFile, final int compactionThreshold) {
+        this.journalFile = journalFile;
+        this.compactionThreshold = compactionThreshold;
+        load();
+    }
+
+    /**
+     * Get the latest entry of each file in the journal.
+     *
+     * @return the entries
+     */
+    synchronized Collection<Entry> getEntries() {
+        return Collections.unmodifiableCollection(new ArrayList<>(entries.values()));
+    }
+
+    /**
+     * Record the processing of a file, which must still be present.
+     *
+     * @param file the file
+     * @param outcome the outcome of the processing of the file
+     * @return the entry recorded, or null if the file couldn't be read
+     */
+    Entry record(final Path file, final Outcome outcome) {
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (final IOException exp) {
+            LOGGER.warn("Couldn't record the processing of {} in the journal", file, exp);
+            return null;
+        }
+
+        final var entry = new Entry(file.toString(), attributes.size(),
+            attributes.lastModifiedTime().toMillis(), hash(file), outcome);
+        synchronized (this) {
+            entries.remove(entry.path());
+            entries.put(entry.path(), entry);
+            if (++appendedSinceCompaction > Math.max(compactionThreshold, keptOnCompaction)) {
+                removeMissingFiles();
+                compact();
+                return entry;
+            }
+            try {
+                Files.writeString(journalFile, format(entry), StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+            } catch (final IOException exp) {
+                LOGGER.warn("Couldn't append to the journal {}", journalFile, exp);
+            }
+        }
+        return entry;
+    }
+
+    private void load() {
+        if (!Files.exists(journalFile)) {
+            return;
+        }
+
+        var lineCount = 0;
+        try (var lines = Files.lines(journalFile, StandardCharsets.UTF_8)) {
+            for (final var line : (Iterable<String>) lines::iterator) {
+                lineCount++;
+                final var entry = parse(line);
+                if (entry != null) {
+                    entries.remove(entry.path());
+                    entries.put(entry.path(), entry);
+                }
+            }
+        } catch (final IOException | RuntimeException exp) {
+            LOGGER.warn("Couldn't load the journal {}", journalFile, exp);
+        }
+
+        removeMissingFiles();
+        keptOnCompaction = entries.size();
+        if (lineCount > entries.size()) {
+            compact();
+        }
+    }
+
+    // The files moved out of the watch path, or removed, can't be found by a scan again
+    private void removeMissingFiles() {
+        entries.values().removeIf(entry -> !Files.exists(Path.of(entry.path())));
+    }
+
+    private void compact() {
+        final var contents = new StringBuilder();
+        entries.values().forEach(entry -> contents.append(format(entry)));
+        try {
+            JournalFiles.replace(journalFile, contents);
+            appendedSinceCompaction = 0;
+            keptOnCompaction = entries.size();
+        } catch (final IOException exp) {
+            LOGGER.warn("Couldn't compact the journal {}", journalFile, exp);
+        }
+    }
+
+    private Entry parse(final String line) {
+        final var fields = line.split(SEPARATOR, -1);
+        if (fields.length != FIELD_COUNT) {
+            LOGGER.debug("Skipping invalid journal entry {}", line);
+            return null;
+        }
+        try {
+            return new Entry(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2]), fields[3],
+                Outcome.valueOf(fields[4]));
+        } catch (final IllegalArgumentException exp) {
+            LOGGER.debug("Skipping invalid journal entry {}", line, exp);
+            return null;
+        }
+    }
+
+    private String format(final Entry entry) {
+        return String.join(SEPARATOR, entry.path(), String.valueOf(entry.size()), String.valueOf(entry.lastModified()),
+            entry.hash(), entry.outcome().name()) + System.lineSeparator();
+    }
+
+    private String hash(final Path file) {
+        try (var inputStream = Files.newInputStream(file)) {
+            return ContentDigest.sha256(inputStream);
+        } catch (final IOException exp) {
+            LOGGER.debug("Couldn't compute the hash of {}", file, exp);
+            return "";
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.file;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.onap.policy.distribution.reception.handling.file.FileSystemReceptionHandlerConfigurationParameterGroup.BacklogScanOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reconciles the contents of a watched directory with the files handled from its watch events. The scanner keeps an
+ * index of the files already handled, with the size and modification time they had, so that a scan of the directory,
+ * at startup or after the watch service overflowed and lost events, only returns the files that are new or changed.
+ * Where the watch service can't be relied on, as on network file systems, the directory is polled instead, a poll
+ * returning the files that changed since the previous poll.
+ */
+class WatchDirectoryScanner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WatchDirectoryScanner.class);
+
+    private record FileStamp(long size, long lastModified) {
+    }
+
+    private record ScannedFile(Path file, FileStamp stamp) {
+    }
+
+    private final BacklogScanOrder order;
+
+    // The files already handled, with the size and modification time they were handled with
+    private final Map<Path, FileStamp> handledFiles = new ConcurrentHashMap<>();
+
+    // The files not handled yet, with the size and modification time they had when last returned by a poll
+    private final Map<Path, FileStamp> polledFiles = new HashMap<>();
+
+    /**
+     * Create a scanner.
+     *
+     * @param order the order the files found by a scan are returned in
+     */
+    WatchDirectoryScanner(final BacklogScanOrder order) {
+        this.order = order;
+    }
+
+    /**
+     * Record the files present in a directory as handled, so that a later scan ignores them unless they change.
+     *
+     * @param dir the directory
+     */
+    void seed(final Path dir) {
+        list(dir).forEach(scanned -> handledFiles.put(scanned.file(), scanned.stamp()));
+        LOGGER.debug("{} files already present in {}", handledFiles.size(), dir);
+    }
+
+    /**
+     * Scan a directory for the files that haven't been handled yet or that changed since they were handled.
+     *
+     * @param dir the directory
+     * @return the new and changed files, in the configured order
+     */
+    List<Path> scan(final Path dir) {
+        final var scannedFiles = list(dir);
+
+        // forget the files removed from the directory
+        final var presentFiles = new HashSet<Path>();
+        scannedFiles.forEach(scanned -> presentFiles.add(scanned.file()));
+        handledFiles.keySet().removeIf(file -> dir.equals(file.getParent()) && !presentFiles.contains(file));
+
+        final var newFiles = scannedFiles.stream()
+            .filter(scanned -> !scanned.stamp().equals(handledFiles.get(scanned.file())))
+            .sorted(getComparator()).map(ScannedFile::file).toList();
+        LOGGER.debug("Scan of {} found {} new files", dir, newFiles.size());
+        return newFiles;
+    }
+
+    /**
+     * Poll a directory for the files that haven't been handled yet and that are new or changed since the previous
+     * poll, so that a file still being written or waiting to be handled is only returned again if it changes.
+     *
+     * @param dir the directory
+     * @return the new and changed files, in the configured order
+     */
+    synchronized List<Path> poll(final Path dir) {
+        final var scannedFiles = list(dir);
+
+        final var presentFiles = new HashSet<Path>();
+        scannedFiles.forEach(scanned -> presentFiles.add(scanned.file()));
+        handledFiles.keySet().removeIf(file -> dir.equals(file.getParent()) && !presentFiles.contains(file));
+        polledFiles.keySet().removeIf(file -> dir.equals(file.getParent())
+            && (!presentFiles.contains(file) || handledFiles.containsKey(file)));
+
+        final List<ScannedFile> newFiles = new ArrayList<>();
+        for (final var scanned : scannedFiles) {
+            if (!scanned.stamp().equals(handledFiles.get(scanned.file()))
+                    && !scanned.stamp().equals(polledFiles.put(scanned.file(), scanned.stamp()))) {
+                newFiles.add(scanned);
+            }
+        }
+        if (!newFiles.isEmpty()) {
+            LOGGER.debug("Poll of {} found {} new files", dir, newFiles.size());
+        }
+        return newFiles.stream().sorted(getComparator()).map(ScannedFile::file).toList();
+    }
+
+    /**
+     * Check if a file has already been handled and hasn't changed since, so that an event reporting a change to its
+     * attributes only doesn't get it processed again.
+     *
+     * @param file the file
+     * @return true if the file was handled with its current size and modification time
+     */
+    boolean isHandled(final Path file) {
+        final var stamp = handledFiles.get(file);
+        return stamp != null && stamp.equals(getStamp(file));
+    }
+
+    /**
+     * Record a file as handled with its current size and modification time.
+     *
+     * @param file the file
+     */
+    void recordHandled(final Path file) {
+        final var stamp = getStamp(file);
+        if (stamp != null) {
+            handledFiles.put(file, stamp);
+        }
+    }
+
+    /**
+     * Record a file as handled with the given size and modification time, so that a later scan ignores it unless it no
+     * longer has that size and modification time.
+     *
+     * @param file the file
+     * @param size the size of the file when it was handled
+     * @param lastModified the modification time of the file in milliseconds when it was handled
+     */
+    void recordHandled(final Path file, final long size, final long lastModified) {
+        handledFiles.put(file, new FileStamp(size, lastModified));
+    }
+
+    private Comparator<ScannedFile> getComparator() {
+        if (order == BacklogScanOrder.NAME) {
+            return Comparator.comparing(scanned -> scanned.file().getFileName().toString());
+        }
+        return Comparator.comparingLong((ScannedFile scanned) -> scanned.stamp().lastModified())
+            .thenComparing(scanned -> scanned.file().getFileName().toString());
+    }
+
+    private List<ScannedFile> list(final Path dir) {
+        final List<ScannedFile> scannedFiles = new ArrayList<>();
+        try (var paths = Files.newDirectoryStream(dir)) {
+            for (final var file : paths) {
+                final var stamp = getStamp(file);
+                if (stamp != null) {
+                    scannedFiles.add(new ScannedFile(file, stamp));
+                }
+            }
+        } catch (final IOException | DirectoryIteratorException exp) {
+            LOGGER.warn("Couldn't scan {}", dir, exp);
+        }
+        return scannedFiles;
+    }
+
+    // Only regular files have a stamp, null is returned for directories and files that can't be read
+    private FileStamp getStamp(final Path file) {
+        try {
+            final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.isRegularFile()
+                ? new FileStamp(attributes.size(), attributes.lastModifiedTime().toMillis()) : null;
+        } catch (final IOException exp) {
+            LOGGER.debug("Couldn't read the attributes of {}", file, exp);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.sdc;
+
+import java.util.LinkedHashMap;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
+
+/**
+ * Cache of the payloads of the SDC artifacts already downloaded, keyed by the checksum of the artifact, so that an
+ * artifact distributed again is not downloaded again. The cache is bounded by the total size of the payloads, the
+ * least recently used payloads being evicted first.
+ */
+class SdcArtifactCache {
+
+    static final String HIT = "hit";
+    static final String MISS = "miss";
+
+    /**
+     * A cached artifact.
+     *
+     * @param payload the payload of the artifact
+     * @param distributed true if the policies decoded from the artifact have been forwarded successfully
+     */
+    record CachedArtifact(byte[] payload, boolean distributed) {
+    }
+
+    private final String receptionHandlerName;
+    private final long maxBytes;
+    private final LinkedHashMap<String, CachedArtifact> artifacts = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    /**
+     * Constructs the cache.
+     *
+     * @param receptionHandlerName the name of the reception handler, used to label the statistics
+     * @param maxBytes the maximum total size of the cached payloads
+     */
+    SdcArtifactCache(final String receptionHandlerName, final long maxBytes) {
+        this.receptionHandlerName = receptionHandlerName;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the artifact with the given checksum.
+     *
+     * @param checksum the checksum of the artifact, null if SDC did not provide one
+     * @return the cached artifact, null if the artifact is not cached
+     */
+    synchronized CachedArtifact get(final String checksum) {
+        final var artifact = isCacheable(checksum) ? artifacts.get(checksum) : null;
+        DistributionStatisticsManager.updateSdcArtifactCacheCount(receptionHandlerName, artifact != null ? HIT : MISS);
+        return artifact;
+    }
+
+    /**
+     * Caches the payload of the artifact with the given checksum, evicting the least recently used payloads to make
+     * room for it. A payload larger than the cache itself is not cached.
+     *
+     * @param checksum the checksum of the artifact, null if SDC did not provide one
+     * @param payload the payload of the artifact
+     */
+    synchronized void put(final String checksum, final byte[] payload) {
+        if (!isCacheable(checksum) || payload.length > maxBytes || artifacts.containsKey(checksum)) {
+            return;
+        }
+        final var eldest = artifacts.entrySet().iterator();
+        while (totalBytes + payload.length > maxBytes) {
+            totalBytes -= eldest.next().getValue().payload().length;
+            eldest.remove();
+        }
+        artifacts.put(checksum, new CachedArtifact(payload, false));
+        totalBytes += payload.length;
+        DistributionStatisticsManager.setSdcArtifactCacheBytes(receptionHandlerName, totalBytes);
+    }
+
+    /**
+     * Records that the policies decoded from the artifact with the given checksum have been forwarded successfully.
+     *
+     * @param checksum the checksum of the artifact
+     */
+    synchronized void markDistributed(final String checksum) {
+        artifacts.computeIfPresent(checksum, (key, artifact) -> new CachedArtifact(artifact.payload(), true));
+    }
+
+    /**
+     * Gets the total size of the cached payloads.
+     *
+     * @return the total size in bytes
+     */
+    synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private static boolean isCacheable(final String checksum) {
+        return checksum != null && !checksum.isBlank();
+    }
+}
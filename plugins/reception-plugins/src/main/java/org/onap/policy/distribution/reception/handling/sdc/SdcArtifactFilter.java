@@ -0,0 +1,66 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.sdc;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.onap.sdc.api.notification.IArtifactInfo;
+
+/**
+ * Decides from the metadata of an SDC artifact whether it is relevant to the reception handler, so that irrelevant
+ * artifacts are skipped without being downloaded.
+ */
+class SdcArtifactFilter {
+
+    // The artifact types accepted, null to accept every type
+    private final Set<String> artifactTypes;
+    private final List<Pattern> namePatterns;
+
+    /**
+     * Constructs the filter.
+     *
+     * @param artifactTypes the artifact types accepted, null to accept every type
+     * @param namePatterns the regular expressions of which an artifact name must match one, every name being accepted
+     *        if there are none
+     */
+    SdcArtifactFilter(final Collection<String> artifactTypes, final List<String> namePatterns) {
+        this.artifactTypes = artifactTypes != null ? Set.copyOf(artifactTypes) : null;
+        this.namePatterns = namePatterns.stream().map(Pattern::compile).toList();
+    }
+
+    /**
+     * Checks whether an artifact is relevant to the reception handler.
+     *
+     * @param artifact the artifact
+     * @return true if the artifact is to be downloaded and processed
+     */
+    boolean isRelevant(final IArtifactInfo artifact) {
+        if (artifactTypes != null && (artifact.getArtifactType() == null
+                        || !artifactTypes.contains(artifact.getArtifactType()))) {
+            return false;
+        }
+        final var name = artifact.getArtifactName();
+        return namePatterns.isEmpty()
+                        || name != null && namePatterns.stream().anyMatch(pattern -> pattern.matcher(name).matches());
+    }
+}
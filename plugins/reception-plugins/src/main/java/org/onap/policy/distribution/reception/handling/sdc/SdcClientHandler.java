@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2018 Ericsson. All rights reserved.
+ *  Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,20 +21,35 @@
 
 package org.onap.policy.distribution.reception.handling.sdc;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.distribution.reception.handling.RetryBackoff;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
 
 /**
- * This class implements TimerTask for calling life cycle methods of SdcClient iteratively after specified interval
- * until the operation is successful.
+ * This class calls the life cycle methods of SdcClient until the operation is successful. The attempts run on an
+ * executor shared by all the SDC reception handlers, a failed attempt being retried after a delay that doubles with
+ * every failure up to a maximum, with a random jitter so that several clients do not retry in step.
  *
  * @author Ram Krishna Verma (ram.krishna.verma@ericsson.com)
  */
-public class SdcClientHandler extends TimerTask {
+public class SdcClientHandler implements Runnable {
 
-    private SdcReceptionHandler sdcReceptionHandler;
-    private SdcClientOperationType operationType;
-    private Timer timer;
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final var thread = new Thread(runnable, "sdc-client-lifecycle");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final SdcReceptionHandler sdcReceptionHandler;
+    private final SdcClientOperationType operationType;
+    private final String receptionHandlerName;
+    private final RetryBackoff retryBackoff;
+    private int failedAttempts;
+    private volatile boolean cancelled;
+    private volatile ScheduledFuture<?> nextAttempt;
 
     public enum SdcClientOperationType {
         START, STOP
@@ -43,13 +59,24 @@ public class SdcClientHandler extends TimerTask {
      * Constructs an instance of {@link SdcClientHandler} class.
      *
      * @param sdcReceptionHandler the sdcReceptionHandler
+     * @param operationType the operation to perform
+     * @param receptionHandlerName the name of the reception handler, used to label the statistics
+     * @param initialRetryDelayMillis the delay before the first retry of a failed operation
+     * @param maxRetryDelayMillis the maximum delay between two attempts
      */
     public SdcClientHandler(final SdcReceptionHandler sdcReceptionHandler, final SdcClientOperationType operationType,
-            final long retryDelay) {
+            final String receptionHandlerName, final long initialRetryDelayMillis, final long maxRetryDelayMillis) {
         this.sdcReceptionHandler = sdcReceptionHandler;
         this.operationType = operationType;
-        timer = new Timer(false);
-        timer.scheduleAtFixedRate(this, 0, retryDelay * 1000L);
+        this.receptionHandlerName = receptionHandlerName;
+        this.retryBackoff = new RetryBackoff(initialRetryDelayMillis, maxRetryDelayMillis);
+    }
+
+    /**
+     * Schedules the first attempt of the operation straight away.
+     */
+    public void start() {
+        nextAttempt = EXECUTOR.schedule(this, 0, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -57,20 +84,36 @@ public class SdcClientHandler extends TimerTask {
      */
     @Override
     public void run() {
+        if (cancelled) {
+            return;
+        }
         if (SdcClientOperationType.START.equals(operationType)) {
             sdcReceptionHandler.initializeSdcClient();
             sdcReceptionHandler.startSdcClient();
         } else {
             sdcReceptionHandler.stopSdcClient();
         }
+        // a successful operation cancels this handler
+        if (!cancelled) {
+            final var retryDelayMillis = retryBackoff.nextDelayMillis(++failedAttempts);
+            DistributionStatisticsManager.updateSdcClientRetry(receptionHandlerName, operationType.name(),
+                failedAttempts, retryDelayMillis);
+            nextAttempt = EXECUTOR.schedule(this, retryDelayMillis, TimeUnit.MILLISECONDS);
+        }
     }
 
     /**
-     * {@inheritDoc}.
+     * Stops retrying the operation.
+     *
+     * @return true
      */
-    @Override
     public boolean cancel() {
-        timer.cancel();
+        cancelled = true;
+        final var attempt = nextAttempt;
+        if (attempt != null) {
+            attempt.cancel(false);
+        }
+        DistributionStatisticsManager.resetSdcClientRetry(receptionHandlerName, operationType.name());
         return true;
     }
 }
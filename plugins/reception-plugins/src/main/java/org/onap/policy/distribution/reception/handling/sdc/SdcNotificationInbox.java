@@ -0,0 +1,292 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.sdc;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.onap.policy.distribution.reception.handling.JsonLinesJournal;
+import org.onap.policy.distribution.reception.handling.sdc.SdcNotificationInbox.InboxRecord;
+import org.onap.sdc.api.notification.IArtifactInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only inbox of the notifications received from SDC, recording each notification with its artifacts, the
+ * outcome of each artifact once processed, and the completion of the notification once its component done status is
+ * sent. Every record is forced to disk before the processing goes on, so that a restarted handler can finish the
+ * notifications it had not completed without waiting for SDC to send them again and without downloading again the
+ * artifacts it had already processed. The inbox is compacted when loaded, and again while running once enough records
+ * are appended, keeping the records of the notifications that are not completed.
+ */
+class SdcNotificationInbox extends JsonLinesJournal<InboxRecord> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SdcNotificationInbox.class);
+
+    private enum RecordType {
+        RECEIVED, ARTIFACT_PROCESSED, COMPLETED
+    }
+
+    /**
+     * A record of the inbox, the fields not relevant to its type being null.
+     *
+     * @param type the type of the record
+     * @param distributionId the distribution id of the notification
+     * @param artifacts the artifacts of a received notification
+     * @param artifactKey the key of a processed artifact
+     * @param successful the outcome of a processed artifact
+     */
+    record InboxRecord(RecordType type, String distributionId, List<StoredArtifact> artifacts,
+        String artifactKey, Boolean successful) {
+    }
+
+    /**
+     * The metadata of an artifact kept in the inbox, from which the artifact can be downloaded again.
+     */
+    record StoredArtifact(String artifactName, String artifactType, String artifactUrl, String artifactChecksum,
+        String artifactDescription, Integer artifactTimeout, String artifactVersion, String artifactUuid)
+        implements IArtifactInfo {
+
+        static StoredArtifact of(final IArtifactInfo artifact) {
+            return new StoredArtifact(artifact.getArtifactName(), artifact.getArtifactType(), artifact.getArtifactURL(),
+                artifact.getArtifactChecksum(), artifact.getArtifactDescription(), artifact.getArtifactTimeout(),
+                artifact.getArtifactVersion(), artifact.getArtifactUUID());
+        }
+
+        @Override
+        public String getArtifactName() {
+            return artifactName;
+        }
+
+        @Override
+        public String getArtifactType() {
+            return artifactType;
+        }
+
+        @Override
+        public String getArtifactURL() {
+            return artifactUrl;
+        }
+
+        @Override
+        public String getArtifactChecksum() {
+            return artifactChecksum;
+        }
+
+        @Override
+        public String getArtifactDescription() {
+            return artifactDescription;
+        }
+
+        @Override
+        public Integer getArtifactTimeout() {
+            return artifactTimeout;
+        }
+
+        @Override
+        public String getArtifactVersion() {
+            return artifactVersion;
+        }
+
+        @Override
+        public String getArtifactUUID() {
+            return artifactUuid;
+        }
+
+        @Override
+        public IArtifactInfo getGeneratedArtifact() {
+            return null;
+        }
+
+        @Override
+        public List<IArtifactInfo> getRelatedArtifacts() {
+            return List.of();
+        }
+    }
+
+    /**
+     * A notification that is not completed.
+     *
+     * @param distributionId the distribution id of the notification
+     * @param artifacts the artifacts of the notification
+     * @param processedArtifacts the outcome of each artifact already processed, by artifact key
+     */
+    record PendingNotification(String distributionId, List<StoredArtifact> artifacts,
+        Map<String, Boolean> processedArtifacts) {
+    }
+
+    // The notifications that are not completed, in the order they were received
+    private final Map<String, PendingNotification> pendingNotifications = new LinkedHashMap<>();
+
+    /**
+     * Create the inbox, loading the notifications not completed that are already in the inbox file.
+     *
+     * @param inboxFile the inbox file
+     * @throws IOException if the inbox file can't be opened
+     */
+    SdcNotificationInbox(final Path inboxFile) throws IOException {
+        super(inboxFile, InboxRecord.class, "notification inbox");
+        open();
+    }
+
+    SdcNotificationInbox(final Path inboxFile, final int compactionThreshold) throws IOException {
+        super(inboxFile, InboxRecord.class, "notification inbox", compactionThreshold);
+        open();
+    }
+
+    /**
+     * Get the key identifying an artifact within its notification.
+     *
+     * @param artifact the artifact
+     * @return the UUID of the artifact, or its URL if it has no UUID, or its name if it has neither
+     */
+    static String artifactKey(final IArtifactInfo artifact) {
+        if (artifact.getArtifactUUID() != null) {
+            return artifact.getArtifactUUID();
+        }
+        return artifact.getArtifactURL() != null ? artifact.getArtifactURL()
+            : String.valueOf(artifact.getArtifactName());
+    }
+
+    /**
+     * Get the notifications that are not completed.
+     *
+     * @return the pending notifications, in the order they were received
+     */
+    synchronized List<PendingNotification> getPendingNotifications() {
+        return pendingNotifications.values().stream()
+            .map(pending -> new PendingNotification(pending.distributionId(), pending.artifacts(),
+                Map.copyOf(pending.processedArtifacts())))
+            .toList();
+    }
+
+    /**
+     * Record a notification received from SDC. A notification received again before it is completed keeps the
+     * outcome of the artifacts already processed.
+     *
+     * @param distributionId the distribution id of the notification
+     * @param artifacts the artifacts of the notification
+     * @return the outcome of each artifact already processed, by artifact key
+     */
+    synchronized Map<String, Boolean> received(final String distributionId, final List<IArtifactInfo> artifacts) {
+        final var pending = pendingNotifications.get(distributionId);
+        if (pending != null) {
+            return Map.copyOf(pending.processedArtifacts());
+        }
+        final var storedArtifacts = artifacts.stream().map(StoredArtifact::of).toList();
+        record(new InboxRecord(RecordType.RECEIVED, distributionId, storedArtifacts, null, null));
+        return Map.of();
+    }
+
+    /**
+     * Record the outcome of the processing of an artifact of a notification.
+     *
+     * @param distributionId the distribution id of the notification
+     * @param artifact the artifact
+     * @param successful true if the artifact was processed successfully
+     */
+    synchronized void artifactProcessed(final String distributionId, final IArtifactInfo artifact,
+        final boolean successful) {
+        if (pendingNotifications.containsKey(distributionId)) {
+            record(new InboxRecord(RecordType.ARTIFACT_PROCESSED, distributionId, null, artifactKey(artifact),
+                successful));
+        }
+    }
+
+    /**
+     * Record the completion of a notification, once its component done status is sent to SDC.
+     *
+     * @param distributionId the distribution id of the notification
+     */
+    synchronized void completed(final String distributionId) {
+        if (pendingNotifications.containsKey(distributionId)) {
+            record(new InboxRecord(RecordType.COMPLETED, distributionId, null, null, null));
+        }
+    }
+
+    /**
+     * Close the inbox file.
+     */
+    @Override
+    public synchronized void close() {
+        super.close();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected boolean isValid(final InboxRecord inboxRecord) {
+        return inboxRecord.type() != null && inboxRecord.distributionId() != null
+            && (inboxRecord.type() != RecordType.RECEIVED || inboxRecord.artifacts() != null)
+            && (inboxRecord.type() != RecordType.ARTIFACT_PROCESSED || inboxRecord.successful() != null);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected void apply(final InboxRecord inboxRecord) {
+        switch (inboxRecord.type()) {
+            case RECEIVED -> pendingNotifications.putIfAbsent(inboxRecord.distributionId(),
+                new PendingNotification(inboxRecord.distributionId(), List.copyOf(inboxRecord.artifacts()),
+                    new HashMap<>()));
+            case ARTIFACT_PROCESSED -> {
+                final var pending = pendingNotifications.get(inboxRecord.distributionId());
+                if (pending != null) {
+                    pending.processedArtifacts().put(inboxRecord.artifactKey(), inboxRecord.successful());
+                }
+            }
+            case COMPLETED -> pendingNotifications.remove(inboxRecord.distributionId());
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected List<InboxRecord> liveRecords() {
+        final List<InboxRecord> liveRecords = new ArrayList<>();
+        for (final var pending : pendingNotifications.values()) {
+            liveRecords.add(new InboxRecord(RecordType.RECEIVED, pending.distributionId(), pending.artifacts(), null,
+                null));
+            for (final var processed : pending.processedArtifacts().entrySet()) {
+                liveRecords.add(new InboxRecord(RecordType.ARTIFACT_PROCESSED, pending.distributionId(), null,
+                    processed.getKey(), processed.getValue()));
+            }
+        }
+        return liveRecords;
+    }
+
+    private void record(final InboxRecord inboxRecord) {
+        try {
+            append(List.of(inboxRecord));
+        } catch (final IOException exp) {
+            LOGGER.warn("Couldn't append to the notification inbox {}", getJournalFile(), exp);
+            // the notification is still processed, it is only not resumed if the handler is restarted
+            apply(inboxRecord);
+        }
+    }
+}
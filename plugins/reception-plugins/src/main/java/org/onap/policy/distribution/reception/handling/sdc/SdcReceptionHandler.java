@@ -1,7 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2018 Ericsson. All rights reserved.
- *  Copyright (C) 2019, 2022-2023 Nordix Foundation.
+ *  Copyright (C) 2019, 2022-2023, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
  *  Modifications Copyright (C) 2021 Bell Canada. All rights reserved.
  * ================================================================================
@@ -23,18 +23,28 @@
 
 package org.onap.policy.distribution.reception.handling.sdc;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import org.onap.policy.common.parameters.ParameterService;
-import org.onap.policy.distribution.model.Csar;
+import org.onap.policy.distribution.model.InMemoryCsar;
 import org.onap.policy.distribution.reception.decoding.PolicyDecodingException;
 import org.onap.policy.distribution.reception.handling.AbstractReceptionHandler;
+import org.onap.policy.distribution.reception.handling.PolicyForwardingResult;
 import org.onap.policy.distribution.reception.handling.sdc.SdcClientHandler.SdcClientOperationType;
+import org.onap.policy.distribution.reception.handling.sdc.SdcNotificationInbox.PendingNotification;
 import org.onap.policy.distribution.reception.handling.sdc.exceptions.ArtifactDownloadException;
 import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
 import org.onap.sdc.api.IDistributionClient;
@@ -60,65 +70,234 @@ public class SdcReceptionHandler extends AbstractReceptionHandler implements INo
     private static final Logger LOGGER = LoggerFactory.getLogger(SdcReceptionHandler.class);
     private static final String SECONDS = "Seconds";
 
-    private SdcReceptionHandlerStatus sdcReceptionHandlerStatus = SdcReceptionHandlerStatus.STOPPED;
+    private static final long TERMINATION_TIMEOUT_SECONDS = 30;
+
+    private final AtomicReference<HandlerState> handlerState =
+        new AtomicReference<>(new HandlerState(SdcReceptionHandlerStatus.STOPPED, 0));
     private IDistributionClient distributionClient;
     private SdcConfiguration sdcConfig;
-    private final AtomicInteger nbOfNotificationsOngoing = new AtomicInteger();
-    private int retryDelay;
+    private long initialRetryDelayMillis;
+    private long maxRetryDelayMillis;
     private SdcClientHandler sdcClientHandler;
 
+    // Processes the artifacts of a notification concurrently, null if they are processed one at a time
+    private ExecutorService artifactExecutor;
+
+    // Processes the notifications, null if they are processed on the thread of the SDC client
+    private ExecutorService notificationExecutor;
+
+    // Skips the artifacts that are not relevant without downloading them, null if every artifact is processed
+    private SdcArtifactFilter artifactFilter;
+
+    // Caches the payloads of the downloaded artifacts by checksum, null if the artifacts are always downloaded
+    private SdcArtifactCache artifactCache;
+    private boolean artifactCacheSkipDecode;
+
+    // Records the notifications and the progress of their artifacts, null if the notifications are not kept
+    private SdcNotificationInbox notificationInbox;
+    private List<PendingNotification> pendingNotifications = List.of();
+
+    // Resumes the pending notifications off the SDC client life cycle thread, null if there are none to resume
+    private ExecutorService resumeExecutor;
+
+    // The distribution ids of the notifications being processed, which a notification sent again is not processed for
+    private final Set<String> notificationsInProgress = ConcurrentHashMap.newKeySet();
+
+    // Sends the status reports to SDC in the background, null if the reception handler is not initialized
+    private SdcStatusReporter statusReporter;
+
     private enum DistributionStatusType {
         DOWNLOAD, DEPLOY
     }
 
+    /**
+     * The life cycle status of the SDC client together with the number of notifications being processed, held in a
+     * single value so that both are always updated together.
+     */
+    private record HandlerState(SdcReceptionHandlerStatus lifecycleStatus, int notificationsOngoing) {
+
+        SdcReceptionHandlerStatus status() {
+            return lifecycleStatus == SdcReceptionHandlerStatus.IDLE && notificationsOngoing > 0
+                ? SdcReceptionHandlerStatus.BUSY : lifecycleStatus;
+        }
+    }
+
     @Override
     protected void initializeReception(final String parameterGroupName) {
         final SdcReceptionHandlerConfigurationParameterGroup handlerParameters =
             ParameterService.get(parameterGroupName);
-        retryDelay = handlerParameters.getRetryDelay() < 30 ? 30 : handlerParameters.getRetryDelay();
+        initialRetryDelayMillis = handlerParameters.getInitialRetryDelayMillis();
+        maxRetryDelayMillis = handlerParameters.getRetryDelay() * 1000L;
         sdcConfig = new SdcConfiguration(handlerParameters);
+        if (handlerParameters.getArtifactParallelism() > 1) {
+            final var threadNumber = new AtomicInteger();
+            artifactExecutor = Executors.newFixedThreadPool(handlerParameters.getArtifactParallelism(), runnable -> {
+                final var thread = new Thread(runnable, "sdc-artifact-worker-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        if (handlerParameters.getNotificationWorkers() > 0) {
+            final var threadNumber = new AtomicInteger();
+            // once the queue is full, or after the handler is destroyed, the SDC client thread processes the
+            // notification itself, which holds back the consumption of further notifications
+            notificationExecutor = new ThreadPoolExecutor(handlerParameters.getNotificationWorkers(),
+                handlerParameters.getNotificationWorkers(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(handlerParameters.getNotificationQueueSize()), runnable -> {
+                    final var thread =
+                        new Thread(runnable, "sdc-notification-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, (runnable, executor) -> runnable.run());
+        }
+        if (handlerParameters.isFilterArtifactTypes() || !handlerParameters.getArtifactNamePatterns().isEmpty()) {
+            artifactFilter = new SdcArtifactFilter(
+                handlerParameters.isFilterArtifactTypes() ? handlerParameters.getArtifactTypes() : null,
+                handlerParameters.getArtifactNamePatterns());
+        }
+        if (handlerParameters.getArtifactCacheMaxBytes() > 0) {
+            artifactCache =
+                new SdcArtifactCache(getReceptionHandlerName(), handlerParameters.getArtifactCacheMaxBytes());
+            artifactCacheSkipDecode = handlerParameters.isArtifactCacheSkipDecode();
+        }
+        if (handlerParameters.getInboxFile() != null) {
+            try {
+                notificationInbox = new SdcNotificationInbox(Path.of(handlerParameters.getInboxFile()));
+                pendingNotifications = notificationInbox.getPendingNotifications();
+                if (!pendingNotifications.isEmpty()) {
+                    resumeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                        final var thread = new Thread(runnable, "sdc-notification-resume");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            } catch (final IOException exp) {
+                LOGGER.error("Couldn't open the notification inbox {}, the notifications are not kept",
+                    handlerParameters.getInboxFile(), exp);
+            }
+        }
         distributionClient = createSdcDistributionClient();
-        sdcClientHandler = new SdcClientHandler(this, SdcClientOperationType.START, retryDelay);
+        statusReporter = new SdcStatusReporter(getReceptionHandlerName(), handlerParameters.getStatusQueueSize(),
+            handlerParameters.getStatusRetries(), handlerParameters.getStatusRetryDelayMillis());
+        startSdcClientHandler(SdcClientOperationType.START);
     }
 
     @Override
     public void destroy() {
         if (distributionClient != null) {
-            sdcClientHandler = new SdcClientHandler(this, SdcClientOperationType.STOP, retryDelay);
+            // a start still being retried would otherwise restart the client after it is stopped
+            sdcClientHandler.cancel();
+            startSdcClientHandler(SdcClientOperationType.STOP);
+        }
+        if (resumeExecutor != null) {
+            resumeExecutor.shutdown();
+            awaitTermination(resumeExecutor);
+        }
+        if (notificationExecutor != null) {
+            notificationExecutor.shutdown();
+            awaitTermination(notificationExecutor);
+        }
+        if (artifactExecutor != null) {
+            artifactExecutor.shutdown();
+        }
+        if (statusReporter != null) {
+            statusReporter.close();
         }
+        if (notificationInbox != null) {
+            notificationInbox.close();
+        }
+        destroyPlugins();
     }
 
     @Override
     public void activateCallback(final INotificationData notificationData) {
         LOGGER.debug("Receieved the notification from SDC with ID: {}", notificationData.getDistributionID());
-        changeSdcReceptionHandlerStatus(SdcReceptionHandlerStatus.BUSY);
-        processCsarServiceArtifacts(notificationData);
-        changeSdcReceptionHandlerStatus(SdcReceptionHandlerStatus.IDLE);
-        LOGGER.debug("Processed the notification from SDC with ID: {}", notificationData.getDistributionID());
+        // the notification is recorded before it is handed off, so that it is not lost if the process dies
+        final Map<String, Boolean> processedArtifacts = notificationInbox == null ? Map.of()
+            : notificationInbox.received(notificationData.getDistributionID(), notificationData.getServiceArtifacts());
+        submitNotification(notificationData.getDistributionID(), notificationData.getServiceArtifacts(),
+            processedArtifacts);
     }
 
     /**
-     * Method to change the status of this reception handler instance.
+     * Method to hand off a notification to be processed, the handler being busy until all its notifications are
+     * processed.
      *
-     * @param newStatus the new status
+     * @param distributionId the distribution id of the notification
+     * @param artifacts the service artifacts of the notification
+     * @param processedArtifacts the outcome of the artifacts already processed, by artifact key
      */
-    private synchronized void changeSdcReceptionHandlerStatus(final SdcReceptionHandlerStatus newStatus) {
-        switch (newStatus) {
-            case INIT, STOPPED:
-                sdcReceptionHandlerStatus = newStatus;
-                break;
-            case IDLE:
-                handleIdleStatusChange(newStatus);
-                break;
-            case BUSY:
-                nbOfNotificationsOngoing.incrementAndGet();
-                sdcReceptionHandlerStatus = newStatus;
-                break;
-            default:
-                break;
+    private void submitNotification(final String distributionId, final List<? extends IArtifactInfo> artifacts,
+                                    final Map<String, Boolean> processedArtifacts) {
+        if (distributionId != null && !notificationsInProgress.add(distributionId)) {
+            // processing the artifacts again alongside would process them twice and send two component done statuses
+            LOGGER.info("Ignoring the notification from SDC with ID: {} sent again while it is being processed",
+                distributionId);
+            return;
+        }
+        handlerState.updateAndGet(state -> new HandlerState(state.lifecycleStatus(), state.notificationsOngoing() + 1));
+        final Runnable processing = () -> {
+            try {
+                processCsarServiceArtifacts(distributionId, artifacts, processedArtifacts);
+            } finally {
+                if (distributionId != null) {
+                    notificationsInProgress.remove(distributionId);
+                }
+                handlerState.updateAndGet(state -> new HandlerState(state.lifecycleStatus(),
+                    Math.max(0, state.notificationsOngoing() - 1)));
+            }
+            LOGGER.debug("Processed the notification from SDC with ID: {}", distributionId);
+        };
+        if (notificationExecutor == null) {
+            processing.run();
+        } else {
+            notificationExecutor.execute(processing);
         }
     }
 
+    /**
+     * Method to resume the processing of the notifications that were not completed before the handler was last
+     * stopped, once the SDC client is started. The notifications are handed off from a thread of their own, as a
+     * notification processed by the thread handing it off would otherwise hold back the SDC client life cycle
+     * operations of every reception handler.
+     */
+    private void resumePendingNotifications() {
+        final var pending = pendingNotifications;
+        pendingNotifications = List.of();
+        if (!pending.isEmpty()) {
+            resumeExecutor.execute(() -> resumeNotifications(pending));
+        }
+    }
+
+    private void resumeNotifications(final List<PendingNotification> pending) {
+        for (final PendingNotification notification : pending) {
+            LOGGER.info("Resuming the processing of the notification from SDC with ID: {}, {} of its {} artifacts "
+                + "already processed", notification.distributionId(), notification.processedArtifacts().size(),
+                notification.artifacts().size());
+            DistributionStatisticsManager.updateSdcNotificationResumedCount(getReceptionHandlerName());
+            submitNotification(notification.distributionId(), notification.artifacts(),
+                notification.processedArtifacts());
+        }
+    }
+
+    /**
+     * Method to change the life cycle status of this reception handler instance.
+     *
+     * @param newStatus the new status
+     */
+    private void changeSdcReceptionHandlerStatus(final SdcReceptionHandlerStatus newStatus) {
+        handlerState.updateAndGet(state -> new HandlerState(newStatus, state.notificationsOngoing()));
+    }
+
+    /**
+     * Returns the status of this reception handler instance, busy while notifications are being processed.
+     *
+     * @return the status
+     */
+    SdcReceptionHandlerStatus getSdcReceptionHandlerStatus() {
+        return handlerState.get().status();
+    }
+
     /**
      * Creates an instance of {@link IDistributionClient} from {@link DistributionClientFactory}.
      *
@@ -128,20 +307,32 @@ public class SdcReceptionHandler extends AbstractReceptionHandler implements INo
         return new DistributionClientImpl();
     }
 
+    /**
+     * Starts a handler that performs an SDC client operation until it succeeds. The handler is set before it starts,
+     * as a successful operation cancels it.
+     *
+     * @param operationType the operation
+     */
+    private void startSdcClientHandler(final SdcClientOperationType operationType) {
+        sdcClientHandler = new SdcClientHandler(this, operationType, getReceptionHandlerName(),
+            initialRetryDelayMillis, maxRetryDelayMillis);
+        sdcClientHandler.start();
+    }
+
     /**
      * Method to initialize the SDC client.
      */
     protected void initializeSdcClient() {
 
         LOGGER.debug("Initializing the SDC Client...");
-        if (sdcReceptionHandlerStatus != SdcReceptionHandlerStatus.STOPPED) {
+        if (getSdcReceptionHandlerStatus() != SdcReceptionHandlerStatus.STOPPED) {
             LOGGER.error("The SDC Client is already initialized");
             return;
         }
         final IDistributionClientResult clientResult = distributionClient.init(sdcConfig, this);
         if (!clientResult.getDistributionActionResult().equals(DistributionActionResultEnum.SUCCESS)) {
-            LOGGER.error("SDC client initialization failed with reason: {}. Initialization will be retried after {} {}",
-                clientResult.getDistributionMessageResult(), retryDelay, SECONDS);
+            LOGGER.error("SDC client initialization failed with reason: {}. Initialization will be retried",
+                clientResult.getDistributionMessageResult());
             return;
         }
         LOGGER.debug("SDC Client is initialized successfully");
@@ -154,19 +345,20 @@ public class SdcReceptionHandler extends AbstractReceptionHandler implements INo
     protected void startSdcClient() {
 
         LOGGER.debug("Going to start the SDC Client...");
-        if (sdcReceptionHandlerStatus != SdcReceptionHandlerStatus.INIT) {
+        if (getSdcReceptionHandlerStatus() != SdcReceptionHandlerStatus.INIT) {
             LOGGER.error("The SDC Client is not initialized");
             return;
         }
         final IDistributionClientResult clientResult = distributionClient.start();
         if (!clientResult.getDistributionActionResult().equals(DistributionActionResultEnum.SUCCESS)) {
-            LOGGER.error("SDC client start failed with reason: {}. Start will be retried after {} {}",
-                clientResult.getDistributionMessageResult(), retryDelay, SECONDS);
+            LOGGER.error("SDC client start failed with reason: {}. Start will be retried",
+                clientResult.getDistributionMessageResult());
             return;
         }
         LOGGER.debug("SDC Client is started successfully");
         changeSdcReceptionHandlerStatus(SdcReceptionHandlerStatus.IDLE);
         sdcClientHandler.cancel();
+        resumePendingNotifications();
     }
 
     /**
@@ -176,8 +368,8 @@ public class SdcReceptionHandler extends AbstractReceptionHandler implements INo
         LOGGER.debug("Going to stop the SDC Client...");
         final IDistributionClientResult clientResult = distributionClient.stop();
         if (!clientResult.getDistributionActionResult().equals(DistributionActionResultEnum.SUCCESS)) {
-            LOGGER.error("SDC client stop failed with reason: {}. Stop will be retried after {} {}",
-                clientResult.getDistributionMessageResult(), retryDelay, SECONDS);
+            LOGGER.error("SDC client stop failed with reason: {}. Stop will be retried",
+                clientResult.getDistributionMessageResult());
             return;
         }
         LOGGER.debug("SDC Client is stopped successfully");
@@ -186,113 +378,172 @@ public class SdcReceptionHandler extends AbstractReceptionHandler implements INo
     }
 
     /**
-     * Method to process csar service artifacts from incoming SDC notification.
+     * Method to process csar service artifacts from incoming SDC notification. The artifacts that are not relevant are
+     * skipped before being downloaded, the others are processed concurrently if an artifact parallelism is configured,
+     * the component done status sent once all the artifacts are processed reflecting the outcome of every artifact.
      *
      * @param notificationData the notification from SDC
      */
     public void processCsarServiceArtifacts(final INotificationData notificationData) {
-        var artifactsProcessedSuccessfully = true;
+        processCsarServiceArtifacts(notificationData.getDistributionID(), notificationData.getServiceArtifacts(),
+            Map.of());
+    }
+
+    /**
+     * Method to process the csar service artifacts of a notification that were not already processed, the component
+     * done status reflecting the outcome of the artifacts already processed as well.
+     *
+     * @param distributionId the distribution id of the notification
+     * @param serviceArtifacts the service artifacts of the notification
+     * @param processedArtifacts the outcome of the artifacts already processed, by artifact key
+     */
+    private void processCsarServiceArtifacts(final String distributionId,
+                                             final List<? extends IArtifactInfo> serviceArtifacts,
+                                             final Map<String, Boolean> processedArtifacts) {
         DistributionStatisticsManager.updateTotalDistributionCount();
-        for (final IArtifactInfo artifact : notificationData.getServiceArtifacts()) {
-            try {
-                final IDistributionClientDownloadResult resultArtifact =
-                    downloadTheArtifact(artifact, notificationData);
-                final var filePath = writeArtifactToFile(artifact, resultArtifact);
-                final var csarObject = new Csar(filePath.toString());
-                inputReceived(csarObject);
-                sendDistributionStatus(DistributionStatusType.DEPLOY, artifact.getArtifactURL(),
-                    notificationData.getDistributionID(), DistributionStatusEnum.DEPLOY_OK, null);
-                deleteArtifactFile(filePath);
-            } catch (final ArtifactDownloadException | PolicyDecodingException exp) {
-                LOGGER.error("Failed to process csar service artifacts ", exp);
-                artifactsProcessedSuccessfully = false;
-                sendDistributionStatus(DistributionStatusType.DEPLOY, artifact.getArtifactURL(),
-                    notificationData.getDistributionID(), DistributionStatusEnum.DEPLOY_ERROR,
-                    "Failed to deploy the artifact due to: " + exp.getMessage());
+        final List<IArtifactInfo> artifacts = serviceArtifacts.stream()
+            .filter(artifact -> processedArtifacts.isEmpty()
+                || !processedArtifacts.containsKey(SdcNotificationInbox.artifactKey(artifact)))
+            .filter(artifact -> artifactFilter == null || isRelevantArtifact(artifact))
+            .map(IArtifactInfo.class::cast).toList();
+        var artifactsProcessedSuccessfully = !processedArtifacts.containsValue(Boolean.FALSE);
+        if (artifactExecutor == null || artifacts.size() < 2) {
+            for (final IArtifactInfo artifact : artifacts) {
+                artifactsProcessedSuccessfully &= processAndRecordArtifact(artifact, distributionId);
+            }
+        } else {
+            final List<CompletableFuture<Boolean>> results = artifacts.stream()
+                .map(artifact -> CompletableFuture.supplyAsync(
+                    () -> processAndRecordArtifact(artifact, distributionId), artifactExecutor))
+                .toList();
+            for (final CompletableFuture<Boolean> result : results) {
+                artifactsProcessedSuccessfully &= result.join();
             }
         }
 
-        // NoSonar here for complaining about var not changing, when, in fact,
-        // can change to false when Exceptions are triggered.
-        if (artifactsProcessedSuccessfully) { // NOSONAR
+        if (artifactsProcessedSuccessfully) {
             DistributionStatisticsManager.updateDistributionSuccessCount();
-            sendComponentDoneStatus(notificationData.getDistributionID(), DistributionStatusEnum.COMPONENT_DONE_OK,
-                null);
+            sendComponentDoneStatus(distributionId, DistributionStatusEnum.COMPONENT_DONE_OK, null);
         } else {
             DistributionStatisticsManager.updateDistributionFailureCount();
-            sendComponentDoneStatus(notificationData.getDistributionID(), DistributionStatusEnum.COMPONENT_DONE_ERROR,
+            sendComponentDoneStatus(distributionId, DistributionStatusEnum.COMPONENT_DONE_ERROR,
                 "Failed to process the artifact");
         }
     }
 
+    /**
+     * Method to process a csar service artifact and record its outcome in the notification inbox.
+     *
+     * @param artifact the artifact
+     * @param distributionId the distribution id of the notification
+     * @return true if the artifact was processed successfully
+     */
+    private boolean processAndRecordArtifact(final IArtifactInfo artifact, final String distributionId) {
+        final var successful = processCsarServiceArtifact(artifact, distributionId);
+        if (notificationInbox != null) {
+            notificationInbox.artifactProcessed(distributionId, artifact, successful);
+        }
+        return successful;
+    }
+
+    /**
+     * Method to check from its metadata whether an artifact is to be downloaded and processed.
+     *
+     * @param artifact the artifact
+     * @return true if the artifact is relevant
+     */
+    private boolean isRelevantArtifact(final IArtifactInfo artifact) {
+        if (artifactFilter.isRelevant(artifact)) {
+            return true;
+        }
+        LOGGER.debug("Skipping artifact {} of type {} without downloading it", artifact.getArtifactName(),
+            artifact.getArtifactType());
+        DistributionStatisticsManager.updateSdcArtifactSkippedCount(getReceptionHandlerName());
+        return false;
+    }
+
+    /**
+     * Method to download, decode and forward a csar service artifact and report its deployment status to SDC. An
+     * artifact found in the artifact cache is not downloaded again, nor decoded and forwarded again if it was already
+     * distributed successfully and the cache is configured to skip the decoding.
+     *
+     * @param artifact the artifact
+     * @param distributionId the distribution id of the notification
+     * @return true if the artifact was processed successfully
+     */
+    private boolean processCsarServiceArtifact(final IArtifactInfo artifact, final String distributionId) {
+        try {
+            final var cachedArtifact = artifactCache != null ? artifactCache.get(artifact.getArtifactChecksum()) : null;
+            final byte[] payloadBytes;
+            if (cachedArtifact != null) {
+                LOGGER.debug("Artifact {} found in the artifact cache", artifact.getArtifactName());
+                sendDistributionStatus(DistributionStatusType.DOWNLOAD, artifact.getArtifactURL(),
+                    distributionId, DistributionStatusEnum.DOWNLOAD_OK, null);
+                payloadBytes = cachedArtifact.payload();
+            } else {
+                payloadBytes = downloadTheArtifact(artifact, distributionId).getArtifactPayload();
+                if (payloadBytes == null) {
+                    throw new ArtifactDownloadException(
+                        "No payload downloaded for artifact " + artifact.getArtifactName());
+                }
+                if (artifactCache != null) {
+                    artifactCache.put(artifact.getArtifactChecksum(), payloadBytes);
+                }
+            }
+            if (cachedArtifact == null || !cachedArtifact.distributed() || !artifactCacheSkipDecode) {
+                // the artifact is decoded straight from the downloaded payload rather than from a temporary file
+                final List<PolicyForwardingResult> results =
+                    inputReceived(new InMemoryCsar(artifact.getArtifactName(), payloadBytes));
+                if (artifactCache != null && results.stream().allMatch(PolicyForwardingResult::isSuccessful)) {
+                    artifactCache.markDistributed(artifact.getArtifactChecksum());
+                }
+            }
+            sendDistributionStatus(DistributionStatusType.DEPLOY, artifact.getArtifactURL(),
+                distributionId, DistributionStatusEnum.DEPLOY_OK, null);
+            return true;
+        } catch (final ArtifactDownloadException | PolicyDecodingException | RuntimeException exp) {
+            LOGGER.error("Failed to process csar service artifacts ", exp);
+            sendDistributionStatus(DistributionStatusType.DEPLOY, artifact.getArtifactURL(),
+                distributionId, DistributionStatusEnum.DEPLOY_ERROR,
+                "Failed to deploy the artifact due to: " + exp.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Method to download the distribution artifact.
      *
      * @param artifact the artifact
+     * @param distributionId the distribution id of the notification
      * @return the download result
      * @throws ArtifactDownloadException if download fails
      */
     private IDistributionClientDownloadResult downloadTheArtifact(final IArtifactInfo artifact,
-                                                                  final INotificationData notificationData)
+                                                                  final String distributionId)
         throws ArtifactDownloadException {
 
         DistributionStatisticsManager.updateTotalDownloadCount();
+        final var startTime = System.nanoTime();
         final IDistributionClientDownloadResult downloadResult = distributionClient.download(artifact);
+        DistributionStatisticsManager.observeDownloadDuration(getReceptionHandlerName(),
+            System.nanoTime() - startTime);
         if (!downloadResult.getDistributionActionResult().equals(DistributionActionResultEnum.SUCCESS)) {
             DistributionStatisticsManager.updateDownloadFailureCount();
             final String message = "Failed to download artifact with name: " + artifact.getArtifactName() + " due to: "
                 + downloadResult.getDistributionMessageResult();
             LOGGER.error(message);
             sendDistributionStatus(DistributionStatusType.DOWNLOAD, artifact.getArtifactURL(),
-                notificationData.getDistributionID(), DistributionStatusEnum.DOWNLOAD_ERROR, message);
+                distributionId, DistributionStatusEnum.DOWNLOAD_ERROR, message);
             throw new ArtifactDownloadException(message);
         }
         DistributionStatisticsManager.updateDownloadSuccessCount();
         sendDistributionStatus(DistributionStatusType.DOWNLOAD, artifact.getArtifactURL(),
-            notificationData.getDistributionID(), DistributionStatusEnum.DOWNLOAD_OK, null);
+            distributionId, DistributionStatusEnum.DOWNLOAD_OK, null);
         return downloadResult;
     }
 
     /**
-     * Method to write the downloaded distribution artifact to local file system.
-     *
-     * @param artifact       the notification artifact
-     * @param resultArtifact the download result artifact
-     * @return the local path of written file
-     * @throws ArtifactDownloadException if error occurs while writing the artifact
-     */
-    private Path writeArtifactToFile(final IArtifactInfo artifact,
-                                     final IDistributionClientDownloadResult resultArtifact)
-        throws ArtifactDownloadException {
-        try {
-            final byte[] payloadBytes = resultArtifact.getArtifactPayload();
-
-            final var tempArtifactFile = Optional.ofNullable(safelyCreateFile(artifact.getArtifactName()))
-                .orElseThrow(() -> new ArtifactDownloadException("Failed to create temporary file."));
-            try (var fileOutputStream = new FileOutputStream(tempArtifactFile)) {
-                fileOutputStream.write(payloadBytes, 0, payloadBytes.length);
-                return tempArtifactFile.toPath();
-            }
-        } catch (final Exception exp) {
-            throw new ArtifactDownloadException("Failed to write artifact to local repository", exp);
-        }
-    }
-
-    /**
-     * Method to delete the downloaded notification artifact from local file system.
-     *
-     * @param filePath the path of file
-     */
-    private void deleteArtifactFile(final Path filePath) {
-        try {
-            Files.deleteIfExists(filePath);
-        } catch (final IOException exp) {
-            LOGGER.error("Failed to delete the downloaded artifact file", exp);
-        }
-    }
-
-    /**
-     * Sends the distribution status to SDC using the input values.
+     * Queues the distribution status to be sent to SDC using the input values.
      *
      * @param statusType     the status type
      * @param artifactUrl    the artifact url
@@ -303,42 +554,23 @@ public class SdcReceptionHandler extends AbstractReceptionHandler implements INo
     private void sendDistributionStatus(final DistributionStatusType statusType, final String artifactUrl,
                                         final String distributionId, final DistributionStatusEnum status,
                                         final String errorReason) {
-
-        IDistributionClientResult clientResult;
         final IDistributionStatusMessage message = DistributionStatusMessage.builder().artifactUrl(artifactUrl)
             .consumerId(sdcConfig.getConsumerID()).distributionId(distributionId).distributionStatus(status)
             .timestamp(System.currentTimeMillis()).build();
-        if (DistributionStatusType.DOWNLOAD.equals(statusType)) {
-            if (errorReason != null) {
-                clientResult = distributionClient.sendDownloadStatus(message, errorReason);
-            } else {
-                clientResult = distributionClient.sendDownloadStatus(message);
-            }
-        } else {
-            if (errorReason != null) {
-                clientResult = distributionClient.sendDeploymentStatus(message, errorReason);
-            } else {
-                clientResult = distributionClient.sendDeploymentStatus(message);
-            }
-        }
-        final var loggerMessage = new StringBuilder();
-        loggerMessage.append("distribution status to SDC with values - ").append("DistributionId")
-            .append(distributionId).append(" Artifact: ").append(artifactUrl).append(" StatusType: ")
-            .append(statusType.name()).append(" Status: ").append(status.name());
-        if (errorReason != null) {
-            loggerMessage.append(" ErrorReason: ").append(errorReason);
-        }
-        if (!clientResult.getDistributionActionResult().equals(DistributionActionResultEnum.SUCCESS)) {
-            loggerMessage.insert(0, "Failed sending ");
-            LOGGER.debug("Failed sending {}", loggerMessage);
-        } else {
-            loggerMessage.insert(0, "Successfully Sent ");
-            LOGGER.debug("Successfully Sent {}", loggerMessage);
-        }
+        sendStatus(() -> "distribution status to SDC with values - DistributionId" + distributionId + " Artifact: "
+            + artifactUrl + " StatusType: " + statusType.name() + " Status: " + status.name()
+            + (errorReason != null ? " ErrorReason: " + errorReason : ""), () -> {
+                if (DistributionStatusType.DOWNLOAD.equals(statusType)) {
+                    return errorReason != null ? distributionClient.sendDownloadStatus(message, errorReason)
+                        : distributionClient.sendDownloadStatus(message);
+                }
+                return errorReason != null ? distributionClient.sendDeploymentStatus(message, errorReason)
+                    : distributionClient.sendDeploymentStatus(message);
+            });
     }
 
     /**
-     * Sends the component done status to SDC using the input values.
+     * Queues the component done status to be sent to SDC using the input values.
      *
      * @param distributionId the distribution Id
      * @param status         the distribution status
@@ -346,46 +578,56 @@ public class SdcReceptionHandler extends AbstractReceptionHandler implements INo
      */
     private void sendComponentDoneStatus(final String distributionId, final DistributionStatusEnum status,
                                          final String errorReason) {
-        IDistributionClientResult clientResult;
         final IComponentDoneStatusMessage message = ComponentDoneStatusMessage.builder()
             .consumerId(sdcConfig.getConsumerID()).distributionId(distributionId).distributionStatus(status)
             .timestamp(System.currentTimeMillis()).build();
-        if (errorReason == null) {
-            clientResult = distributionClient.sendComponentDoneStatus(message);
-        } else {
-            clientResult = distributionClient.sendComponentDoneStatus(message, errorReason);
-        }
+        sendStatus(() -> "component done status to SDC with values - DistributionId" + distributionId + " Status: "
+            + status.name() + (errorReason != null ? " ErrorReason: " + errorReason : ""),
+            () -> {
+                final IDistributionClientResult clientResult = errorReason == null
+                    ? distributionClient.sendComponentDoneStatus(message)
+                    : distributionClient.sendComponentDoneStatus(message, errorReason);
+                // the notification is only completed once SDC has its outcome, otherwise it is resumed on restart
+                if (notificationInbox != null
+                    && DistributionActionResultEnum.SUCCESS.equals(clientResult.getDistributionActionResult())) {
+                    notificationInbox.completed(distributionId);
+                }
+                return clientResult;
+            });
+    }
 
-        final var loggerMessage = new StringBuilder();
-        loggerMessage.append("component done status to SDC with values - ").append("DistributionId")
-            .append(distributionId).append(" Status: ").append(status.name());
-        if (errorReason != null) {
-            loggerMessage.append(" ErrorReason: ").append(errorReason);
+    /**
+     * Sends a status report to SDC through the status reporter, or straight away if there is none.
+     *
+     * @param description supplies the description of the report, only called when it is logged
+     * @param sender      sends the report to SDC
+     */
+    private void sendStatus(final Supplier<String> description, final Supplier<IDistributionClientResult> sender) {
+        if (statusReporter != null) {
+            statusReporter.report(description, sender);
+            return;
         }
+        final IDistributionClientResult clientResult = sender.get();
         if (!clientResult.getDistributionActionResult().equals(DistributionActionResultEnum.SUCCESS)) {
-            LOGGER.debug("Failed sending {}", loggerMessage);
-        } else {
-            LOGGER.debug("Successfully Sent {}", loggerMessage);
+            LOGGER.debug("Failed sending {}", description.get());
+        } else if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Successfully Sent {}", description.get());
         }
     }
 
     /**
-     * Handle the status change of {@link SdcReceptionHandler} to Idle.
+     * Waits for the tasks of an executor to complete after it is shut down.
      *
-     * @param newStatus the new status
+     * @param executor the executor
      */
-    private void handleIdleStatusChange(final SdcReceptionHandlerStatus newStatus) {
-        if (nbOfNotificationsOngoing.getAndUpdate(curval -> Math.max(0, curval - 1)) == 0) {
-            sdcReceptionHandlerStatus = newStatus;
-        }
-    }
-
-    private File safelyCreateFile(String prefix) throws IOException {
-        File file = Files.createTempFile(prefix, ".csar").toFile(); // NOSONAR
-        if (file.setReadable(true, false)
-            && file.setWritable(true, true)) {
-            return file;
+    private static void awaitTermination(final ExecutorService executor) {
+        try {
+            if (!executor.awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warn("Notifications from SDC still being processed after {} {}", TERMINATION_TIMEOUT_SECONDS,
+                    SECONDS);
+            }
+        } catch (final InterruptedException exp) {
+            Thread.currentThread().interrupt();
         }
-        return null;
     }
 }
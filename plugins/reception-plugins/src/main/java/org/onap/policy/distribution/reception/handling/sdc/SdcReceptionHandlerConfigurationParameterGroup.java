@@ -1,7 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2018 Intel. All rights reserved.
- *  Modifications Copyright (C) 2019-2022 Nordix Foundation.
+ *  Modifications Copyright (C) 2019-2022, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,8 +21,10 @@
 
 package org.onap.policy.distribution.reception.handling.sdc;
 
+import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
+import org.onap.policy.common.parameters.annotations.Min;
 import org.onap.policy.common.parameters.annotations.NotBlank;
 import org.onap.policy.common.parameters.annotations.NotNull;
 import org.onap.policy.distribution.reception.parameters.ReceptionHandlerConfigurationParameterGroup;
@@ -53,6 +55,37 @@ public class SdcReceptionHandlerConfigurationParameterGroup extends ReceptionHan
     private int httpsProxyPort;
     private int httpProxyPort;
 
+    // Number of artifacts of a notification downloaded and processed concurrently, one at a time if not set
+    private @Min(1) int artifactParallelism = 1;
+
+    // Artifacts skipped without being downloaded unless their type is one of the artifactTypes, if filterArtifactTypes
+    // is set, and their name matches one of the artifactNamePatterns regular expressions, if there are any
+    private boolean filterArtifactTypes;
+    private List<@NotNull String> artifactNamePatterns = new ArrayList<>();
+
+    // File in which the notifications and the progress of their artifacts are kept, so that the notifications not
+    // completed are resumed after a restart, the notifications are not kept if not set
+    private String inboxFile;
+
+    // Maximum total size of the artifact payloads cached by checksum to skip downloading them again, 0 to disable
+    // the cache, and whether an artifact already distributed successfully is also not decoded and forwarded again
+    private @Min(0) long artifactCacheMaxBytes = 0;
+    private boolean artifactCacheSkipDecode;
+
+    // Delay before the first retry of a failed start or stop of the SDC client, doubled on each further failure up
+    // to the retryDelay in seconds
+    private @Min(1) long initialRetryDelayMillis = 1000;
+
+    // Workers processing the notifications, 0 to process them on the thread of the SDC client, and the notifications
+    // waiting for a worker before the SDC client thread processes them itself
+    private @Min(0) int notificationWorkers = 0;
+    private @Min(1) int notificationQueueSize = 100;
+
+    // Status reports waiting to be sent to SDC, and how often and how far apart a failed report is sent again
+    private @Min(1) int statusQueueSize = 1000;
+    private @Min(0) int statusRetries = 3;
+    private @Min(0) long statusRetryDelayMillis = 1000;
+
     public SdcReceptionHandlerConfigurationParameterGroup() {
         super(SdcReceptionHandlerConfigurationParameterGroup.class.getSimpleName());
     }
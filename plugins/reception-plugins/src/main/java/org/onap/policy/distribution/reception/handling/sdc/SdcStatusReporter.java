@@ -0,0 +1,187 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.sdc;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
+import org.onap.sdc.api.results.IDistributionClientResult;
+import org.onap.sdc.utils.DistributionActionResultEnum;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends the status reports of the SDC reception handler to SDC from a background thread, so that the processing of a
+ * notification does not wait on the round trips to SDC. The reports are sent in the order they are queued, a report
+ * that fails being retried before the next one is sent, so that the component done status of a distribution always
+ * follows the statuses of its artifacts.
+ */
+class SdcStatusReporter implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SdcStatusReporter.class);
+
+    static final String SENT = "sent";
+    static final String RETRIED = "retried";
+    static final String FAILED = "failed";
+
+    private static final int BATCH_SIZE = 100;
+    private static final long POLL_MILLIS = 100;
+    private static final long CLOSE_TIMEOUT_MILLIS = 30_000;
+
+    private final String receptionHandlerName;
+    private final int retries;
+    private final long retryDelayMillis;
+    private final BlockingQueue<StatusReport> queue;
+    private final Thread sender;
+    private volatile boolean closed;
+
+    private record StatusReport(Supplier<String> description, Supplier<IDistributionClientResult> sender,
+                    long queuedNanos) {
+    }
+
+    /**
+     * Constructs the reporter and starts its sender thread.
+     *
+     * @param receptionHandlerName the name of the reception handler, used to label the statistics
+     * @param queueSize the maximum number of reports waiting to be sent
+     * @param retries the number of times a failed report is sent again
+     * @param retryDelayMillis the delay between two attempts to send a report
+     */
+    SdcStatusReporter(final String receptionHandlerName, final int queueSize, final int retries,
+                    final long retryDelayMillis) {
+        this.receptionHandlerName = receptionHandlerName;
+        this.retries = retries;
+        this.retryDelayMillis = retryDelayMillis;
+        queue = new ArrayBlockingQueue<>(queueSize);
+        sender = new Thread(this::sendReports, "sdc-status-reporter");
+        sender.setDaemon(true);
+        sender.start();
+    }
+
+    /**
+     * Queues a status report. The caller blocks while the queue is full, and the report is sent straight away once
+     * the reporter is closed.
+     *
+     * @param description supplies the description of the report, only called when it is logged
+     * @param sender sends the report to SDC
+     */
+    void report(final Supplier<String> description, final Supplier<IDistributionClientResult> sender) {
+        final var report = new StatusReport(description, sender, System.nanoTime());
+        if (!closed) {
+            try {
+                queue.put(report);
+                DistributionStatisticsManager.setSdcStatusQueueDepth(receptionHandlerName, queue.size());
+                return;
+            } catch (final InterruptedException exp) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        send(report);
+    }
+
+    /**
+     * Stops accepting reports and waits for the queued reports to be sent.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            sender.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (final InterruptedException exp) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            LOGGER.warn("{} status reports to SDC were not sent before the timeout", queue.size());
+        }
+    }
+
+    private void sendReports() {
+        final List<StatusReport> batch = new ArrayList<>(BATCH_SIZE);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                final var report = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (report == null) {
+                    continue;
+                }
+                batch.add(report);
+            } catch (final InterruptedException exp) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            DistributionStatisticsManager.setSdcStatusQueueDepth(receptionHandlerName, queue.size());
+            for (final StatusReport report : batch) {
+                send(report);
+            }
+            batch.clear();
+        }
+    }
+
+    private void send(final StatusReport report) {
+        for (var attempt = 0; attempt <= retries; attempt++) {
+            if (attempt > 0) {
+                DistributionStatisticsManager.updateSdcStatusReportCount(receptionHandlerName, RETRIED);
+                if (!sleep()) {
+                    break;
+                }
+            }
+            if (trySend(report)) {
+                DistributionStatisticsManager.updateSdcStatusReportCount(receptionHandlerName, SENT);
+                DistributionStatisticsManager.observeSdcStatusDelay(receptionHandlerName,
+                                System.nanoTime() - report.queuedNanos());
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Successfully Sent {}", report.description().get());
+                }
+                return;
+            }
+        }
+        DistributionStatisticsManager.updateSdcStatusReportCount(receptionHandlerName, FAILED);
+        LOGGER.warn("Failed sending {}", report.description().get());
+    }
+
+    private boolean trySend(final StatusReport report) {
+        try {
+            final IDistributionClientResult clientResult = report.sender().get();
+            if (DistributionActionResultEnum.SUCCESS.equals(clientResult.getDistributionActionResult())) {
+                return true;
+            }
+            LOGGER.debug("SDC rejected the status report: {}", clientResult.getDistributionMessageResult());
+        } catch (final RuntimeException exp) {
+            LOGGER.debug("Failed to send the status report to SDC", exp);
+        }
+        return false;
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(retryDelayMillis);
+            return true;
+        } catch (final InterruptedException exp) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.Getter;
+
+/**
+ * Stream over the inflated contents of a zip entry that counts the bytes read from it and fails the read that takes
+ * the entry beyond its size limit or its compression ratio limit. This lets a decoder consume an entry in a single
+ * pass while a zip bomb is still rejected as soon as it crosses the limits, rather than after being inflated in full.
+ */
+class BoundedEntryInputStream extends FilterInputStream {
+
+    private final String entryName;
+    private final long compressedSize;
+    private final long maxSize;
+    private final double maxRatio;
+
+    @Getter
+    private long bytesRead;
+
+    // The reason the entry was rejected, null while the entry is within its limits
+    @Getter
+    private String violation;
+
+    /**
+     * Create a bounded stream over the inflated contents of a zip entry.
+     *
+     * @param entryData the inflated contents of the entry
+     * @param entryName the name of the entry
+     * @param compressedSize the compressed size of the entry, the ratio isn't checked if it isn't known
+     * @param maxSize the maximum number of bytes that may be read from the entry
+     * @param maxRatio the maximum ratio between the bytes read and the compressed size of the entry
+     */
+    BoundedEntryInputStream(final InputStream entryData, final String entryName, final long compressedSize,
+            final long maxSize, final double maxRatio) {
+        super(entryData);
+        this.entryName = entryName;
+        this.compressedSize = compressedSize;
+        this.maxSize = maxSize;
+        this.maxRatio = maxRatio;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int read() throws IOException {
+        final var data = super.read();
+        if (data >= 0) {
+            count(1);
+        }
+        return data;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        final var count = super.read(buffer, offset, length);
+        if (count > 0) {
+            count(count);
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long skip(final long length) throws IOException {
+        final var count = super.skip(length);
+        if (count > 0) {
+            count(count);
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean markSupported() {
+        // replaying marked data would count it twice
+        return false;
+    }
+
+    private void count(final long count) throws IOException {
+        bytesRead += count;
+
+        if (bytesRead > maxSize) {
+            violation = "Zip entry " + entryName + " exceeds the maximum uncompressed size of " + maxSize + " bytes";
+        } else if (compressedSize > 0 && (double) bytesRead / compressedSize > maxRatio) {
+            violation = "Zip entry " + entryName + " exceeds the maximum compression ratio of " + maxRatio;
+        }
+
+        if (violation != null) {
+            throw new IOException(violation);
+        }
+    }
+}
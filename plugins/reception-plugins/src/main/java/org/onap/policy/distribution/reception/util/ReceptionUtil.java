@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2022 Nordix Foundation.
+ *  Copyright (C) 2022, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,18 +20,16 @@
 
 package org.onap.policy.distribution.reception.util;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InvalidClassException;
 import java.nio.file.Path;
-import java.util.Enumeration;
 import java.util.Map;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
 import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.common.utils.coder.StandardCoder;
 import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.distribution.model.CsarArchive;
 import org.onap.policy.distribution.reception.decoding.PolicyDecodingException;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
 
@@ -50,7 +48,8 @@ public class ReceptionUtil {
     private static final StandardYamlCoder yamlCoder = new StandardYamlCoder();
     private static final long THRESHOLD_SIZE = 512L * 1024;
     private static final int THRESHOLD_ENTRIES = 10000;
-    private static final double THRESHOLD_RATIO = 20;
+    // Compression ratio of a zip bomb rather than of verbose json or yaml, which can compress to over 30 times smaller
+    private static final double THRESHOLD_RATIO = 100;
 
     /**
      * Method to ensure validation of entries in the Zipfile. Attempts to solve path
@@ -103,34 +102,43 @@ public class ReceptionUtil {
      */
     public static void unzip(String csarFilename, Map<String, ToscaServiceTemplate> unzippedTemplates, String... filter)
         throws PolicyDecodingException, CoderException {
-        try (var zipFile = new ZipFile(csarFilename)) {
-            int totalSizeArchive = 0;
-            int totalEntryArchive = 0;
+        try (var archive = new CsarArchive(csarFilename)) {
+            unzip(archive, unzippedTemplates, filter);
+        } catch (IOException exception) {
+            throw new PolicyDecodingException("Couldn't read the zipFile", exception);
+        }
+    }
 
-            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+    /**
+     * Unzip the entries of a shared csar archive following the security recommendations from sonar cloud to avoid a
+     * zip bomb attack. Each entry is inflated once, straight into the decoder, and rejected as soon as it crosses the
+     * size or compression ratio thresholds. Templates already decoded from the archive by another decoder are reused
+     * rather than inflated and decoded again.
+     *
+     * @param archive           the archive view of the csar file.
+     * @param unzippedTemplates the templates which should be unzipped.
+     * @param filter            contains the keywords for the entry name.
+     * @throws PolicyDecodingException in case zip file can't be read or exceeds the thresholds
+     * @throws CoderException          in case files can't be decoded to a template
+     */
+    public static void unzip(CsarArchive archive, Map<String, ToscaServiceTemplate> unzippedTemplates,
+        String... filter) throws PolicyDecodingException, CoderException {
+        try {
+            long totalSizeArchive = 0;
+            int totalEntryArchive = 0;
 
-            while (entries.hasMoreElements()) {
-                ZipEntry entry = entries.nextElement();
+            for (ZipEntry entry : archive.getEntries()) {
                 totalEntryArchive++;
 
                 if (checkEntryFilter(entry.getName(), filter)) {
-                    validateZipEntry(entry.getName(), csarFilename);
-                    InputStream entryData = new BufferedInputStream(zipFile.getInputStream(entry));
-
-                    int bufferedBytes;
-                    byte[] buffer = new byte[2048];
-                    int totalSizeEntry = 0;
-
-                    boolean isValidThreshold = true;
-                    while ((bufferedBytes = entryData.read(buffer)) > 0 && isValidThreshold) {
-                        totalSizeEntry += bufferedBytes;
-                        totalSizeArchive += bufferedBytes;
-
-                        double compressionRatio = Math.floorDiv(totalSizeEntry, entry.getCompressedSize());
-                        isValidThreshold = compressionRatio <= THRESHOLD_RATIO;
+                    validateZipEntry(entry.getName(), archive.getCsarFilePath());
+                    var unzipped = archive.getParsedEntry(entry.getName(), UnzippedTemplate.class);
+                    if (unzipped == null) {
+                        unzipped = unzipEntry(archive, entry, THRESHOLD_SIZE - totalSizeArchive);
+                        archive.putParsedEntry(entry.getName(), unzipped);
                     }
-
-                    unzippedTemplates.put(entry.getName(), decodeFile(entry.getName(), zipFile.getInputStream(entry)));
+                    totalSizeArchive += unzipped.size();
+                    unzippedTemplates.put(entry.getName(), unzipped.template());
                 }
 
                 if (totalSizeArchive > THRESHOLD_SIZE || totalEntryArchive > THRESHOLD_ENTRIES) {
@@ -143,6 +151,22 @@ public class ReceptionUtil {
         }
     }
 
+    private static UnzippedTemplate unzipEntry(CsarArchive archive, ZipEntry entry, long maxSize)
+        throws IOException, CoderException, PolicyDecodingException {
+        // the entry is inflated once, straight into the coder, and abandoned as soon as it crosses a threshold
+        try (var entryData = new BoundedEntryInputStream(archive.getInputStream(entry), entry.getName(),
+            entry.getCompressedSize(), maxSize, THRESHOLD_RATIO)) {
+            try {
+                return new UnzippedTemplate(decodeFile(entry.getName(), entryData), entryData.getBytesRead());
+            } catch (CoderException | RuntimeException exception) {
+                if (entryData.getViolation() != null) {
+                    throw new PolicyDecodingException(entryData.getViolation(), exception);
+                }
+                throw exception;
+            }
+        }
+    }
+
     /**
      * Check if entry is the one to be unzipped based on the filter.
      *
@@ -158,4 +182,8 @@ public class ReceptionUtil {
         }
         return false;
     }
+
+    // A template decoded from a csar entry along with the uncompressed size of the entry
+    private record UnzippedTemplate(ToscaServiceTemplate template, long size) {
+    }
 }
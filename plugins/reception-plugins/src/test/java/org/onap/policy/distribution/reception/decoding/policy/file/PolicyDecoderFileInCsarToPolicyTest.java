@@ -1,7 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2018 Ericsson. All rights reserved.
- *  Modifications Copyright (C) 2019-2020, 2022 Nordix Foundation.
+ *  Modifications Copyright (C) 2019-2020, 2022, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,16 +21,30 @@
 
 package org.onap.policy.distribution.reception.decoding.policy.file;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.onap.policy.common.parameters.ParameterService;
 import org.onap.policy.distribution.model.Csar;
+import org.onap.policy.distribution.model.InMemoryCsar;
 import org.onap.policy.distribution.reception.decoding.PolicyDecodingException;
 import org.onap.policy.distribution.reception.handling.sdc.CommonTestData;
 
@@ -89,6 +103,150 @@ class PolicyDecoderFileInCsarToPolicyTest {
         assertEquals(2, policyHolders.size());
     }
 
+    @Test
+    void testDecodePolicySharedArchive() throws PolicyDecodingException, IOException {
+
+        final var decoder = new PolicyDecoderFileInCsarToPolicy();
+        decoder.configure(PolicyDecoderFileInCsarToPolicyParameterGroup.class.getSimpleName());
+
+        final var file = new File("src/test/resources/service-Sampleservice.csar");
+        final var csar = new Csar(file.getAbsolutePath());
+
+        final var first = decoder.decode(csar);
+        final var second = decoder.decode(csar);
+        assertEquals(2, second.size());
+        assertThat(second).allMatch(policy -> first.stream().anyMatch(decoded -> decoded == policy));
+
+        csar.close();
+        final var reopened = decoder.decode(csar);
+        assertEquals(2, reopened.size());
+        assertThat(reopened).noneMatch(policy -> first.stream().anyMatch(decoded -> decoded == policy));
+        csar.close();
+    }
+
+    @Test
+    void testDecodeInMemoryPolicy() throws PolicyDecodingException, IOException {
+
+        final var decoder = new PolicyDecoderFileInCsarToPolicy();
+        decoder.configure(PolicyDecoderFileInCsarToPolicyParameterGroup.class.getSimpleName());
+
+        final var csar = new InMemoryCsar("service-Sampleservice.csar",
+                Files.readAllBytes(Path.of("src/test/resources/service-Sampleservice.csar")));
+
+        assertTrue(decoder.canHandle(csar));
+        final var policyHolders = decoder.decode(csar);
+        assertEquals(2, policyHolders.size());
+        csar.close();
+    }
+
+    @Test
+    void testDecodeInMemoryPolicyWithDataDescriptors() throws PolicyDecodingException, IOException {
+
+        final var decoder = new PolicyDecoderFileInCsarToPolicy();
+        decoder.configure(PolicyDecoderFileInCsarToPolicyParameterGroup.class.getSimpleName());
+
+        // a zip stream writes the sizes of deflated entries after their data rather than in their local headers
+        final var payload = new ByteArrayOutputStream();
+        try (var zipFile = new ZipFile("src/test/resources/service-Sampleservice.csar");
+                var zipStream = new ZipOutputStream(payload)) {
+            for (final var entry : zipFile.stream().toList()) {
+                zipStream.putNextEntry(new ZipEntry(entry.getName()));
+                try (var entryData = zipFile.getInputStream(entry)) {
+                    entryData.transferTo(zipStream);
+                }
+                zipStream.closeEntry();
+            }
+        }
+
+        final var csar = new InMemoryCsar("service-Sampleservice.csar", payload.toByteArray());
+        assertEquals(2, decoder.decode(csar).size());
+        assertThat(csar.getArchive().getEntries()).allMatch(entry -> entry.getCompressedSize() > 0);
+        csar.close();
+    }
+
+    @Test
+    void testDecodeInMemoryPolicyZipBomb() throws IOException {
+
+        final var decoder = new PolicyDecoderFileInCsarToPolicy();
+        decoder.configure(PolicyDecoderFileInCsarToPolicyParameterGroup.class.getSimpleName());
+
+        final var payload = new ByteArrayOutputStream();
+        try (var zipStream = new ZipOutputStream(payload)) {
+            zipStream.putNextEntry(new ZipEntry("Artifacts/Deployment/OTHER/apex_ddf_policy.json"));
+            final var spaces = new byte[1024 * 1024];
+            Arrays.fill(spaces, (byte) ' ');
+            zipStream.write(spaces);
+            zipStream.closeEntry();
+        }
+
+        final var csar = new InMemoryCsar("bomb.csar", payload.toByteArray());
+        assertThatThrownBy(() -> decoder.decode(csar)).isInstanceOf(PolicyDecodingException.class);
+        csar.close();
+    }
+
+    @Test
+    void testDecodeInMemoryPolicyTruncated() throws IOException {
+
+        final var decoder = new PolicyDecoderFileInCsarToPolicy();
+        decoder.configure(PolicyDecoderFileInCsarToPolicyParameterGroup.class.getSimpleName());
+
+        final var contents = Files.readAllBytes(Path.of("src/test/resources/service-Sampleservice.csar"));
+        final var csar = new InMemoryCsar("truncated.csar", Arrays.copyOf(contents, contents.length / 2));
+
+        assertThatThrownBy(() -> decoder.decode(csar)).isInstanceOf(PolicyDecodingException.class)
+        .hasMessageContaining("Couldn't read the zipFile");
+    }
+
+    @Test
+    void testDecodeInMemoryPolicyBadCrc() throws IOException {
+
+        final var decoder = new PolicyDecoderFileInCsarToPolicy();
+        decoder.configure(PolicyDecoderFileInCsarToPolicyParameterGroup.class.getSimpleName());
+
+        final var contents = Files.readAllBytes(Path.of("src/test/resources/service-Sampleservice.csar"));
+        final var buffer = ByteBuffer.wrap(contents).order(ByteOrder.LITTLE_ENDIAN);
+        for (final int header : centralHeaders(buffer)) {
+            buffer.putInt(header + 16, ~buffer.getInt(header + 16));
+        }
+        final var csar = new InMemoryCsar("bad-crc.csar", contents);
+
+        assertThatThrownBy(() -> decoder.decode(csar)).isInstanceOf(PolicyDecodingException.class)
+                .hasStackTraceContaining("Invalid size or CRC-32 of zip entry");
+        csar.close();
+    }
+
+    @Test
+    void testDecodeInMemoryPolicyMismatchedLocalHeader() throws IOException {
+
+        final var decoder = new PolicyDecoderFileInCsarToPolicy();
+        decoder.configure(PolicyDecoderFileInCsarToPolicyParameterGroup.class.getSimpleName());
+
+        final var contents = Files.readAllBytes(Path.of("src/test/resources/service-Sampleservice.csar"));
+        final var buffer = ByteBuffer.wrap(contents).order(ByteOrder.LITTLE_ENDIAN);
+        for (final int header : centralHeaders(buffer)) {
+            // rename the entry in its local header only
+            contents[buffer.getInt(header + 42) + 30] = '_';
+        }
+        final var csar = new InMemoryCsar("mismatched.csar", contents);
+
+        assertThatThrownBy(() -> decoder.decode(csar)).isInstanceOf(PolicyDecodingException.class)
+                .hasStackTraceContaining("Invalid zip local header");
+        csar.close();
+    }
+
+    @Test
+    void testDecodeInMemoryPolicyZipError() {
+
+        final var decoder = new PolicyDecoderFileInCsarToPolicy();
+        decoder.configure(PolicyDecoderFileInCsarToPolicyParameterGroup.class.getSimpleName());
+
+        final var csar = new InMemoryCsar("invalid.csar", new byte[1]);
+
+        assertTrue(decoder.canHandle(csar));
+        assertThatThrownBy(() -> decoder.decode(csar)).isInstanceOf(PolicyDecodingException.class)
+        .hasMessageContaining("Couldn't read the zipFile");
+    }
+
     @Test
     void testDecodePolicyZipError() {
 
@@ -117,4 +275,18 @@ class PolicyDecoderFileInCsarToPolicyTest {
         assertThatThrownBy(() -> decoder.decode(csar)).isInstanceOf(PolicyDecodingException.class)
         .hasMessageContaining("Failed decoding the policy");
     }
+
+    // Offsets of the central directory headers of a zip without a comment
+    private static List<Integer> centralHeaders(final ByteBuffer buffer) {
+        final int end = buffer.limit() - 22;
+        final List<Integer> headers = new ArrayList<>();
+        var header = buffer.getInt(end + 16);
+        for (var i = 0; i < Short.toUnsignedInt(buffer.getShort(end + 10)); i++) {
+            headers.add(header);
+            header += 46 + Short.toUnsignedInt(buffer.getShort(header + 28))
+                    + Short.toUnsignedInt(buffer.getShort(header + 30))
+                    + Short.toUnsignedInt(buffer.getShort(header + 32));
+        }
+        return headers;
+    }
 }
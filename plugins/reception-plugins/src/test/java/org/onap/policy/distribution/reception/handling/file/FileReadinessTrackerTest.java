@@ -0,0 +1,134 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Class to perform unit test of {@link FileReadinessTracker}.
+ */
+class FileReadinessTrackerTest {
+
+    private static final Path CSAR = Path.of("src/test/resources/hpaPolicyHugePage.csar");
+
+    @TempDir
+    private Path watchPath;
+
+    @TempDir
+    private Path quarantinePath;
+
+    private final BlockingQueue<Path> readyFiles = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Path> rejectedFiles = new LinkedBlockingQueue<>();
+    private FileReadinessTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new FileReadinessTracker(readyFiles::add, rejectedFiles::add, 50, 1000, quarantinePath);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.close();
+    }
+
+    @Test
+    void testCompleteFileDispatchedOnce() throws IOException, InterruptedException {
+        final var file = Files.copy(CSAR, watchPath.resolve("complete.csar"));
+        tracker.track(file);
+        tracker.track(file);
+
+        assertEquals(file, readyFiles.poll(5, TimeUnit.SECONDS));
+        assertNull(readyFiles.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testFileDispatchedOnceWritten() throws IOException, InterruptedException {
+        final var contents = Files.readAllBytes(CSAR);
+        final var file = watchPath.resolve("growing.csar");
+        Files.write(file, Arrays.copyOf(contents, contents.length / 2));
+        tracker.track(file);
+
+        assertNull(readyFiles.poll(300, TimeUnit.MILLISECONDS));
+
+        Files.write(file, Arrays.copyOfRange(contents, contents.length / 2, contents.length),
+            StandardOpenOption.APPEND);
+        tracker.track(file);
+        assertEquals(file, readyFiles.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testUnchangedFileDispatchedAfterSingleQuiescencePeriod() throws IOException, InterruptedException {
+        tracker.close();
+        tracker = new FileReadinessTracker(readyFiles::add, rejectedFiles::add, 1000, 10000, quarantinePath);
+        final var file = Files.copy(CSAR, watchPath.resolve("unchanged.csar"));
+
+        final var startTime = System.nanoTime();
+        tracker.track(file);
+        assertEquals(file, readyFiles.poll(5, TimeUnit.SECONDS));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)).isBetween(1000L, 1900L);
+    }
+
+    @Test
+    void testFileBeingWrittenIgnored() throws IOException, InterruptedException {
+        tracker.track(Files.copy(CSAR, watchPath.resolve("ignored.csar.part")));
+        tracker.track(Files.copy(CSAR, watchPath.resolve(".ignored.csar")));
+
+        assertNull(readyFiles.poll(300, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testInvalidFileQuarantined() throws IOException, InterruptedException {
+        final var file = Files.writeString(watchPath.resolve("invalid.csar"), "not a zip file");
+        tracker.track(file);
+
+        assertEquals(file, rejectedFiles.poll(5, TimeUnit.SECONDS));
+        assertTrue(readyFiles.isEmpty());
+        assertFalse(Files.exists(file));
+        assertTrue(Files.exists(quarantinePath.resolve("invalid.csar")));
+    }
+
+    @Test
+    void testRemovedFileDropped() throws IOException, InterruptedException {
+        final var file = Files.copy(CSAR, watchPath.resolve("removed.csar"));
+        tracker.track(file);
+        Files.delete(file);
+
+        assertNull(readyFiles.poll(300, TimeUnit.MILLISECONDS));
+        assertTrue(rejectedFiles.isEmpty());
+    }
+}
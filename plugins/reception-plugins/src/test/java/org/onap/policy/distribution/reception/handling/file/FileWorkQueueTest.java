@@ -0,0 +1,148 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
+
+/**
+ * Class to perform unit test of {@link FileWorkQueue}.
+ */
+class FileWorkQueueTest {
+
+    private static final String HANDLER_NAME = "FileWorkQueueTest";
+
+    @TempDir
+    private Path watchPath;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final BlockingQueue<Path> startedFiles = new LinkedBlockingQueue<>();
+    private FileWorkQueue workQueue;
+
+    @BeforeEach
+    void setUp() {
+        DistributionStatisticsManager.resetAllStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        workQueue.shutdown();
+    }
+
+    @Test
+    void testFilesHeldPendingWhenQueueFull() throws IOException, InterruptedException {
+        workQueue = new FileWorkQueue(HANDLER_NAME, 1, 1, 0, this::process);
+        final var files = List.of(createFile("a", 10), createFile("b", 10), createFile("c", 10), createFile("d", 10));
+        files.forEach(workQueue::submit);
+
+        assertEquals(files.get(0), startedFiles.poll(5, TimeUnit.SECONDS));
+        assertTrue(workQueue.isSaturated());
+        assertEquals(3, workQueue.getQueueDepth());
+        assertEquals(3, DistributionStatisticsManager.getFileQueueDepth(HANDLER_NAME));
+        assertEquals(20, DistributionStatisticsManager.getFileInFlightBytes(HANDLER_NAME));
+
+        release.countDown();
+        for (final Path file : files.subList(1, files.size())) {
+            assertEquals(file, startedFiles.poll(5, TimeUnit.SECONDS));
+        }
+        workQueue.awaitCapacity();
+        assertFalse(workQueue.isSaturated());
+    }
+
+    @Test
+    void testFilesHeldPendingWhenInFlightBytesReached() throws IOException, InterruptedException {
+        workQueue = new FileWorkQueue(HANDLER_NAME, 2, 10, 15, this::process);
+        final var first = createFile("first", 10);
+        final var second = createFile("second", 10);
+        workQueue.submit(first);
+        workQueue.submit(second);
+
+        assertEquals(first, startedFiles.poll(5, TimeUnit.SECONDS));
+        assertTrue(workQueue.isSaturated());
+        assertEquals(10, DistributionStatisticsManager.getFileInFlightBytes(HANDLER_NAME));
+
+        release.countDown();
+        assertEquals(second, startedFiles.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testOversizedFileAdmittedAlone() throws IOException, InterruptedException {
+        workQueue = new FileWorkQueue(HANDLER_NAME, 2, 10, 15, this::process);
+        final var oversized = createFile("oversized", 100);
+        workQueue.submit(oversized);
+
+        assertEquals(oversized, startedFiles.poll(5, TimeUnit.SECONDS));
+        assertFalse(workQueue.isSaturated());
+    }
+
+    @Test
+    void testFileInFlightUntilHandedOffProcessingCompletes() throws IOException, InterruptedException {
+        final var processing = new CompletableFuture<Void>();
+        workQueue = new FileWorkQueue(HANDLER_NAME, 2, 10, 15, file -> {
+            startedFiles.add(file);
+            return processing;
+        });
+        final var first = createFile("first", 10);
+        final var second = createFile("second", 10);
+        workQueue.submit(first);
+        workQueue.submit(second);
+
+        // the worker returns at once, but the first file is not processed until its processing completes
+        assertEquals(first, startedFiles.poll(5, TimeUnit.SECONDS));
+        assertTrue(workQueue.isSaturated());
+        assertEquals(10, DistributionStatisticsManager.getFileInFlightBytes(HANDLER_NAME));
+
+        processing.complete(null);
+        assertEquals(second, startedFiles.poll(5, TimeUnit.SECONDS));
+    }
+
+    private Path createFile(final String name, final int size) throws IOException {
+        return Files.write(watchPath.resolve(name + ".csar"), new byte[size]);
+    }
+
+    private CompletionStage<?> process(final Path file) {
+        startedFiles.add(file);
+        try {
+            release.await();
+        } catch (final InterruptedException exp) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,105 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.policy.distribution.reception.handling.file.ProcessedFileJournal.Entry;
+import org.onap.policy.distribution.reception.handling.file.ProcessedFileJournal.Outcome;
+
+/**
+ * Class to perform unit test of {@link ProcessedFileJournal}.
+ */
+class ProcessedFileJournalTest {
+
+    // SHA-256 of "first"
+    private static final String FIRST_HASH = "a7937b64b8caa58f03721bb6bacf5c78cb235febe0e70b1b84cd99541461a08e";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void testRecord() throws IOException {
+        final var file = createFile("first.csar", "first", 1000);
+        final var journal = new ProcessedFileJournal(tempDir.resolve("journal"));
+
+        final var entry = journal.record(file, Outcome.SUCCESS);
+        assertEquals(new Entry(file.toString(), 5, 1000, FIRST_HASH, Outcome.SUCCESS), entry);
+        assertThat(journal.getEntries()).containsExactly(entry);
+
+        assertNull(journal.record(tempDir.resolve("missing.csar"), Outcome.FAILURE));
+        assertThat(journal.getEntries()).containsExactly(entry);
+    }
+
+    @Test
+    void testReload() throws IOException {
+        final var journalFile = tempDir.resolve("journal");
+        final var first = createFile("first.csar", "first", 1000);
+        final var second = createFile("second.csar", "second", 2000);
+
+        final var journal = new ProcessedFileJournal(journalFile);
+        journal.record(first, Outcome.FAILURE);
+        final var secondEntry = journal.record(second, Outcome.REJECTED);
+        final var firstEntry = journal.record(first, Outcome.SUCCESS);
+        Files.writeString(journalFile, "invalid entry" + System.lineSeparator(), StandardOpenOption.APPEND);
+
+        assertThat(new ProcessedFileJournal(journalFile).getEntries()).containsExactly(secondEntry, firstEntry);
+
+        // the journal was compacted to the latest entry of each file when it was loaded
+        assertThat(Files.readAllLines(journalFile)).hasSize(2);
+    }
+
+    @Test
+    void testCompactedWhileRecording() throws IOException {
+        final var journalFile = tempDir.resolve("journal");
+        final var journal = new ProcessedFileJournal(journalFile, 2);
+        final var kept = createFile("kept.csar", "kept", 1000);
+        journal.record(kept, Outcome.SUCCESS);
+
+        // the files moved away once processed are dropped by the compactions, which keep the journal within the
+        // entries kept plus the entries appended up to the threshold
+        for (var i = 0; i < 10; i++) {
+            final var moved = createFile("moved" + i + ".csar", "moved", 1000);
+            journal.record(moved, Outcome.SUCCESS);
+            Files.delete(moved);
+        }
+
+        assertThat(journal.getEntries()).hasSizeLessThanOrEqualTo(4);
+        assertThat(Files.readAllLines(journalFile)).hasSizeLessThanOrEqualTo(4);
+        assertThat(new ProcessedFileJournal(journalFile).getEntries()).extracting(Entry::path)
+            .containsExactly(kept.toString());
+    }
+
+    private Path createFile(final String name, final String contents, final long lastModified) throws IOException {
+        final var file = Files.writeString(tempDir.resolve(name), contents);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+        return file;
+    }
+}
@@ -1,7 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2018 Intel. All rights reserved.
- *  Copyright (C) 2019-2020, 2022 Nordix Foundation.
+ *  Copyright (C) 2019-2020, 2022, 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,7 +21,10 @@
 
 package org.onap.policy.distribution.reception.handling.file;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
@@ -30,7 +33,13 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,7 +48,19 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 import org.onap.policy.common.parameters.ParameterService;
+import org.onap.policy.distribution.forwarding.PolicyForwardingException;
+import org.onap.policy.distribution.forwarding.parameters.PolicyForwarderParameters;
+import org.onap.policy.distribution.reception.decoding.policy.file.PolicyDecoderFileInCsarToPolicy;
+import org.onap.policy.distribution.reception.decoding.policy.file.PolicyDecoderFileInCsarToPolicyParameterGroup;
+import org.onap.policy.distribution.reception.handling.AbstractReceptionHandler;
+import org.onap.policy.distribution.reception.handling.PluginHandler;
+import org.onap.policy.distribution.reception.handling.file.FileSystemReceptionHandlerConfigurationParameterGroup.DiscoveryMode;
+import org.onap.policy.distribution.reception.handling.sdc.CommonTestData;
+import org.onap.policy.distribution.reception.handling.sdc.DummyPolicyForwarder;
+import org.onap.policy.distribution.reception.parameters.PluginHandlerParameters;
+import org.onap.policy.distribution.reception.parameters.PolicyDecoderParameters;
 import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,6 +70,7 @@ import org.slf4j.LoggerFactory;
 class TestFileSystemReceptionHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TestFileSystemReceptionHandler.class);
+    private static final String SERVICE_CSAR = "src/test/resources/service-Sampleservice.csar";
 
     @TempDir
     public File tempFolder;
@@ -156,4 +178,221 @@ class TestFileSystemReceptionHandler {
         verify(sypHandler, Mockito.times(1)).createPolicyInputAndCallHandler(Mockito.isA(String.class));
 
     }
+
+    @Test
+    void testBacklogScannedOnStartup() throws IOException, InterruptedException {
+        final var watchPath = tempFolder.getAbsolutePath();
+        Files.copy(Paths.get("src/test/resources/hpaPolicyHugePage.csar"),
+                Paths.get(watchPath + File.separator + "hpaPolicyHugePage.csar"));
+        pssdConfigParameters.setWatchPath(watchPath);
+        pssdConfigParameters.setScanBacklogOnStartup(true);
+        pssdConfigParameters.setFileQuiescenceMillis(50);
+
+        final var processed = new CountDownLatch(1);
+        final var watcher = startWatcher(watchPath, processed);
+
+        assertTrue(processed.await(10, TimeUnit.SECONDS));
+        watcher.stop();
+        verify(watcher.handler(), Mockito.times(1)).createPolicyInputAndCallHandler(Mockito.isA(String.class));
+    }
+
+    @Test
+    void testPollingDiscovery() throws IOException, InterruptedException {
+        final var watchPath = tempFolder.getAbsolutePath();
+        pssdConfigParameters.setWatchPath(watchPath);
+        pssdConfigParameters.setDiscoveryMode(DiscoveryMode.POLLING);
+        pssdConfigParameters.setScanIntervalMillis(20);
+        pssdConfigParameters.setFileQuiescenceMillis(50);
+
+        final var processed = new CountDownLatch(1);
+        final var watcher = startWatcher(watchPath, processed);
+
+        Files.copy(Paths.get("src/test/resources/hpaPolicyHugePage.csar"),
+                Paths.get(watchPath + File.separator + "hpaPolicyHugePage.csar"));
+
+        assertTrue(processed.await(10, TimeUnit.SECONDS));
+        watcher.stop();
+        verify(watcher.handler(), Mockito.times(1)).createPolicyInputAndCallHandler(Mockito.isA(String.class));
+    }
+
+    @Test
+    void testRecursiveWatchDirectory() throws IOException, InterruptedException {
+        final var watchPath = Files.createDirectory(tempFolder.toPath().resolve("watch")).toString();
+        final var dropPath = Files.createDirectory(tempFolder.toPath().resolve("drop"));
+        final var dropDirectory = new WatchDirectoryParameters();
+        dropDirectory.setPath(dropPath.toString());
+        dropDirectory.setMaxThread(1);
+        dropDirectory.setRecursive(true);
+        pssdConfigParameters.setWatchPath(watchPath);
+        pssdConfigParameters.setWatchDirectories(List.of(dropDirectory));
+        pssdConfigParameters.setFileQuiescenceMillis(50);
+
+        final var processed = new CountDownLatch(1);
+        final var watcher = startWatcher(watchPath, processed);
+
+        // a subdirectory created at runtime is watched, including the files created before it was registered
+        final var subdirectory = Files.createDirectory(dropPath.resolve("subdirectory"));
+        Files.copy(Paths.get("src/test/resources/hpaPolicyHugePage.csar"),
+                subdirectory.resolve("hpaPolicyHugePage.csar"));
+
+        assertTrue(processed.await(10, TimeUnit.SECONDS));
+        watcher.stop();
+        verify(watcher.handler(), Mockito.times(1)).createPolicyInputAndCallHandler(Mockito.isA(String.class));
+    }
+
+    @Test
+    void testProcessedFilesMovedAndJournaled() throws Exception {
+        final var watchPath = Files.createDirectory(tempFolder.toPath().resolve("watch"));
+        final var archivePath = tempFolder.toPath().resolve("archive");
+        final var failedPath = tempFolder.toPath().resolve("failed");
+        final var journalFile = tempFolder.toPath().resolve("journal.tsv");
+        pssdConfigParameters.setWatchPath(watchPath.toString());
+        pssdConfigParameters.setArchivePath(archivePath.toString());
+        pssdConfigParameters.setFailedPath(failedPath.toString());
+        pssdConfigParameters.setJournalFile(journalFile.toString());
+        pssdConfigParameters.setFileQuiescenceMillis(50);
+
+        final var watcher = startProcessingWatcher(watchPath.toString());
+        Files.copy(Paths.get(SERVICE_CSAR), watchPath.resolve("good.csar"));
+        Files.copy(Paths.get("src/test/resources/hpaPolicyHugePage.csar"), watchPath.resolve("bad.csar"));
+
+        assertTrue(awaitFile(archivePath.resolve("good.csar")));
+        assertTrue(awaitFile(failedPath.resolve("bad.csar")));
+        watcher.stop();
+        assertThat(watchPath).isEmptyDirectory();
+
+        // the files are recorded before they are moved, a reloaded journal would drop them as missing
+        assertThat(Files.readAllLines(journalFile)).hasSize(2)
+                .anyMatch(line -> line.startsWith(watchPath.resolve("good.csar") + "\t") && line.endsWith("\tSUCCESS"))
+                .anyMatch(line -> line.startsWith(watchPath.resolve("bad.csar") + "\t") && line.endsWith("\tFAILURE"));
+    }
+
+    @Test
+    void testSameNamedFilesArchivedApart() throws Exception {
+        final var watchPath = tempFolder.toPath().resolve("watch");
+        final var archivePath = tempFolder.toPath().resolve("archive");
+        Files.createDirectories(watchPath.resolve("first"));
+        Files.createDirectories(watchPath.resolve("second"));
+        Files.createDirectories(archivePath);
+        Files.writeString(archivePath.resolve("service.csar"), "archived before");
+        pssdConfigParameters.setWatchPath(watchPath.toString());
+        pssdConfigParameters.setRecursive(true);
+        pssdConfigParameters.setArchivePath(archivePath.toString());
+        pssdConfigParameters.setFileQuiescenceMillis(50);
+
+        final var watcher = startProcessingWatcher(watchPath.toString());
+        Files.copy(Paths.get(SERVICE_CSAR), watchPath.resolve("first").resolve("service.csar"));
+        Files.copy(Paths.get(SERVICE_CSAR), watchPath.resolve("second").resolve("service.csar"));
+        Files.copy(Paths.get(SERVICE_CSAR), watchPath.resolve("service.csar"));
+
+        // the files keep their path relative to the watch path, and don't replace the files already archived
+        assertTrue(awaitFile(archivePath.resolve("first").resolve("service.csar")));
+        assertTrue(awaitFile(archivePath.resolve("second").resolve("service.csar")));
+        assertTrue(awaitFile(archivePath.resolve("service.csar.1")));
+        watcher.stop();
+        assertEquals("archived before", Files.readString(archivePath.resolve("service.csar")));
+    }
+
+    /**
+     * A handler whose file watcher runs on its own thread.
+     */
+    private record RunningWatcher(FileSystemReceptionHandler handler, Thread thread) {
+
+        void stop() throws InterruptedException {
+            handler.destroy();
+            thread.interrupt();
+            thread.join();
+        }
+    }
+
+    /**
+     * Start the real file watcher of a spy of the handler, the processing of each file counting down a latch instead.
+     *
+     * @param watchPath the watch path
+     * @param processed the latch counted down for each file processed
+     * @return the running watcher
+     * @throws IOException if it occurs
+     * @throws InterruptedException if it occurs
+     */
+    private RunningWatcher startWatcher(final String watchPath, final CountDownLatch processed)
+            throws IOException, InterruptedException {
+        final var sypHandler = Mockito.spy(fileSystemHandler);
+        Mockito.doAnswer(invocation -> {
+            processed.countDown();
+            return null;
+        }).when(sypHandler).createPolicyInputAndCallHandler(Mockito.isA(String.class));
+        return startWatcher(sypHandler, watchPath);
+    }
+
+    // Starts the real file watcher of a spy of the handler, the files being decoded by the file in CSAR decoder and
+    // forwarded to a dummy forwarder, which fails to forward the files that hold no policy
+    private RunningWatcher startProcessingWatcher(final String watchPath) throws Exception {
+        final var decoderParameters = CommonTestData.getPolicyDecoderParameters(
+                "src/test/resources/parameters/FileInCsarPolicyDecoderParameters.json",
+                PolicyDecoderFileInCsarToPolicyParameterGroup.class);
+        decoderParameters.setName(PolicyDecoderFileInCsarToPolicyParameterGroup.class.getSimpleName());
+        final var pluginParameters = new PluginHandlerParameters(
+                Map.of("FileInCsarDecoder", new PolicyDecoderParameters("FileInCsarDecoder",
+                        PolicyDecoderFileInCsarToPolicy.class.getName(), decoderParameters.getName())),
+                Map.of("DummyForwarder", new PolicyForwarderParameters("DummyForwarder",
+                        DummyPolicyForwarder.class.getName(), "DummyConfiguration")));
+        pluginParameters.setName("FileSystemPluginHandler");
+        ParameterService.register(decoderParameters);
+        ParameterService.register(pluginParameters);
+        final PluginHandler pluginHandler;
+        try {
+            pluginHandler = new PluginHandler(pluginParameters.getName());
+        } finally {
+            ParameterService.deregister(pluginParameters.getName());
+            ParameterService.deregister(decoderParameters.getName());
+        }
+
+        final var forwardersField = PluginHandler.class.getDeclaredField("policyForwarders");
+        forwardersField.setAccessible(true);
+        forwardersField.set(pluginHandler, List.of(new DummyPolicyForwarder() {
+            @Override
+            public synchronized void forward(final Collection<ToscaEntity> policies) throws PolicyForwardingException {
+                if (policies.isEmpty()) {
+                    throw new PolicyForwardingException("No policies to forward");
+                }
+                super.forward(policies);
+            }
+        }));
+
+        final var sypHandler = Mockito.spy(fileSystemHandler);
+        final var pluginHandlerField = AbstractReceptionHandler.class.getDeclaredField("pluginHandler");
+        pluginHandlerField.setAccessible(true);
+        pluginHandlerField.set(sypHandler, pluginHandler);
+        return startWatcher(sypHandler, watchPath);
+    }
+
+    private RunningWatcher startWatcher(final FileSystemReceptionHandler sypHandler, final String watchPath)
+            throws IOException, InterruptedException {
+        Mockito.doNothing().when(sypHandler).initFileWatcher(Mockito.isA(String.class), Mockito.anyInt());
+        sypHandler.initializeReception(pssdConfigParameters.getName());
+        // the watcher started by the initialization does nothing, the real watcher is started below
+        verify(sypHandler, Mockito.timeout(5000)).initFileWatcher(Mockito.isA(String.class), Mockito.anyInt());
+
+        Mockito.doCallRealMethod().when(sypHandler).initFileWatcher(Mockito.isA(String.class), Mockito.anyInt());
+        final var thread = new Thread(() -> {
+            try {
+                sypHandler.initFileWatcher(watchPath, 2);
+            } catch (final IOException ex) {
+                LOGGER.error("File watcher failed", ex);
+            }
+        });
+        thread.start();
+        // the directory contents are seeded when the watcher starts, so files are only created once it has started
+        for (var i = 0; i < 500 && !sypHandler.isRunning(); i++) {
+            Thread.sleep(10);
+        }
+        return new RunningWatcher(sypHandler, thread);
+    }
+
+    private static boolean awaitFile(final Path file) throws InterruptedException {
+        for (var i = 0; i < 1000 && !Files.exists(file); i++) {
+            Thread.sleep(10);
+        }
+        return Files.exists(file);
+    }
 }
@@ -2,7 +2,7 @@
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2018 Intel. All rights reserved.
  *  Copyright (C) 2019 Nordix Foundation.
- *  Modifications Copyright (C) 2020 Nordix Foundation
+ *  Modifications Copyright (C) 2020, 2026 Nordix Foundation
  *  Modifications Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -26,14 +26,18 @@ package org.onap.policy.distribution.reception.handling.file;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.gson.GsonBuilder;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.onap.policy.distribution.reception.handling.file.FileSystemReceptionHandlerConfigurationParameterGroup.DiscoveryMode;
 
 /**
  * Class to perform unit test of {@link FileSystemReceptionHandlerConfigurationParameterGroup}.
@@ -56,6 +60,65 @@ class TestFileSystemReceptionHandlerConfigurationParameterGroup {
         assertTrue(validationResult.isValid());
         assertEquals(validPath, configParameters.getWatchPath());
         assertEquals(2, configParameters.getMaxThread());
+        assertEquals(1000, configParameters.getFileQuiescenceMillis());
+        assertEquals(600, configParameters.getFileReadyTimeoutSeconds());
+        assertNull(configParameters.getQuarantinePath());
+        assertEquals(DiscoveryMode.WATCH_SERVICE, configParameters.getDiscoveryMode());
+        assertEquals(5000, configParameters.getScanIntervalMillis());
+        assertNull(configParameters.getJournalFile());
+        assertNull(configParameters.getArchivePath());
+        assertNull(configParameters.getFailedPath());
+    }
+
+    @Test
+    void testFileSystemConfigurationWithInvalidQuarantinePath() {
+        final var configParameters = new FileSystemReceptionHandlerConfigurationParameterGroup();
+        configParameters.setWatchPath(tempFolder.getPath());
+        configParameters.setMaxThread(2);
+        configParameters.setQuarantinePath(new File(tempFolder, "foobar").getAbsolutePath());
+
+        final var validateResult = configParameters.validate();
+        assertFalse(validateResult.isValid());
+        assertThat(validateResult.getResult()).contains("quarantinePath");
+    }
+
+    @Test
+    void testFileSystemConfigurationWithInvalidArchivePath() throws IOException {
+        final var configParameters = new FileSystemReceptionHandlerConfigurationParameterGroup();
+        configParameters.setWatchPath(Files.createDirectory(tempFolder.toPath().resolve("watch")).toString());
+        configParameters.setMaxThread(2);
+        configParameters.setArchivePath(new File(tempFolder, "foobar").getAbsolutePath());
+        configParameters.setFailedPath(Files.createDirectory(tempFolder.toPath().resolve("failed")).toString());
+
+        final var validateResult = configParameters.validate();
+        assertFalse(validateResult.isValid());
+        assertThat(validateResult.getResult()).contains("archivePath").doesNotContain("failedPath");
+    }
+
+    @Test
+    void testFileSystemConfigurationWithWatchedTargetPaths() throws IOException {
+        final var watchPath = Files.createDirectory(tempFolder.toPath().resolve("watch"));
+        final var dropPath = Files.createDirectory(tempFolder.toPath().resolve("drop"));
+        final var dropDirectory = new WatchDirectoryParameters();
+        dropDirectory.setPath(dropPath.toString());
+        dropDirectory.setRecursive(true);
+
+        final var configParameters = new FileSystemReceptionHandlerConfigurationParameterGroup();
+        configParameters.setWatchPath(watchPath.toString());
+        configParameters.setMaxThread(2);
+        configParameters.setWatchDirectories(List.of(dropDirectory));
+        // a subdirectory of a watch path is only watched if the watch path is recursive
+        configParameters.setArchivePath(Files.createDirectory(watchPath.resolve("archive")).toString());
+        configParameters.setFailedPath(Files.createDirectory(dropPath.resolve("failed")).toString());
+        configParameters.setQuarantinePath(watchPath.toString());
+
+        var validateResult = configParameters.validate();
+        assertFalse(validateResult.isValid());
+        assertThat(validateResult.getResult()).contains("failedPath", "quarantinePath").doesNotContain("archivePath");
+
+        configParameters.setRecursive(true);
+        validateResult = configParameters.validate();
+        assertThat(validateResult.getResult()).contains("archivePath");
     }
 
     @Test
@@ -0,0 +1,158 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.policy.distribution.reception.handling.file.FileSystemReceptionHandlerConfigurationParameterGroup.BacklogScanOrder;
+
+/**
+ * Class to perform unit test of {@link WatchDirectoryScanner}.
+ */
+class WatchDirectoryScannerTest {
+
+    @TempDir
+    private Path watchPath;
+
+    @Test
+    void testScanInModificationTimeOrder() throws IOException {
+        final var newer = createFile("a.csar", 2000);
+        final var older = createFile("b.csar", 1000);
+        Files.createDirectory(watchPath.resolve("subdirectory"));
+
+        final var scanner = new WatchDirectoryScanner(BacklogScanOrder.MTIME);
+        assertEquals(List.of(older, newer), scanner.scan(watchPath));
+    }
+
+    @Test
+    void testScanInNameOrder() throws IOException {
+        final var first = createFile("a.csar", 2000);
+        final var second = createFile("b.csar", 1000);
+
+        final var scanner = new WatchDirectoryScanner(BacklogScanOrder.NAME);
+        assertEquals(List.of(first, second), scanner.scan(watchPath));
+    }
+
+    @Test
+    void testScanSkipsHandledFiles() throws IOException {
+        final var seeded = createFile("seeded.csar", 1000);
+        final var scanner = new WatchDirectoryScanner(BacklogScanOrder.MTIME);
+        scanner.seed(watchPath);
+
+        final var handled = createFile("handled.csar", 2000);
+        scanner.recordHandled(handled);
+        final var missed = createFile("missed.csar", 3000);
+        assertEquals(List.of(missed), scanner.scan(watchPath));
+
+        // a file that changed since it was handled is found again
+        Files.writeString(seeded, "changed");
+        Files.setLastModifiedTime(seeded, FileTime.fromMillis(4000));
+        assertThat(scanner.scan(watchPath)).containsExactly(missed, seeded);
+    }
+
+    @Test
+    void testScanSkipsFilesHandledWithSameStamp() throws IOException {
+        final var unchanged = createFile("unchanged.csar", 1000);
+        final var changed = createFile("changed.csar", 2000);
+
+        final var scanner = new WatchDirectoryScanner(BacklogScanOrder.MTIME);
+        scanner.recordHandled(unchanged, Files.size(unchanged), 1000);
+        scanner.recordHandled(changed, Files.size(changed), 1500);
+        assertEquals(List.of(changed), scanner.scan(watchPath));
+    }
+
+    @Test
+    void testIsHandled() throws IOException {
+        final var file = createFile("handled.csar", 1000);
+        final var scanner = new WatchDirectoryScanner(BacklogScanOrder.MTIME);
+        assertFalse(scanner.isHandled(file));
+
+        scanner.recordHandled(file);
+        assertTrue(scanner.isHandled(file));
+
+        // a file written again after it was handled is no longer considered handled
+        Files.writeString(file, "changed");
+        assertFalse(scanner.isHandled(file));
+    }
+
+    @Test
+    void testPollReturnsChangedFilesOnce() throws IOException {
+        final var scanner = new WatchDirectoryScanner(BacklogScanOrder.MTIME);
+        scanner.seed(watchPath);
+        assertEquals(List.of(), scanner.poll(watchPath));
+
+        final var file = createFile("polled.csar", 1000);
+        assertEquals(List.of(file), scanner.poll(watchPath));
+        assertEquals(List.of(), scanner.poll(watchPath));
+
+        // a file still being written is returned again each time it changes
+        Files.writeString(file, "more contents");
+        assertEquals(List.of(file), scanner.poll(watchPath));
+
+        scanner.recordHandled(file);
+        assertEquals(List.of(), scanner.poll(watchPath));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2000));
+        assertEquals(List.of(file), scanner.poll(watchPath));
+    }
+
+    @Test
+    void testScanForgetsRemovedFiles() throws IOException {
+        final var file = createFile("removed.csar", 1000);
+        final var scanner = new WatchDirectoryScanner(BacklogScanOrder.MTIME);
+        scanner.seed(watchPath);
+        Files.delete(file);
+        assertEquals(List.of(), scanner.scan(watchPath));
+
+        // the same file created again is a new file
+        createFile("removed.csar", 1000);
+        assertEquals(List.of(file), scanner.scan(watchPath));
+    }
+
+    @Test
+    void testScanKeepsFilesOfSubdirectories() throws IOException {
+        final var subdirectory = Files.createDirectory(watchPath.resolve("subdirectory"));
+        final var file = Files.writeString(subdirectory.resolve("nested.csar"), "nested");
+        final var scanner = new WatchDirectoryScanner(BacklogScanOrder.MTIME);
+        scanner.seed(subdirectory);
+
+        // scanning the parent directory doesn't forget the files handled in its subdirectories
+        assertEquals(List.of(), scanner.scan(watchPath));
+        assertEquals(List.of(), scanner.scan(subdirectory));
+        Files.delete(file);
+        assertEquals(List.of(), scanner.scan(subdirectory));
+    }
+
+    private Path createFile(final String name, final long lastModified) throws IOException {
+        final var file = Files.writeString(watchPath.resolve(name), name);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+        return file;
+    }
+}
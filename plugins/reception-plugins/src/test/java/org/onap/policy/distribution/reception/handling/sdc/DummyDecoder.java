@@ -4,6 +4,7 @@
  *  Modifications Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
  *  Modifications Copyright (C) 2021 Bell Canada. All rights reserved.
  *  Modifications Copyright (C) 2022, 2025 OpenInfra Foundation Europe.
+ *  Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,7 +46,7 @@ public class DummyDecoder implements PolicyDecoder<Csar, DummyPolicy> {
      */
     @Override
     public boolean canHandle(final PolicyInput policyInput) {
-        return policyInput.getClass().isAssignableFrom(Csar.class);
+        return policyInput instanceof Csar;
     }
 
     /**
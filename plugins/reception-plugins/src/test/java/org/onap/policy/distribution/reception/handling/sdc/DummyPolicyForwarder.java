@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2018 Ericsson. All rights reserved.
  *  Modifications Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ *  Modifications Copyright (C) 2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -40,7 +41,7 @@ public class DummyPolicyForwarder implements PolicyForwarder {
      * {@inheritDoc}.
      */
     @Override
-    public void forward(final Collection<ToscaEntity> policies) throws PolicyForwardingException {
+    public synchronized void forward(final Collection<ToscaEntity> policies) throws PolicyForwardingException {
         numberOfPoliciesReceived += policies.size();
         policiesReceived.addAll(policies);
     }
@@ -50,7 +51,7 @@ public class DummyPolicyForwarder implements PolicyForwarder {
      *
      * @return the integer value
      */
-    public int getNumberOfPoliciesReceived() {
+    public synchronized int getNumberOfPoliciesReceived() {
         return numberOfPoliciesReceived;
     }
 
@@ -60,7 +61,7 @@ public class DummyPolicyForwarder implements PolicyForwarder {
      * @param policyType the policy type
      * @return the boolean result
      */
-    public boolean receivedPolicyWithGivenType(final String policyType) {
+    public synchronized boolean receivedPolicyWithGivenType(final String policyType) {
         for (final ToscaEntity policy : policiesReceived) {
             if (policy.getName().contains(policyType)) {
                 return true;
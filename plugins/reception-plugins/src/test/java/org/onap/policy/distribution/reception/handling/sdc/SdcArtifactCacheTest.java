@@ -0,0 +1,91 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.sdc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
+
+/**
+ * Class to perform unit test of {@link SdcArtifactCache}.
+ */
+class SdcArtifactCacheTest {
+
+    private static final String HANDLER = "SDC";
+
+    @BeforeEach
+    void setUp() {
+        DistributionStatisticsManager.resetAllStatistics();
+    }
+
+    @Test
+    void testLeastRecentlyUsedEvictedBySize() {
+        final var cache = new SdcArtifactCache(HANDLER, 10);
+        final var first = new byte[4];
+        cache.put("first", first);
+        cache.put("second", new byte[4]);
+        // the first artifact is used, so the second is the least recently used one
+        assertSame(first, cache.get("first").payload());
+
+        cache.put("third", new byte[4]);
+
+        assertNotNull(cache.get("first"));
+        assertNull(cache.get("second"));
+        assertNotNull(cache.get("third"));
+        assertEquals(8L, cache.getTotalBytes());
+        assertEquals(8L, DistributionStatisticsManager.getSdcArtifactCacheBytes(HANDLER));
+        assertEquals(3L, DistributionStatisticsManager.getSdcArtifactCacheCount(HANDLER, SdcArtifactCache.HIT));
+        assertEquals(1L, DistributionStatisticsManager.getSdcArtifactCacheCount(HANDLER, SdcArtifactCache.MISS));
+    }
+
+    @Test
+    void testUncacheableArtifacts() {
+        final var cache = new SdcArtifactCache(HANDLER, 10);
+        cache.put("large", new byte[11]);
+        cache.put(null, new byte[1]);
+        cache.put(" ", new byte[1]);
+
+        assertNull(cache.get("large"));
+        assertNull(cache.get(null));
+        assertNull(cache.get(" "));
+        assertEquals(0L, cache.getTotalBytes());
+    }
+
+    @Test
+    void testMarkDistributed() {
+        final var cache = new SdcArtifactCache(HANDLER, 10);
+        cache.put("artifact", new byte[1]);
+        assertFalse(cache.get("artifact").distributed());
+
+        cache.markDistributed("artifact");
+        cache.markDistributed("unknown");
+
+        assertTrue(cache.get("artifact").distributed());
+        assertNull(cache.get("unknown"));
+    }
+}
@@ -0,0 +1,71 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.sdc;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.api.notification.IArtifactInfo;
+
+/**
+ * Class to perform unit test of {@link SdcArtifactFilter}.
+ */
+class SdcArtifactFilterTest {
+
+    @Test
+    void testFilterByType() {
+        final var filter = new SdcArtifactFilter(List.of("TOSCA_CSAR"), List.of());
+
+        assertTrue(filter.isRelevant(artifact("service.csar", "TOSCA_CSAR")));
+        assertFalse(filter.isRelevant(artifact("heat.yaml", "HEAT")));
+        assertFalse(filter.isRelevant(artifact("unknown.csar", null)));
+    }
+
+    @Test
+    void testFilterByName() {
+        final var filter = new SdcArtifactFilter(null, List.of(".*\\.csar", "policy-.*"));
+
+        assertTrue(filter.isRelevant(artifact("service.csar", "HEAT")));
+        assertTrue(filter.isRelevant(artifact("policy-model.yaml", null)));
+        assertFalse(filter.isRelevant(artifact("service.csar.md5", "TOSCA_CSAR")));
+        assertFalse(filter.isRelevant(artifact(null, "TOSCA_CSAR")));
+    }
+
+    @Test
+    void testFilterByTypeAndName() {
+        final var filter = new SdcArtifactFilter(List.of("TOSCA_CSAR"), List.of(".*\\.csar"));
+
+        assertTrue(filter.isRelevant(artifact("service.csar", "TOSCA_CSAR")));
+        assertFalse(filter.isRelevant(artifact("service.csar", "HEAT")));
+        assertFalse(filter.isRelevant(artifact("service.zip", "TOSCA_CSAR")));
+    }
+
+    private static IArtifactInfo artifact(final String name, final String type) {
+        final var artifact = mock(IArtifactInfo.class);
+        when(artifact.getArtifactName()).thenReturn(name);
+        when(artifact.getArtifactType()).thenReturn(type);
+        return artifact;
+    }
+}
@@ -0,0 +1,88 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.sdc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.distribution.reception.handling.sdc.SdcClientHandler.SdcClientOperationType;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
+
+/**
+ * Class to perform unit test of {@link SdcClientHandler}.
+ */
+class SdcClientHandlerTest {
+
+    private static final String HANDLER = "SDC";
+
+    @BeforeEach
+    void setUp() {
+        DistributionStatisticsManager.resetAllStatistics();
+    }
+
+    @Test
+    void testRetriedUntilSuccessful() {
+        final var receptionHandler = mock(SdcReceptionHandler.class);
+        final var clientHandler = new AtomicReference<SdcClientHandler>();
+        final var attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (attempts.incrementAndGet() == 3) {
+                clientHandler.get().cancel();
+            }
+            return null;
+        }).when(receptionHandler).startSdcClient();
+
+        clientHandler.set(new SdcClientHandler(receptionHandler, SdcClientOperationType.START, HANDLER, 10, 20));
+        clientHandler.get().start();
+
+        verify(receptionHandler, timeout(5000).times(3)).startSdcClient();
+        verify(receptionHandler, after(100).times(3)).initializeSdcClient();
+        assertEquals(2L, DistributionStatisticsManager.getSdcClientRetryCount(HANDLER, "START"));
+        assertEquals(0L, DistributionStatisticsManager.getSdcClientRetryAttempts(HANDLER, "START"));
+    }
+
+    @Test
+    void testCancelStopsRetries() {
+        final var receptionHandler = mock(SdcReceptionHandler.class);
+        final var clientHandler = new SdcClientHandler(receptionHandler, SdcClientOperationType.STOP, HANDLER, 10, 10);
+        clientHandler.start();
+
+        verify(receptionHandler, timeout(5000).atLeast(2)).stopSdcClient();
+        clientHandler.cancel();
+        // an attempt already running when the handler is cancelled may still complete
+        final var attempts = countStopAttempts(receptionHandler);
+        verify(receptionHandler, after(100).atMost(attempts + 1)).stopSdcClient();
+    }
+
+    private static int countStopAttempts(final SdcReceptionHandler receptionHandler) {
+        return (int) mockingDetails(receptionHandler).getInvocations().stream()
+            .filter(invocation -> invocation.getMethod().getName().equals("stopSdcClient")).count();
+    }
+}
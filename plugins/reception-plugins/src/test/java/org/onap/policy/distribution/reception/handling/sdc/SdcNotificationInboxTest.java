@@ -0,0 +1,146 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.sdc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.sdc.api.notification.IArtifactInfo;
+
+/**
+ * Class to perform unit test of {@link SdcNotificationInbox}.
+ */
+class SdcNotificationInboxTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testPendingNotificationsSurviveRestart() throws IOException {
+        final var inboxFile = tempDir.resolve("inbox.json");
+        final var first = artifact("first-uuid", "first.csar");
+        final var second = artifact("second-uuid", "second.csar");
+        try (var inbox = new SdcNotificationInbox(inboxFile)) {
+            assertEquals(Map.of(), inbox.received("completed", List.of(first)));
+            inbox.artifactProcessed("completed", first, true);
+            inbox.completed("completed");
+
+            inbox.received("pending", List.of(first, second));
+            inbox.artifactProcessed("pending", first, false);
+        }
+
+        try (var inbox = new SdcNotificationInbox(inboxFile)) {
+            final var pending = inbox.getPendingNotifications();
+            assertEquals(1, pending.size());
+            assertEquals("pending", pending.get(0).distributionId());
+            assertEquals(Map.of("first-uuid", false), pending.get(0).processedArtifacts());
+
+            final var artifacts = pending.get(0).artifacts();
+            assertEquals(2, artifacts.size());
+            assertEquals("second.csar", artifacts.get(1).getArtifactName());
+            assertEquals("TOSCA_CSAR", artifacts.get(1).getArtifactType());
+            assertEquals("http://sdc/second.csar", artifacts.get(1).getArtifactURL());
+            assertEquals("second-uuid", artifacts.get(1).getArtifactUUID());
+
+            // a notification sent again before it is completed keeps the outcome of its processed artifacts
+            assertEquals(Map.of("first-uuid", false), inbox.received("pending", List.of(first, second)));
+        }
+
+        // the completed notification is compacted away
+        assertEquals(2, Files.readAllLines(inboxFile).size());
+    }
+
+    @Test
+    void testCompactedWhileRecording() throws IOException {
+        final var inboxFile = tempDir.resolve("inbox.json");
+        final var first = artifact("first-uuid", "first.csar");
+        try (var inbox = new SdcNotificationInbox(inboxFile, 4)) {
+            inbox.received("pending", List.of(first));
+
+            // the completed notifications are dropped by the compactions, which keep the inbox within the records
+            // kept, up to those of the pending notification and of one notification in progress, plus the records
+            // appended up to the threshold
+            for (var i = 0; i < 10; i++) {
+                inbox.received("completed" + i, List.of(first));
+                inbox.artifactProcessed("completed" + i, first, true);
+                inbox.completed("completed" + i);
+                assertTrue(Files.readAllLines(inboxFile).size() <= 7);
+            }
+        }
+
+        try (var inbox = new SdcNotificationInbox(inboxFile)) {
+            final var pending = inbox.getPendingNotifications();
+            assertEquals(1, pending.size());
+            assertEquals("pending", pending.get(0).distributionId());
+        }
+    }
+
+    @Test
+    void testTruncatedRecordSkipped() throws IOException {
+        final var inboxFile = tempDir.resolve("inbox.json");
+        final var first = artifact("first-uuid", "first.csar");
+        try (var inbox = new SdcNotificationInbox(inboxFile)) {
+            inbox.received("pending", List.of(first));
+        }
+        Files.writeString(inboxFile, "{\"type\":\"ARTIFACT_PROCESSED\",\"distri", StandardCharsets.UTF_8,
+            StandardOpenOption.APPEND);
+
+        try (var inbox = new SdcNotificationInbox(inboxFile)) {
+            final var pending = inbox.getPendingNotifications();
+            assertEquals(1, pending.size());
+            assertTrue(pending.get(0).processedArtifacts().isEmpty());
+
+            inbox.artifactProcessed("pending", first, true);
+            inbox.completed("pending");
+            assertTrue(inbox.getPendingNotifications().isEmpty());
+        }
+
+        try (var inbox = new SdcNotificationInbox(inboxFile)) {
+            assertTrue(inbox.getPendingNotifications().isEmpty());
+        }
+    }
+
+    @Test
+    void testArtifactKey() {
+        assertEquals("first-uuid", SdcNotificationInbox.artifactKey(artifact("first-uuid", "first.csar")));
+        assertEquals("http://sdc/first.csar", SdcNotificationInbox.artifactKey(artifact(null, "first.csar")));
+    }
+
+    private static IArtifactInfo artifact(final String uuid, final String name) {
+        final var artifact = mock(IArtifactInfo.class);
+        when(artifact.getArtifactUUID()).thenReturn(uuid);
+        when(artifact.getArtifactName()).thenReturn(name);
+        when(artifact.getArtifactType()).thenReturn("TOSCA_CSAR");
+        when(artifact.getArtifactURL()).thenReturn("http://sdc/" + name);
+        return artifact;
+    }
+}
@@ -0,0 +1,127 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling.sdc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
+import org.onap.sdc.api.results.IDistributionClientResult;
+import org.onap.sdc.utils.DistributionActionResultEnum;
+
+/**
+ * Class to perform unit test of {@link SdcStatusReporter}.
+ */
+class SdcStatusReporterTest {
+
+    private static final String HANDLER = "SDC";
+
+    private final IDistributionClientResult successResult = mock(IDistributionClientResult.class);
+    private final IDistributionClientResult failureResult = mock(IDistributionClientResult.class);
+
+    @BeforeEach
+    void setUp() {
+        DistributionStatisticsManager.resetAllStatistics();
+        when(successResult.getDistributionActionResult()).thenReturn(DistributionActionResultEnum.SUCCESS);
+        when(failureResult.getDistributionActionResult()).thenReturn(DistributionActionResultEnum.FAIL);
+    }
+
+    @Test
+    void testReportsSentInOrderAndFlushedOnClose() {
+        final List<Integer> sent = Collections.synchronizedList(new ArrayList<>());
+        try (var reporter = new SdcStatusReporter(HANDLER, 2, 0, 0)) {
+            for (var i = 0; i < 10; i++) {
+                final var index = i;
+                reporter.report(() -> "report " + index, () -> {
+                    sent.add(index);
+                    return successResult;
+                });
+            }
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), sent);
+        assertEquals(10L, DistributionStatisticsManager.getSdcStatusReportCount(HANDLER, SdcStatusReporter.SENT));
+        assertEquals(0L, DistributionStatisticsManager.getSdcStatusQueueDepth(HANDLER));
+    }
+
+    @Test
+    void testFailedReportRetriedBeforeNextReport() {
+        final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+        final var attempts = new AtomicInteger();
+        try (var reporter = new SdcStatusReporter(HANDLER, 10, 3, 1)) {
+            reporter.report(() -> "deploy", () -> {
+                sent.add("deploy");
+                if (attempts.incrementAndGet() == 1) {
+                    throw new IllegalStateException("connection refused");
+                }
+                return attempts.get() < 3 ? failureResult : successResult;
+            });
+            reporter.report(() -> "done", () -> {
+                sent.add("done");
+                return successResult;
+            });
+        }
+
+        assertEquals(List.of("deploy", "deploy", "deploy", "done"), sent);
+        assertEquals(2L, DistributionStatisticsManager.getSdcStatusReportCount(HANDLER, SdcStatusReporter.SENT));
+        assertEquals(2L, DistributionStatisticsManager.getSdcStatusReportCount(HANDLER, SdcStatusReporter.RETRIED));
+        assertEquals(0L, DistributionStatisticsManager.getSdcStatusReportCount(HANDLER, SdcStatusReporter.FAILED));
+    }
+
+    @Test
+    void testReportFailsOnceRetriesAreExhausted() {
+        final var attempts = new AtomicInteger();
+        final Supplier<IDistributionClientResult> sender = () -> {
+            attempts.incrementAndGet();
+            return failureResult;
+        };
+        try (var reporter = new SdcStatusReporter(HANDLER, 10, 2, 1)) {
+            reporter.report(() -> "deploy", sender);
+        }
+
+        assertEquals(3, attempts.get());
+        assertEquals(1L, DistributionStatisticsManager.getSdcStatusReportCount(HANDLER, SdcStatusReporter.FAILED));
+        assertEquals(0L, DistributionStatisticsManager.getSdcStatusReportCount(HANDLER, SdcStatusReporter.SENT));
+    }
+
+    @Test
+    void testReportSentStraightAwayOnceClosed() {
+        final var reporter = new SdcStatusReporter(HANDLER, 10, 0, 0);
+        reporter.close();
+
+        final var attempts = new AtomicInteger();
+        reporter.report(() -> "done", () -> {
+            attempts.incrementAndGet();
+            return successResult;
+        });
+
+        assertEquals(1, attempts.get());
+        assertEquals(1L, DistributionStatisticsManager.getSdcStatusReportCount(HANDLER, SdcStatusReporter.SENT));
+    }
+}
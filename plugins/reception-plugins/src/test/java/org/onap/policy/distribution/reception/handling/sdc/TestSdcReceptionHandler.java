@@ -1,7 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2018 Intel. All rights reserved.
- *  Copyright (C) 2019, 2022 Nordix Foundation.
+ *  Copyright (C) 2019, 2022, 2026 Nordix Foundation.
  *  Modifications Copyright (C) 2020 Nordix Foundation
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -28,20 +28,33 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static  org.mockito.Mockito.any;
 import static  org.mockito.Mockito.mock;
+import static  org.mockito.Mockito.never;
 import static  org.mockito.Mockito.spy;
+import static  org.mockito.Mockito.timeout;
+import static  org.mockito.Mockito.times;
+import static  org.mockito.Mockito.verify;
 import static  org.mockito.Mockito.when;
 
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.onap.policy.common.parameters.ParameterService;
 import org.onap.policy.distribution.forwarding.PolicyForwarder;
 import org.onap.policy.distribution.forwarding.parameters.PolicyForwarderParameters;
@@ -253,6 +266,258 @@ class TestSdcReceptionHandler {
         assertEquals(0, policyForwarder.getNumberOfPoliciesReceived());
     }
 
+    @Test
+    void testParallelArtifactProcessing() throws IOException, NoSuchFieldException, SecurityException,
+        IllegalArgumentException, IllegalAccessException, PluginInitializationException {
+
+        registerSdcParameters(parameters -> parameters.addProperty("artifactParallelism", 3));
+
+        // the artifacts are only downloaded once all of them are being processed
+        final var downloading = new CountDownLatch(3);
+        final var concurrent = new AtomicBoolean(true);
+        final IArtifactInfo failingArtifact = mock(IArtifactInfo.class);
+        final IDistributionClientDownloadResult failedDownloadResult = mock(IDistributionClientDownloadResult.class);
+        when(failingArtifact.getArtifactName()).thenReturn("failing.csar");
+        when(failedDownloadResult.getDistributionActionResult()).thenReturn(DistributionActionResultEnum.FAIL);
+        final IArtifactInfo otherArtifact = mock(IArtifactInfo.class);
+        when(otherArtifact.getArtifactName()).thenReturn(DUMMY_SERVICE_CSAR);
+        when(notificationData.getServiceArtifacts()).thenReturn(List.of(artifactInfo, failingArtifact, otherArtifact));
+        when(distributionClient.download(any())).thenAnswer(invocation -> {
+            downloading.countDown();
+            if (!downloading.await(5, TimeUnit.SECONDS)) {
+                concurrent.set(false);
+            }
+            return invocation.getArgument(0) == failingArtifact ? failedDownloadResult
+                : successfulClientDownloadResult;
+        });
+
+        final var policyDecoder = new DummyDecoder();
+        final Collection<PolicyDecoder<Csar, DummyPolicy>> policyDecoders = new ArrayList<>();
+        policyDecoders.add(policyDecoder);
+
+        final var policyForwarder = new DummyPolicyForwarder();
+        final Collection<PolicyForwarder> policyForwarders = new ArrayList<>();
+        policyForwarders.add(policyForwarder);
+
+        setUpPlugins(sypHandler, policyDecoders, policyForwarders);
+        sypHandler.initializeReception(pssdConfigParameters.getName());
+        sypHandler.activateCallback(notificationData);
+        sypHandler.destroy();
+
+        assertTrue(concurrent.get());
+        assertEquals(2, policyForwarder.getNumberOfPoliciesReceived());
+        assertEquals(1, DistributionStatisticsManager.getTotalDistributionCount());
+        assertEquals(0, DistributionStatisticsManager.getDistributionSuccessCount());
+        assertEquals(1, DistributionStatisticsManager.getDistributionFailureCount());
+        assertEquals(3, DistributionStatisticsManager.getTotalDownloadCount());
+        assertEquals(2, DistributionStatisticsManager.getDownloadSuccessCount());
+        assertEquals(1, DistributionStatisticsManager.getDownloadFailureCount());
+        verify(distributionClient, times(2)).sendDeploymentStatus(any());
+        verify(distributionClient, times(1)).sendDeploymentStatus(any(), any());
+        verify(distributionClient, times(1)).sendComponentDoneStatus(any(), any());
+        verify(distributionClient, never()).sendComponentDoneStatus(any());
+    }
+
+    @Test
+    void testConcurrentNotificationProcessing() throws IOException, InterruptedException, NoSuchFieldException,
+        SecurityException, IllegalArgumentException, IllegalAccessException, PluginInitializationException {
+
+        registerSdcParameters(parameters -> parameters.addProperty("notificationWorkers", 2));
+
+        // both notifications are downloading at the same time before either of them completes
+        final var downloading = new CountDownLatch(2);
+        final var release = new CountDownLatch(1);
+        final var released = new AtomicBoolean(true);
+        when(distributionClient.download(any())).thenAnswer(invocation -> {
+            downloading.countDown();
+            // an assertion failing on a worker thread would only fail the download, so the outcome is checked below
+            if (!release.await(5, TimeUnit.SECONDS)) {
+                released.set(false);
+            }
+            return successfulClientDownloadResult;
+        });
+
+        final var policyForwarder = new DummyPolicyForwarder();
+        final Collection<PolicyForwarder> policyForwarders = new ArrayList<>();
+        policyForwarders.add(policyForwarder);
+
+        setUpPlugins(sypHandler, List.of(new DummyDecoder()), policyForwarders);
+        sypHandler.initializeReception(pssdConfigParameters.getName());
+        for (var i = 0; i < 500 && sypHandler.getSdcReceptionHandlerStatus() != SdcReceptionHandlerStatus.IDLE; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(SdcReceptionHandlerStatus.IDLE, sypHandler.getSdcReceptionHandlerStatus());
+
+        final INotificationData otherNotificationData = mock(INotificationData.class);
+        when(notificationData.getDistributionID()).thenReturn("first");
+        when(otherNotificationData.getDistributionID()).thenReturn("second");
+        when(otherNotificationData.getServiceArtifacts()).thenReturn(List.of(artifactInfo));
+        sypHandler.activateCallback(notificationData);
+        sypHandler.activateCallback(otherNotificationData);
+        assertTrue(downloading.await(5, TimeUnit.SECONDS));
+        assertEquals(SdcReceptionHandlerStatus.BUSY, sypHandler.getSdcReceptionHandlerStatus());
+
+        release.countDown();
+        for (var i = 0; i < 500 && sypHandler.getSdcReceptionHandlerStatus() != SdcReceptionHandlerStatus.IDLE; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(SdcReceptionHandlerStatus.IDLE, sypHandler.getSdcReceptionHandlerStatus());
+        sypHandler.destroy();
+
+        assertTrue(released.get());
+        assertEquals(2, policyForwarder.getNumberOfPoliciesReceived());
+        assertEquals(2, DistributionStatisticsManager.getTotalDistributionCount());
+        assertEquals(2, DistributionStatisticsManager.getDistributionSuccessCount());
+        verify(distributionClient, times(2)).sendComponentDoneStatus(any());
+    }
+
+    @Test
+    void testNotificationSentAgainWhileInProgress() throws IOException, InterruptedException, NoSuchFieldException,
+        SecurityException, IllegalArgumentException, IllegalAccessException, PluginInitializationException {
+
+        registerSdcParameters(parameters -> parameters.addProperty("notificationWorkers", 2));
+
+        final var downloading = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var released = new AtomicBoolean(true);
+        when(distributionClient.download(any())).thenAnswer(invocation -> {
+            downloading.countDown();
+            if (!release.await(5, TimeUnit.SECONDS)) {
+                released.set(false);
+            }
+            return successfulClientDownloadResult;
+        });
+        when(notificationData.getDistributionID()).thenReturn("distribution-id");
+
+        final var policyForwarder = new DummyPolicyForwarder();
+        setUpPlugins(sypHandler, List.of(new DummyDecoder()), List.of(policyForwarder));
+        sypHandler.initializeReception(pssdConfigParameters.getName());
+        sypHandler.activateCallback(notificationData);
+        assertTrue(downloading.await(5, TimeUnit.SECONDS));
+
+        // the notification is sent again while its artifact is being downloaded
+        sypHandler.activateCallback(notificationData);
+        release.countDown();
+        verify(distributionClient, timeout(5000)).sendComponentDoneStatus(any());
+        sypHandler.destroy();
+
+        assertTrue(released.get());
+        verify(distributionClient, times(1)).download(any());
+        verify(distributionClient, times(1)).sendComponentDoneStatus(any());
+        assertEquals(1, policyForwarder.getNumberOfPoliciesReceived());
+    }
+
+    @Test
+    void testArtifactCache() throws IOException, NoSuchFieldException, SecurityException, IllegalArgumentException,
+        IllegalAccessException, PluginInitializationException {
+
+        registerSdcParameters(parameters -> {
+            parameters.addProperty("artifactCacheMaxBytes", 1024);
+            parameters.addProperty("artifactCacheSkipDecode", true);
+        });
+        when(artifactInfo.getArtifactChecksum()).thenReturn("checksum");
+
+        final var policyForwarder = new DummyPolicyForwarder();
+        final Collection<PolicyForwarder> policyForwarders = new ArrayList<>();
+        policyForwarders.add(policyForwarder);
+
+        setUpPlugins(sypHandler, List.of(new DummyDecoder()), policyForwarders);
+        sypHandler.initializeReception(pssdConfigParameters.getName());
+        sypHandler.activateCallback(notificationData);
+        sypHandler.activateCallback(notificationData);
+        sypHandler.destroy();
+
+        // the artifact distributed again is neither downloaded nor forwarded again, but reported as deployed
+        verify(distributionClient, times(1)).download(any());
+        assertEquals(1, policyForwarder.getNumberOfPoliciesReceived());
+        assertEquals(2, DistributionStatisticsManager.getDistributionSuccessCount());
+        verify(distributionClient, times(2)).sendDownloadStatus(any());
+        verify(distributionClient, times(2)).sendDeploymentStatus(any());
+        assertEquals(1L, DistributionStatisticsManager
+            .getSdcArtifactCacheCount(SdcReceptionHandler.class.getSimpleName(), SdcArtifactCache.HIT));
+    }
+
+    @Test
+    void testIrrelevantArtifactsNotDownloaded() throws IOException, NoSuchFieldException, SecurityException,
+        IllegalArgumentException, IllegalAccessException, PluginInitializationException {
+
+        registerSdcParameters(parameters -> parameters.addProperty("filterArtifactTypes", true));
+        when(artifactInfo.getArtifactType()).thenReturn("TOSCA_CSAR");
+        final IArtifactInfo otherArtifact = mock(IArtifactInfo.class);
+        when(otherArtifact.getArtifactName()).thenReturn("readme.txt");
+        when(otherArtifact.getArtifactType()).thenReturn("OTHER");
+        when(notificationData.getServiceArtifacts()).thenReturn(List.of(artifactInfo, otherArtifact));
+
+        final var policyForwarder = new DummyPolicyForwarder();
+        final Collection<PolicyForwarder> policyForwarders = new ArrayList<>();
+        policyForwarders.add(policyForwarder);
+
+        setUpPlugins(sypHandler, List.of(new DummyDecoder()), policyForwarders);
+        sypHandler.initializeReception(pssdConfigParameters.getName());
+        sypHandler.activateCallback(notificationData);
+        sypHandler.destroy();
+
+        verify(distributionClient, times(1)).download(artifactInfo);
+        verify(distributionClient, never()).download(otherArtifact);
+        assertEquals(1, policyForwarder.getNumberOfPoliciesReceived());
+        assertEquals(1, DistributionStatisticsManager.getDistributionSuccessCount());
+        assertEquals(1L,
+            DistributionStatisticsManager.getSdcArtifactSkippedCount(SdcReceptionHandler.class.getSimpleName()));
+    }
+
+    @Test
+    void testPendingNotificationResumedOnStartup(@TempDir final Path tempDir) throws IOException,
+        NoSuchFieldException, SecurityException, IllegalArgumentException, IllegalAccessException,
+        PluginInitializationException {
+
+        // the process died after the first artifact of the notification was processed
+        final var inboxFile = tempDir.resolve("inbox.json");
+        final IArtifactInfo processedArtifact = mock(IArtifactInfo.class);
+        when(processedArtifact.getArtifactUUID()).thenReturn("processed-uuid");
+        when(artifactInfo.getArtifactUUID()).thenReturn("pending-uuid");
+        try (var inbox = new SdcNotificationInbox(inboxFile)) {
+            inbox.received("distribution-id", List.of(processedArtifact, artifactInfo));
+            inbox.artifactProcessed("distribution-id", processedArtifact, true);
+        }
+
+        registerSdcParameters(parameters -> parameters.addProperty("inboxFile", inboxFile.toString()));
+        final var downloadThread = new AtomicReference<String>();
+        when(distributionClient.download(any())).thenAnswer(invocation -> {
+            downloadThread.set(Thread.currentThread().getName());
+            return successfulClientDownloadResult;
+        });
+
+        final var policyForwarder = new DummyPolicyForwarder();
+        final Collection<PolicyForwarder> policyForwarders = new ArrayList<>();
+        policyForwarders.add(policyForwarder);
+
+        setUpPlugins(sypHandler, List.of(new DummyDecoder()), policyForwarders);
+        sypHandler.initializeReception(pssdConfigParameters.getName());
+        verify(distributionClient, timeout(5000)).sendComponentDoneStatus(any());
+        sypHandler.destroy();
+
+        // only the artifact not processed before is downloaded, off the SDC client life cycle thread
+        verify(distributionClient, times(1)).download(any());
+        assertEquals("sdc-notification-resume", downloadThread.get());
+        assertEquals(1, policyForwarder.getNumberOfPoliciesReceived());
+        assertEquals(1L,
+            DistributionStatisticsManager.getSdcNotificationResumedCount(SdcReceptionHandler.class.getSimpleName()));
+        try (var inbox = new SdcNotificationInbox(inboxFile)) {
+            assertTrue(inbox.getPendingNotifications().isEmpty());
+        }
+    }
+
+    // Registers the SDC reception handler parameters of the test resource, with the given ones overridden
+    private void registerSdcParameters(final Consumer<JsonObject> overrides) throws IOException {
+        final var parameters = JsonParser.parseReader(new FileReader("src/test/resources/handling-sdc.json"))
+            .getAsJsonObject();
+        overrides.accept(parameters);
+        ParameterService.deregister(pssdConfigParameters);
+        pssdConfigParameters =
+            new GsonBuilder().create().fromJson(parameters, SdcReceptionHandlerConfigurationParameterGroup.class);
+        ParameterService.register(pssdConfigParameters);
+    }
+
     private void setUpPlugins(final AbstractReceptionHandler receptionHandler,
                               final Collection<PolicyDecoder<Csar, DummyPolicy>> decoders,
                               final Collection<PolicyForwarder> forwarders)
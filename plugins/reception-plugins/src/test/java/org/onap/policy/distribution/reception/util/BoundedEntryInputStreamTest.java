@@ -0,0 +1,76 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.util;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class to perform unit test of {@link BoundedEntryInputStream}.
+ */
+class BoundedEntryInputStreamTest {
+
+    private static final byte[] DATA = new byte[1000];
+
+    @Test
+    void testReadWithinLimits() throws IOException {
+        try (var stream = new BoundedEntryInputStream(new ByteArrayInputStream(DATA), "entry", 100, 1000, 10)) {
+            assertEquals(DATA.length, stream.readAllBytes().length);
+            assertEquals(DATA.length, stream.getBytesRead());
+            assertNull(stream.getViolation());
+            assertFalse(stream.markSupported());
+        }
+    }
+
+    @Test
+    void testSizeExceeded() throws IOException {
+        try (var stream = new BoundedEntryInputStream(new ByteArrayInputStream(DATA), "entry", 0, 500, 10)) {
+            assertThatThrownBy(stream::readAllBytes).isInstanceOf(IOException.class)
+                .hasMessage("Zip entry entry exceeds the maximum uncompressed size of 500 bytes");
+            assertEquals("Zip entry entry exceeds the maximum uncompressed size of 500 bytes", stream.getViolation());
+        }
+    }
+
+    @Test
+    void testRatioExceeded() throws IOException {
+        try (var stream = new BoundedEntryInputStream(new ByteArrayInputStream(DATA), "entry", 10, 1000, 10)) {
+            stream.readNBytes(100);
+            assertNull(stream.getViolation());
+
+            assertThatThrownBy(stream::read).isInstanceOf(IOException.class)
+                .hasMessageContaining("exceeds the maximum compression ratio");
+        }
+    }
+
+    @Test
+    void testSkipCounted() throws IOException {
+        try (var stream = new BoundedEntryInputStream(new ByteArrayInputStream(DATA), "entry", 0, 500, 10)) {
+            assertEquals(500, stream.skip(500));
+            assertThatThrownBy(() -> stream.skip(1)).isInstanceOf(IOException.class);
+        }
+    }
+}
@@ -22,8 +22,15 @@
 
 package org.onap.policy.distribution.reception.handling;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import org.onap.policy.common.parameters.ParameterService;
 import org.onap.policy.distribution.forwarding.PolicyForwarder;
 import org.onap.policy.distribution.forwarding.PolicyForwardingException;
@@ -32,6 +39,7 @@ import org.onap.policy.distribution.reception.decoding.PluginInitializationExcep
 import org.onap.policy.distribution.reception.decoding.PolicyDecoder;
 import org.onap.policy.distribution.reception.decoding.PolicyDecodingException;
 import org.onap.policy.distribution.reception.parameters.ReceptionHandlerParameters;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,6 +54,9 @@ public abstract class AbstractReceptionHandler implements ReceptionHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractReceptionHandler.class);
 
     private PluginHandler pluginHandler;
+    private ReceptionPipeline pipeline;
+    private InputDeduplicationCache deduplicationCache;
+    private String receptionHandlerName;
 
     /**
      * {@inheritDoc}.
@@ -53,10 +64,40 @@ public abstract class AbstractReceptionHandler implements ReceptionHandler {
     @Override
     public void initialize(final String parameterGroupName) throws PluginInitializationException {
         final var receptionHandlerParameters = (ReceptionHandlerParameters) ParameterService.get(parameterGroupName);
-        pluginHandler = new PluginHandler(receptionHandlerParameters.getPluginHandlerParameters().getName());
+        final var pluginHandlerParameters = receptionHandlerParameters.getPluginHandlerParameters();
+        receptionHandlerName = receptionHandlerParameters.getReceptionHandlerType();
+        pluginHandler = new PluginHandler(pluginHandlerParameters.getName());
+        if (ReceptionPipeline.isEnabled(pluginHandlerParameters)) {
+            pipeline = new ReceptionPipeline(this, pluginHandlerParameters);
+        }
+        if (InputDeduplicationCache.isEnabled(pluginHandlerParameters.getDeduplicationParameters())) {
+            deduplicationCache = new InputDeduplicationCache(pluginHandlerParameters.getDeduplicationParameters());
+        }
         initializeReception(receptionHandlerParameters.getReceptionHandlerConfigurationName());
     }
 
+    /**
+     * Release the resources held by the plugins of this reception handler. Sub classes should invoke this method when
+     * they are destroyed.
+     */
+    protected void destroyPlugins() {
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+        if (pluginHandler != null) {
+            pluginHandler.destroy();
+        }
+    }
+
+    /**
+     * Get the name of this reception handler, used to label the statistics it records.
+     *
+     * @return the reception handler type if the reception handler is initialized, otherwise its class name
+     */
+    protected String getReceptionHandlerName() {
+        return receptionHandlerName != null ? receptionHandlerName : getClass().getSimpleName();
+    }
+
     /**
      * Sub classes must implement this method to perform the specific initialization required to receive inputs, for
      * example setting up subscriptions.
@@ -69,19 +110,90 @@ public abstract class AbstractReceptionHandler implements ReceptionHandler {
     /**
      * Handle input that has been received. The given input shall be decoded using the {@link PolicyDecoder}s configured
      * for this reception handler and forwarded using the {@link PolicyForwarder}s configured for this reception
-     * handler.
+     * handler. If a staged pipeline is configured, the input is processed by the pipeline and this method waits for
+     * its completion.
+     *
+     * @param policyInput the input that has been received
+     * @return the result of forwarding for each policy forwarder, empty if the input was skipped as a duplicate
+     * @throws PolicyDecodingException if an error occurs when no decoders are available
+     */
+    protected List<PolicyForwardingResult> inputReceived(final PolicyInput policyInput)
+            throws PolicyDecodingException {
+        try {
+            return inputReceivedAsync(policyInput).join();
+        } catch (final CompletionException exp) {
+            if (exp.getCause() instanceof PolicyDecodingException decodingException) {
+                throw decodingException;
+            }
+            throw exp;
+        }
+    }
+
+    /**
+     * Handle input that has been received without waiting for it to be decoded and forwarded. If a staged pipeline is
+     * configured, the calling thread only blocks while the pipeline is full, otherwise the input is processed inline.
+     * If deduplication is configured, an input identical to an input already distributed is skipped.
+     *
+     * @param policyInput the input that has been received
+     * @return a future completed with the forwarding results, or completed exceptionally with a
+     *         {@link PolicyDecodingException} if no decoders are available
+     */
+    protected CompletableFuture<List<PolicyForwardingResult>> inputReceivedAsync(final PolicyInput policyInput) {
+        final var digest = deduplicationCache != null ? deduplicationCache.digest(policyInput) : null;
+        if (digest != null && deduplicationCache.isDuplicate(digest)) {
+            LOGGER.info("Skipping input identical to an input already distributed, digest {}", digest);
+            closeInput(policyInput);
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        final var startTime = System.nanoTime();
+        final var result = processInput(policyInput).whenComplete((results, exp) -> DistributionStatisticsManager
+                .observeDistributionDuration(getReceptionHandlerName(), System.nanoTime() - startTime));
+        if (digest == null) {
+            return result;
+        }
+
+        // only remember inputs that were distributed, so that inputs that failed to be forwarded can be retried
+        return result.whenComplete((results, exp) -> {
+            if (exp == null && results.stream().allMatch(PolicyForwardingResult::isSuccessful)) {
+                deduplicationCache.record(digest);
+            }
+        });
+    }
+
+    private CompletableFuture<List<PolicyForwardingResult>> processInput(final PolicyInput policyInput) {
+        if (pipeline != null) {
+            return pipeline.submit(policyInput);
+        }
+        try {
+            return CompletableFuture.completedFuture(forwardPolicies(decodePolicies(policyInput)));
+        } catch (final PolicyDecodingException exp) {
+            return CompletableFuture.failedFuture(exp);
+        }
+    }
+
+    /**
+     * Decode the given input using the {@link PolicyDecoder}s configured for this reception handler. The input is
+     * closed once all the decoders have handled it.
      *
      * @param policyInput the input that has been received
+     * @return the decoded policies
      * @throws PolicyDecodingException if an error occurs when no decoders are available
      */
-    protected void inputReceived(final PolicyInput policyInput) throws PolicyDecodingException {
+    protected Collection<ToscaEntity> decodePolicies(final PolicyInput policyInput) throws PolicyDecodingException {
 
         final Collection<ToscaEntity> policies = new ArrayList<>();
 
         try {
             for (final PolicyDecoder<PolicyInput, ToscaEntity> policyDecoder : getRelevantPolicyDecoders(policyInput)) {
                 LOGGER.debug("Policy decoder: {}", policyDecoder.getClass());
-                policies.addAll(policyDecoder.decode(policyInput));
+                final var startTime = System.nanoTime();
+                try {
+                    policies.addAll(policyDecoder.decode(policyInput));
+                } finally {
+                    DistributionStatisticsManager.observeDecodeDuration(getReceptionHandlerName(),
+                            policyDecoder.getClass().getSimpleName(), System.nanoTime() - startTime);
+                }
             }
         } catch (PolicyDecodingException decodingException) {
             if (decodingException.getMessage().contains("No decoder")) {
@@ -89,15 +201,67 @@ public abstract class AbstractReceptionHandler implements ReceptionHandler {
             } else {
                 LOGGER.error("Couldn't decode the policy", decodingException);
             }
+        } finally {
+            closeInput(policyInput);
         }
 
-        for (final PolicyForwarder policyForwarder : pluginHandler.getPolicyForwarders()) {
+        return policies;
+    }
+
+    private void closeInput(final PolicyInput policyInput) {
+        if (policyInput instanceof Closeable closeable) {
             try {
-                LOGGER.debug("Trying to forward policy to {}", policyForwarder.getClass());
+                closeable.close();
+            } catch (final IOException exp) {
+                LOGGER.warn("Couldn't close the policy input", exp);
+            }
+        }
+    }
+
+    /**
+     * Forward the given policies using the {@link PolicyForwarder}s configured for this reception handler. The
+     * forwarders are invoked in parallel if a forwarder thread pool is configured, otherwise one after another.
+     *
+     * @param policies the policies to forward
+     * @return the result of forwarding for each policy forwarder
+     */
+    protected List<PolicyForwardingResult> forwardPolicies(final Collection<ToscaEntity> policies) {
+        final ExecutorService forwarderExecutor = pluginHandler.getForwarderExecutor();
+        if (forwarderExecutor == null) {
+            final List<PolicyForwardingResult> results = new ArrayList<>();
+            for (final PolicyForwarder policyForwarder : pluginHandler.getPolicyForwarders()) {
+                results.add(forwardPolicies(policyForwarder, policies));
+            }
+            return results;
+        }
+
+        final Collection<ToscaEntity> sharedPolicies = Collections.unmodifiableCollection(policies);
+        final List<CompletableFuture<PolicyForwardingResult>> futures = new ArrayList<>();
+        for (final PolicyForwarder policyForwarder : pluginHandler.getPolicyForwarders()) {
+            futures.add(CompletableFuture.supplyAsync(() -> forwardPolicies(policyForwarder, sharedPolicies),
+                    forwarderExecutor));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private PolicyForwardingResult forwardPolicies(final PolicyForwarder policyForwarder,
+            final Collection<ToscaEntity> policies) {
+        final var startTime = System.nanoTime();
+        try {
+            LOGGER.debug("Trying to forward policy to {}", policyForwarder.getClass());
+            final var forwardingOutbox = pluginHandler.getForwardingOutbox();
+            if (forwardingOutbox != null) {
+                forwardingOutbox.forward(policyForwarder, policies);
+            } else {
                 policyForwarder.forward(policies);
-            } catch (final PolicyForwardingException policyForwardingException) {
-                LOGGER.error("Error when forwarding policies to {}", policyForwarder, policyForwardingException);
             }
+            return new PolicyForwardingResult(policyForwarder, null);
+        } catch (final PolicyForwardingException policyForwardingException) {
+            LOGGER.error("Error when forwarding policies to {}", policyForwarder, policyForwardingException);
+            return new PolicyForwardingResult(policyForwarder, policyForwardingException);
+        } finally {
+            DistributionStatisticsManager.observeForwardDuration(getReceptionHandlerName(),
+                    policyForwarder.getClass().getSimpleName(), System.nanoTime() - startTime);
         }
     }
 
@@ -0,0 +1,66 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.distribution.reception.handling;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 digest identifying the contents of an input or a file, computed by streaming the contents through the
+ * digest rather than holding them in memory.
+ */
+public final class ContentDigest {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 8192;
+
+    private ContentDigest() {
+        throw new IllegalStateException("Instantiation of the class is not allowed");
+    }
+
+    /**
+     * Compute the digest of the contents of a stream, reading the stream to its end.
+     *
+     * @param inputStream the stream, left open
+     * @return the hex encoded digest
+     * @throws IOException if the stream can't be read
+     */
+    public static String sha256(final InputStream inputStream) throws IOException {
+        final MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (final NoSuchAlgorithmException exp) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(exp);
+        }
+
+        final var buffer = new byte[BUFFER_SIZE];
+        int count;
+        while ((count = inputStream.read(buffer)) > 0) {
+            messageDigest.update(buffer, 0, count);
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+}
@@ -0,0 +1,405 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.distribution.forwarding.PolicyForwarder;
+import org.onap.policy.distribution.forwarding.PolicyForwardingException;
+import org.onap.policy.distribution.reception.handling.ForwardingOutboxJournal.StoredBatch;
+import org.onap.policy.distribution.reception.handling.ForwardingOutboxJournal.StoredPolicy;
+import org.onap.policy.distribution.reception.parameters.OutboxParameters;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Outbox in which the policies that a policy forwarder fails to accept for the time being are kept and retried until
+ * the forwarder accepts them, instead of being dropped. The outbox of each forwarder is retried in order, one batch at
+ * a time, with an exponential backoff with jitter between attempts. A batch that the forwarder rejects, or that still
+ * fails after the maximum number of attempts, is dropped so that it doesn't hold up the batches behind it. After a
+ * number of consecutive failures the forwarder is no longer invoked directly: the policies go straight to its outbox
+ * and the forwarder is left alone for a while before a single batch is tried again. The batches are kept in a journal
+ * file, forced to disk before the policies are considered forwarded, so that they survive a restart.
+ */
+public class ForwardingOutbox implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ForwardingOutbox.class);
+
+    static final String DEFERRED = "deferred";
+    static final String DELIVERED = "delivered";
+    static final String RETRIED = "retried";
+    static final String DROPPED = "dropped";
+
+    private static final StandardCoder CODER = new StandardCoder();
+    private static final long TERMINATION_TIMEOUT_SECONDS = 30;
+
+    private record PendingBatch(long id, Collection<ToscaEntity> policies) {
+    }
+
+    private final OutboxParameters parameters;
+    private final RetryBackoff retryBackoff;
+    private final ForwardingOutboxJournal journal;
+    private final ScheduledThreadPoolExecutor executor;
+    private final AtomicLong lastId;
+    private final Map<PolicyForwarder, ForwarderOutbox> outboxes = new IdentityHashMap<>();
+
+    /**
+     * Create the outbox for the given policy forwarders, retrying the batches that were left in the journal file.
+     *
+     * @param parameters the outbox parameters
+     * @param policyForwarders the policy forwarders, by name
+     * @throws IOException if the journal file can't be opened
+     */
+    public ForwardingOutbox(final OutboxParameters parameters, final Map<String, PolicyForwarder> policyForwarders)
+            throws IOException {
+        this.parameters = parameters;
+        this.retryBackoff = new RetryBackoff(parameters.getInitialRetryDelayMillis(),
+                parameters.getMaxRetryDelayMillis());
+        this.journal = new ForwardingOutboxJournal(Path.of(parameters.getOutboxFile()), parameters.getWriteBatchSize());
+        this.lastId = new AtomicLong(journal.getLastId());
+
+        final var threadCount = new AtomicInteger();
+        executor = new ScheduledThreadPoolExecutor(Math.max(1, policyForwarders.size()), runnable -> {
+            final var thread = new Thread(runnable, "policy-forwarder-outbox-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+
+        final Map<String, ForwarderOutbox> outboxesByName = new HashMap<>();
+        for (final var entry : policyForwarders.entrySet()) {
+            final var outbox = new ForwarderOutbox(entry.getKey(), entry.getValue());
+            outboxes.put(entry.getValue(), outbox);
+            outboxesByName.put(entry.getKey(), outbox);
+        }
+        resumeLoadedBatches(outboxesByName);
+    }
+
+    /**
+     * Check if the outbox is enabled.
+     *
+     * @param parameters the outbox parameters, may be null
+     * @return true if the outbox is enabled
+     */
+    public static boolean isEnabled(final OutboxParameters parameters) {
+        return parameters != null && parameters.isEnabled();
+    }
+
+    /**
+     * Forward policies through the outbox. The policies are forwarded directly if the forwarder is healthy and its
+     * outbox is empty, otherwise, or if the forwarder fails to accept them for the time being, they are kept in the
+     * outbox to be retried.
+     *
+     * @param policyForwarder the policy forwarder
+     * @param policies the policies to forward
+     * @throws PolicyForwardingException if the forwarder rejects the policies, or if they could neither be forwarded
+     *         nor kept in the outbox
+     */
+    public void forward(final PolicyForwarder policyForwarder, final Collection<ToscaEntity> policies)
+            throws PolicyForwardingException {
+        final var outbox = outboxes.get(policyForwarder);
+        if (outbox == null) {
+            policyForwarder.forward(policies);
+            return;
+        }
+
+        if (outbox.acceptsDirectForwarding()) {
+            try {
+                policyForwarder.forward(policies);
+                outbox.succeeded();
+                return;
+            } catch (final PolicyForwardingException exp) {
+                if (!exp.isRetryable()) {
+                    throw exp;
+                }
+                outbox.failed();
+                defer(outbox, policies, exp);
+                return;
+            }
+        }
+        defer(outbox, policies, null);
+    }
+
+    /**
+     * Stop retrying the batches in the outbox. The batches kept in the journal file are retried on the next start.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (final InterruptedException exp) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        for (final var outbox : outboxes.values()) {
+            outbox.logPendingBatches();
+        }
+        journal.close();
+    }
+
+    private void defer(final ForwarderOutbox outbox, final Collection<ToscaEntity> policies,
+            final PolicyForwardingException cause) throws PolicyForwardingException {
+        final var batch = new PendingBatch(lastId.incrementAndGet(), List.copyOf(policies));
+        try {
+            journal.added(new StoredBatch(batch.id(), outbox.name, encode(batch.policies()))).get();
+        } catch (final CoderException | ExecutionException exp) {
+            throw deferralFailure(outbox, cause, exp);
+        } catch (final InterruptedException exp) {
+            Thread.currentThread().interrupt();
+            throw deferralFailure(outbox, cause, exp);
+        }
+
+        if (cause != null) {
+            LOGGER.warn("Policies kept in the outbox of forwarder {} after it failed to accept them", outbox.name,
+                    cause);
+        } else {
+            LOGGER.debug("Policies kept in the outbox of forwarder {} without invoking the forwarder", outbox.name);
+        }
+        DistributionStatisticsManager.updateForwardingOutboxCount(outbox.name, DEFERRED);
+        outbox.add(batch);
+    }
+
+    private PolicyForwardingException deferralFailure(final ForwarderOutbox outbox,
+            final PolicyForwardingException cause, final Exception exp) {
+        if (cause != null) {
+            cause.addSuppressed(exp);
+            return cause;
+        }
+        return new PolicyForwardingException("Couldn't keep the policies in the outbox of forwarder " + outbox.name,
+                exp);
+    }
+
+    private void resumeLoadedBatches(final Map<String, ForwarderOutbox> outboxesByName) {
+        for (final var storedBatch : journal.getLoadedBatches()) {
+            final var outbox = outboxesByName.get(storedBatch.forwarder());
+            if (outbox == null) {
+                LOGGER.warn("Policies kept in the outbox for unknown forwarder {} are not retried",
+                        storedBatch.forwarder());
+                continue;
+            }
+            try {
+                outbox.resume(new PendingBatch(storedBatch.id(), decode(storedBatch.policies())));
+            } catch (final CoderException | ClassNotFoundException | ClassCastException exp) {
+                LOGGER.error("Dropping policies kept in the outbox of forwarder {} that can't be decoded",
+                        outbox.name, exp);
+                DistributionStatisticsManager.updateForwardingOutboxCount(outbox.name, DROPPED);
+                journal.dropped(storedBatch.id());
+            }
+        }
+        for (final var outbox : outboxesByName.values()) {
+            outbox.startResumed();
+        }
+    }
+
+    private static List<StoredPolicy> encode(final Collection<ToscaEntity> policies) throws CoderException {
+        final List<StoredPolicy> storedPolicies = new ArrayList<>(policies.size());
+        for (final ToscaEntity policy : policies) {
+            storedPolicies.add(new StoredPolicy(policy.getClass().getName(), CODER.encode(policy)));
+        }
+        return storedPolicies;
+    }
+
+    private static Collection<ToscaEntity> decode(final List<StoredPolicy> storedPolicies)
+            throws CoderException, ClassNotFoundException {
+        final List<ToscaEntity> policies = new ArrayList<>(storedPolicies.size());
+        for (final StoredPolicy storedPolicy : storedPolicies) {
+            final var policyClass = Class.forName(storedPolicy.className()).asSubclass(ToscaEntity.class);
+            policies.add(CODER.decode(storedPolicy.policy(), policyClass));
+        }
+        return policies;
+    }
+
+    /**
+     * The outbox of a single policy forwarder, tracking its consecutive failures and the attempts of its first batch.
+     */
+    private final class ForwarderOutbox {
+        private final String name;
+        private final PolicyForwarder policyForwarder;
+        private final Deque<PendingBatch> batches = new ArrayDeque<>();
+        private int consecutiveFailures;
+        private int headAttempts;
+        private long openUntilMillis;
+        private boolean draining;
+
+        private ForwarderOutbox(final String name, final PolicyForwarder policyForwarder) {
+            this.name = name;
+            this.policyForwarder = policyForwarder;
+        }
+
+        private synchronized boolean acceptsDirectForwarding() {
+            return batches.isEmpty() && System.currentTimeMillis() >= openUntilMillis;
+        }
+
+        private synchronized void succeeded() {
+            consecutiveFailures = 0;
+            if (openUntilMillis > 0) {
+                openUntilMillis = 0;
+                LOGGER.info("Forwarder {} accepts policies again", name);
+                DistributionStatisticsManager.setForwardingCircuitOpen(name, false);
+            }
+        }
+
+        private synchronized void failed() {
+            if (++consecutiveFailures >= parameters.getFailureThreshold()) {
+                if (openUntilMillis == 0) {
+                    LOGGER.warn("Forwarder {} failed {} times in a row, no longer invoking it directly", name,
+                            consecutiveFailures);
+                    DistributionStatisticsManager.setForwardingCircuitOpen(name, true);
+                }
+                openUntilMillis = System.currentTimeMillis() + parameters.getOpenCircuitMillis();
+            }
+        }
+
+        private synchronized void add(final PendingBatch batch) {
+            batches.add(batch);
+            DistributionStatisticsManager.setForwardingOutboxDepth(name, batches.size());
+            if (!draining) {
+                draining = true;
+                scheduleDrain(nextDrainDelayMillis());
+            }
+        }
+
+        private synchronized void resume(final PendingBatch batch) {
+            batches.add(batch);
+            DistributionStatisticsManager.setForwardingOutboxDepth(name, batches.size());
+        }
+
+        private synchronized void startResumed() {
+            if (!batches.isEmpty() && !draining) {
+                draining = true;
+                // spread the first attempts so that the forwarders are not all retried at once on startup
+                scheduleDrain(ThreadLocalRandom.current().nextLong(parameters.getInitialRetryDelayMillis() + 1));
+            }
+        }
+
+        private void drain() {
+            final PendingBatch batch;
+            synchronized (this) {
+                batch = batches.peek();
+                if (batch == null) {
+                    draining = false;
+                    return;
+                }
+            }
+
+            try {
+                policyForwarder.forward(batch.policies());
+            } catch (final PolicyForwardingException exp) {
+                if (!exp.isRetryable()) {
+                    LOGGER.error("Dropping policies kept in the outbox of forwarder {} that it rejects", name, exp);
+                    remove(batch, false, 0);
+                    return;
+                }
+                retryLater(batch, exp);
+                return;
+            } catch (final RuntimeException exp) {
+                retryLater(batch, exp);
+                return;
+            }
+
+            synchronized (this) {
+                succeeded();
+            }
+            remove(batch, true, 0);
+        }
+
+        private void retryLater(final PendingBatch batch, final Exception exp) {
+            final int attempts;
+            final long delayMillis;
+            synchronized (this) {
+                failed();
+                attempts = ++headAttempts;
+                delayMillis = nextDrainDelayMillis();
+            }
+            if (attempts >= parameters.getMaxAttempts()) {
+                LOGGER.error("Dropping policies kept in the outbox of forwarder {} after {} failed attempts", name,
+                        attempts, exp);
+                remove(batch, false, delayMillis);
+                return;
+            }
+            LOGGER.debug("Forwarder {} failed to accept the policies kept in its outbox", name, exp);
+            DistributionStatisticsManager.updateForwardingOutboxCount(name, RETRIED);
+            synchronized (this) {
+                scheduleDrain(delayMillis);
+            }
+        }
+
+        private void remove(final PendingBatch batch, final boolean delivered, final long nextDrainDelayMillis) {
+            DistributionStatisticsManager.updateForwardingOutboxCount(name, delivered ? DELIVERED : DROPPED);
+            final var recorded = delivered ? journal.delivered(batch.id()) : journal.dropped(batch.id());
+            recorded.exceptionally(exp -> {
+                LOGGER.warn("Couldn't record the removal of the policies kept in the outbox of forwarder {}", name,
+                        exp);
+                return null;
+            });
+            synchronized (this) {
+                headAttempts = 0;
+                batches.poll();
+                DistributionStatisticsManager.setForwardingOutboxDepth(name, batches.size());
+                scheduleDrain(nextDrainDelayMillis);
+            }
+        }
+
+        private synchronized void logPendingBatches() {
+            if (!batches.isEmpty()) {
+                LOGGER.warn("{} batches of policies left in the outbox of forwarder {}, retried on the next start",
+                        batches.size(), name);
+            }
+        }
+
+        private long nextDrainDelayMillis() {
+            final var backoff = consecutiveFailures > 0 ? retryBackoff.nextDelayMillis(consecutiveFailures) : 0;
+            return Math.max(backoff, openUntilMillis - System.currentTimeMillis());
+        }
+
+        private void scheduleDrain(final long delayMillis) {
+            try {
+                executor.schedule(this::drain, delayMillis, TimeUnit.MILLISECONDS);
+            } catch (final RejectedExecutionException exp) {
+                // the outbox is closed, the batches kept in the journal file are retried on the next start
+                draining = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.distribution.reception.handling.ForwardingOutboxJournal.JournalRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only journal of the forwarding outbox, recording each batch of policies added to the outbox and its removal
+ * once delivered or dropped. The records are appended by a single writer thread, which writes together the records
+ * queued while it was busy and forces them to disk once, so that concurrent callers share the cost of forcing the file.
+ * The journal is compacted when loaded, keeping the batches not delivered.
+ */
+class ForwardingOutboxJournal extends JsonLinesJournal<JournalRecord> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ForwardingOutboxJournal.class);
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long CLOSE_TIMEOUT_MILLIS = 30000;
+
+    private enum RecordType {
+        ADDED, DELIVERED, DROPPED
+    }
+
+    /**
+     * A policy kept in the journal, encoded along with its class so that it can be decoded again.
+     *
+     * @param className the class of the policy
+     * @param policy the encoded policy
+     */
+    record StoredPolicy(String className, String policy) {
+    }
+
+    /**
+     * A batch of policies waiting in the outbox.
+     *
+     * @param id the id of the batch
+     * @param forwarder the name of the policy forwarder the batch is to be forwarded to
+     * @param policies the policies of the batch
+     */
+    record StoredBatch(long id, String forwarder, List<StoredPolicy> policies) {
+    }
+
+    /**
+     * A record of the journal, the policies being null for a delivered or dropped batch.
+     *
+     * @param type the type of the record
+     * @param id the id of the batch
+     * @param forwarder the name of the policy forwarder of an added batch
+     * @param policies the policies of an added batch
+     */
+    record JournalRecord(RecordType type, Long id, String forwarder, List<StoredPolicy> policies) {
+    }
+
+    private record PendingWrite(JournalRecord journalRecord, CompletableFuture<Void> written) {
+    }
+
+    private final int writeBatchSize;
+    private final BlockingQueue<PendingWrite> writeQueue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    // The batches not delivered, in the order they were added, updated by the writer thread once the journal is open
+    private final Map<Long, StoredBatch> batches = new LinkedHashMap<>();
+    private final List<StoredBatch> loadedBatches;
+    private final long loadedLastId;
+    private long lastId;
+
+    /**
+     * Create the journal, loading the batches not delivered that are already in the journal file.
+     *
+     * @param journalFile the journal file
+     * @param writeBatchSize the maximum number of records written before the journal file is forced to disk
+     * @throws IOException if the journal file can't be opened
+     */
+    ForwardingOutboxJournal(final Path journalFile, final int writeBatchSize) throws IOException {
+        super(journalFile, JournalRecord.class, "forwarding outbox journal");
+        this.writeBatchSize = writeBatchSize;
+        open();
+        loadedBatches = List.copyOf(batches.values());
+        loadedLastId = lastId;
+        writer = new Thread(this::write, "policy-forwarder-outbox-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Get the batches not delivered that were in the journal file when it was loaded.
+     *
+     * @return the batches, in the order they were added
+     */
+    List<StoredBatch> getLoadedBatches() {
+        return loadedBatches;
+    }
+
+    /**
+     * Get the highest batch id found in the journal file when it was loaded.
+     *
+     * @return the highest batch id, 0 if the journal file held no batches
+     */
+    long getLastId() {
+        return loadedLastId;
+    }
+
+    /**
+     * Record a batch added to the outbox.
+     *
+     * @param batch the batch
+     * @return a future completed once the record is forced to disk
+     */
+    CompletableFuture<Void> added(final StoredBatch batch) {
+        return queue(new JournalRecord(RecordType.ADDED, batch.id(), batch.forwarder(), batch.policies()));
+    }
+
+    /**
+     * Record a batch delivered to its policy forwarder.
+     *
+     * @param id the id of the batch
+     * @return a future completed once the record is forced to disk
+     */
+    CompletableFuture<Void> delivered(final long id) {
+        return queue(new JournalRecord(RecordType.DELIVERED, id, null, null));
+    }
+
+    /**
+     * Record a batch dropped without being delivered to its policy forwarder.
+     *
+     * @param id the id of the batch
+     * @return a future completed once the record is forced to disk
+     */
+    CompletableFuture<Void> dropped(final long id) {
+        return queue(new JournalRecord(RecordType.DROPPED, id, null, null));
+    }
+
+    /**
+     * Write the records already appended and close the journal file.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (final InterruptedException exp) {
+            Thread.currentThread().interrupt();
+        }
+        super.close();
+    }
+
+    private CompletableFuture<Void> queue(final JournalRecord journalRecord) {
+        final var written = new CompletableFuture<Void>();
+        synchronized (this) {
+            if (closed) {
+                return CompletableFuture.failedFuture(
+                        new IOException("Forwarding outbox journal " + getJournalFile() + " is closed"));
+            }
+            writeQueue.add(new PendingWrite(journalRecord, written));
+        }
+        return written;
+    }
+
+    private void write() {
+        final List<PendingWrite> batch = new ArrayList<>(writeBatchSize);
+        while (!closed || !writeQueue.isEmpty()) {
+            try {
+                final var first = writeQueue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (final InterruptedException exp) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            writeQueue.drainTo(batch, writeBatchSize - 1);
+            writeBatch(batch);
+            batch.clear();
+        }
+
+        writeQueue.drainTo(batch);
+        final var exp = new IOException("Forwarding outbox journal " + getJournalFile() + " is closed");
+        batch.forEach(pendingWrite -> pendingWrite.written().completeExceptionally(exp));
+    }
+
+    private void writeBatch(final List<PendingWrite> batch) {
+        try {
+            append(batch.stream().map(PendingWrite::journalRecord).toList());
+            batch.forEach(pendingWrite -> pendingWrite.written().complete(null));
+        } catch (final IOException exp) {
+            LOGGER.warn("Couldn't append to the forwarding outbox journal {}", getJournalFile(), exp);
+            batch.forEach(pendingWrite -> pendingWrite.written().completeExceptionally(exp));
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected boolean isValid(final JournalRecord journalRecord) {
+        return journalRecord.type() != null && journalRecord.id() != null
+                && (journalRecord.type() != RecordType.ADDED
+                        || journalRecord.forwarder() != null && journalRecord.policies() != null);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected void apply(final JournalRecord journalRecord) {
+        lastId = Math.max(lastId, journalRecord.id());
+        if (journalRecord.type() == RecordType.ADDED) {
+            batches.put(journalRecord.id(),
+                    new StoredBatch(journalRecord.id(), journalRecord.forwarder(), journalRecord.policies()));
+        } else {
+            batches.remove(journalRecord.id());
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected List<JournalRecord> liveRecords() {
+        return batches.values().stream()
+                .map(batch -> new JournalRecord(RecordType.ADDED, batch.id(), batch.forwarder(), batch.policies()))
+                .toList();
+    }
+}
@@ -0,0 +1,205 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.onap.policy.distribution.model.Csar;
+import org.onap.policy.distribution.model.PolicyInput;
+import org.onap.policy.distribution.reception.parameters.DeduplicationParameters;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of the SHA-256 digests of the inputs that have been distributed, used to skip inputs identical to inputs
+ * already distributed. The cache is bounded in size, the least recently seen digests being evicted first, and
+ * optionally in time. The digests can also be kept in an index file so that they survive a restart.
+ */
+public class InputDeduplicationCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InputDeduplicationCache.class);
+
+    private final int capacity;
+    private final long timeToLiveMillis;
+    private final Path indexFile;
+    private final Clock clock;
+
+    // The time at which each digest was recorded, in the order the digests were last seen
+    private final Map<String, Long> digests;
+    private int appendedSinceCompaction;
+
+    /**
+     * Create the cache, loading the digests kept in the index file if one is configured.
+     *
+     * @param parameters the deduplication parameters
+     */
+    public InputDeduplicationCache(final DeduplicationParameters parameters) {
+        this(parameters, Clock.systemUTC());
+    }
+
+    InputDeduplicationCache(final DeduplicationParameters parameters, final Clock clock) {
+        this.capacity = parameters.getCacheSize();
+        this.timeToLiveMillis = parameters.getTimeToLiveSeconds() * 1000;
+        this.indexFile = parameters.getIndexFile() != null ? Path.of(parameters.getIndexFile()) : null;
+        this.clock = clock;
+        this.digests = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Long> eldest) {
+                return size() > capacity;
+            }
+        };
+        loadIndex();
+    }
+
+    /**
+     * Check if deduplication is enabled by the given parameters.
+     *
+     * @param parameters the deduplication parameters, null if not configured
+     * @return true if inputs identical to inputs already distributed are to be skipped
+     */
+    public static boolean isEnabled(final DeduplicationParameters parameters) {
+        return parameters != null && parameters.isEnabled();
+    }
+
+    /**
+     * Compute the digest of the contents of an input, streaming the contents through the digest.
+     *
+     * @param policyInput the input
+     * @return the hex encoded digest, or null if the input contents can't be read and so can't be deduplicated
+     */
+    public String digest(final PolicyInput policyInput) {
+        if (!(policyInput instanceof Csar csar)) {
+            return null;
+        }
+
+        try (var inputStream = csar.getInputStream()) {
+            return ContentDigest.sha256(inputStream);
+        } catch (final IOException exp) {
+            LOGGER.warn("Couldn't compute the digest of {}, the input is not deduplicated", csar.getCsarFilePath(),
+                exp);
+            return null;
+        }
+    }
+
+    /**
+     * Check if an input with the given digest has already been distributed.
+     *
+     * @param digest the digest of the input
+     * @return true if the input has already been distributed and has not expired from the cache
+     */
+    public synchronized boolean isDuplicate(final String digest) {
+        final var recorded = digests.get(digest);
+        if (recorded != null && !isExpired(recorded)) {
+            DistributionStatisticsManager.updateDeduplicationHitCount();
+            return true;
+        }
+
+        if (recorded != null) {
+            digests.remove(digest);
+        }
+        DistributionStatisticsManager.updateDeduplicationMissCount();
+        return false;
+    }
+
+    /**
+     * Record that an input with the given digest has been distributed.
+     *
+     * @param digest the digest of the input
+     */
+    public synchronized void record(final String digest) {
+        final var now = clock.millis();
+        digests.put(digest, now);
+
+        if (indexFile == null) {
+            return;
+        }
+
+        if (++appendedSinceCompaction > capacity) {
+            writeIndex();
+            return;
+        }
+        try {
+            Files.writeString(indexFile, digest + " " + now + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (final IOException exp) {
+            LOGGER.warn("Couldn't append to the deduplication index {}", indexFile, exp);
+        }
+    }
+
+    /**
+     * Get the number of digests held by the cache.
+     *
+     * @return the number of digests
+     */
+    public synchronized int size() {
+        return digests.size();
+    }
+
+    private boolean isExpired(final long recorded) {
+        return timeToLiveMillis > 0 && clock.millis() - recorded > timeToLiveMillis;
+    }
+
+    private void loadIndex() {
+        if (indexFile == null || !Files.exists(indexFile)) {
+            return;
+        }
+
+        try (var lines = Files.lines(indexFile, StandardCharsets.UTF_8)) {
+            lines.map(line -> line.split(" ")).filter(fields -> fields.length == 2).forEach(fields -> {
+                try {
+                    final var recorded = Long.parseLong(fields[1]);
+                    if (!isExpired(recorded)) {
+                        digests.put(fields[0], recorded);
+                    }
+                } catch (final NumberFormatException exp) {
+                    LOGGER.debug("Skipping invalid deduplication index entry {}", String.join(" ", fields), exp);
+                }
+            });
+        } catch (final IOException | RuntimeException exp) {
+            LOGGER.warn("Couldn't load the deduplication index {}", indexFile, exp);
+        }
+
+        // drop the expired, evicted and invalid entries from the index
+        writeIndex();
+    }
+
+    private void writeIndex() {
+        final var contents = new StringBuilder();
+        digests.forEach((digest, recorded) ->
+            contents.append(digest).append(' ').append(recorded).append(System.lineSeparator()));
+
+        try {
+            JournalFiles.replace(indexFile, contents);
+            appendedSinceCompaction = 0;
+        } catch (final IOException exp) {
+            LOGGER.warn("Couldn't write the deduplication index {}", indexFile, exp);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.distribution.reception.handling;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Helper for the journal and index files that are appended to and periodically compacted.
+ */
+public final class JournalFiles {
+
+    private JournalFiles() {
+        throw new IllegalStateException("Instantiation of the class is not allowed");
+    }
+
+    /**
+     * Replace the contents of a file with its compacted contents. The contents are written to a temporary file that is
+     * then moved atomically over the file, so that a process dying while compacting leaves either the old or the new
+     * contents, never a partly written file.
+     *
+     * @param file the file
+     * @param contents the compacted contents
+     * @throws IOException if the contents can't be written or the file can't be replaced
+     */
+    public static void replace(final Path file, final CharSequence contents) throws IOException {
+        final var tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(tempFile, contents, StandardCharsets.UTF_8);
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
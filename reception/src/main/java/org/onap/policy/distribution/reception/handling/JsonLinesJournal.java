@@ -0,0 +1,236 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only journal file holding one JSON record per line. The records are replayed when the journal is opened, a
+ * record that can't be decoded, such as the last record truncated by a process that died while appending it, being
+ * skipped. The journal is then compacted if it holds records that are no longer live, keeping only the live records.
+ * Appended records are forced to disk before they are applied. While running, the journal is compacted again whenever
+ * the records appended since the last compaction outnumber both a threshold and the records it kept, so that a
+ * long-running process doesn't grow the journal file without bound. A journal isn't thread safe, its subclasses
+ * serialize the appends.
+ *
+ * @param <R> the type of the records of the journal
+ */
+public abstract class JsonLinesJournal<R> implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonLinesJournal.class);
+
+    private static final StandardCoder CODER = new StandardCoder();
+    private static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private final Path journalFile;
+    private final Class<R> recordClass;
+    private final String description;
+    private final int compactionThreshold;
+    private FileChannel channel;
+    private int appendedSinceCompaction;
+    private int keptOnCompaction;
+
+    /**
+     * Create the journal, {@link #open()} is to be called once the subclass is ready to replay the records.
+     *
+     * @param journalFile the journal file
+     * @param recordClass the class of the records
+     * @param description the description of the journal, for logging
+     */
+    protected JsonLinesJournal(final Path journalFile, final Class<R> recordClass, final String description) {
+        this(journalFile, recordClass, description, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Create the journal, {@link #open()} is to be called once the subclass is ready to replay the records.
+     *
+     * @param journalFile the journal file
+     * @param recordClass the class of the records
+     * @param description the description of the journal, for logging
+     * @param compactionThreshold the number of records appended after which the journal is compacted while running
+     */
+    protected JsonLinesJournal(final Path journalFile, final Class<R> recordClass, final String description,
+            final int compactionThreshold) {
+        this.journalFile = journalFile;
+        this.recordClass = recordClass;
+        this.description = description;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Get the journal file.
+     *
+     * @return the journal file
+     */
+    protected Path getJournalFile() {
+        return journalFile;
+    }
+
+    /**
+     * Check if a decoded record holds the fields its type requires.
+     *
+     * @param journalRecord the decoded record
+     * @return true if the record is valid
+     */
+    protected abstract boolean isValid(R journalRecord);
+
+    /**
+     * Apply a record replayed from the journal file or appended to it.
+     *
+     * @param journalRecord the record
+     */
+    protected abstract void apply(R journalRecord);
+
+    /**
+     * Get the records that are still live, which the journal file is compacted to.
+     *
+     * @return the live records, in the order they are to be replayed
+     */
+    protected abstract List<R> liveRecords();
+
+    /**
+     * Replay the records already in the journal file, compact it if it holds records that are no longer live and open
+     * it for appending.
+     *
+     * @throws IOException if the journal file can't be opened
+     */
+    protected final void open() throws IOException {
+        if (Files.exists(journalFile)) {
+            var recordCount = 0;
+            try (var lines = Files.lines(journalFile, StandardCharsets.UTF_8)) {
+                for (final var line : (Iterable<String>) lines::iterator) {
+                    recordCount++;
+                    final var journalRecord = parse(line);
+                    if (journalRecord != null) {
+                        apply(journalRecord);
+                    }
+                }
+            } catch (final IOException | RuntimeException exp) {
+                LOGGER.warn("Couldn't load the {} {}", description, journalFile, exp);
+            }
+
+            if (recordCount > liveRecords().size()) {
+                compact();
+            }
+        }
+        keptOnCompaction = liveRecords().size();
+        openChannel();
+    }
+
+    /**
+     * Append records to the journal file, forcing them to disk once, and apply them.
+     *
+     * @param journalRecords the records
+     * @throws IOException if the records can't be encoded or written
+     */
+    protected final void append(final List<R> journalRecords) throws IOException {
+        final var contents = new StringBuilder();
+        try {
+            for (final R journalRecord : journalRecords) {
+                contents.append(CODER.encode(journalRecord)).append(System.lineSeparator());
+            }
+        } catch (final CoderException exp) {
+            throw new IOException("Couldn't encode a record of the " + description + " " + journalFile, exp);
+        }
+
+        final var buffer = ByteBuffer.wrap(contents.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        journalRecords.forEach(this::apply);
+
+        appendedSinceCompaction += journalRecords.size();
+        if (appendedSinceCompaction > Math.max(compactionThreshold, keptOnCompaction)) {
+            compactWhileOpen();
+        }
+    }
+
+    /**
+     * Close the journal file.
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (final IOException exp) {
+            LOGGER.warn("Couldn't close the {} {}", description, journalFile, exp);
+        }
+    }
+
+    // The records appended are already forced to disk, so a failed compaction leaves the journal as it was
+    private void compactWhileOpen() {
+        try {
+            channel.close();
+            compact();
+            openChannel();
+        } catch (final IOException exp) {
+            // the next append fails on the closed channel rather than losing its records
+            LOGGER.warn("Couldn't reopen the {} {} while compacting it", description, journalFile, exp);
+        }
+        appendedSinceCompaction = 0;
+        keptOnCompaction = liveRecords().size();
+    }
+
+    private void openChannel() throws IOException {
+        channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private void compact() {
+        final var contents = new StringBuilder();
+        try {
+            for (final R journalRecord : liveRecords()) {
+                contents.append(CODER.encode(journalRecord)).append(System.lineSeparator());
+            }
+            JournalFiles.replace(journalFile, contents);
+        } catch (final IOException | CoderException exp) {
+            LOGGER.warn("Couldn't compact the {} {}", description, journalFile, exp);
+        }
+    }
+
+    private R parse(final String line) {
+        try {
+            final var journalRecord = CODER.decode(line, recordClass);
+            if (journalRecord != null && isValid(journalRecord)) {
+                return journalRecord;
+            }
+        } catch (final CoderException exp) {
+            // the last record is truncated if the process died while appending it
+            LOGGER.debug("Skipping invalid {} record {}", description, line, exp);
+            return null;
+        }
+        LOGGER.debug("Skipping invalid {} record {}", description, line);
+        return null;
+    }
+}
@@ -22,10 +22,15 @@
 
 package org.onap.policy.distribution.reception.handling;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.onap.policy.common.endpoints.http.client.HttpClientConfigException;
 import org.onap.policy.common.parameters.ParameterService;
 import org.onap.policy.distribution.forwarding.PolicyForwarder;
@@ -33,17 +38,24 @@ import org.onap.policy.distribution.forwarding.parameters.PolicyForwarderParamet
 import org.onap.policy.distribution.model.PolicyInput;
 import org.onap.policy.distribution.reception.decoding.PluginInitializationException;
 import org.onap.policy.distribution.reception.decoding.PolicyDecoder;
+import org.onap.policy.distribution.reception.parameters.OutboxParameters;
 import org.onap.policy.distribution.reception.parameters.PluginHandlerParameters;
 import org.onap.policy.distribution.reception.parameters.PolicyDecoderParameters;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Handles the plugins to policy distribution.
  */
 public class PluginHandler {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(PluginHandler.class);
+
     private Collection<PolicyDecoder<PolicyInput, ToscaEntity>> policyDecoders;
     private Collection<PolicyForwarder> policyForwarders;
+    private ExecutorService forwarderExecutor;
+    private ForwardingOutbox forwardingOutbox;
 
     /**
      * Create an instance to instantiate plugins based on the given parameter group.
@@ -54,7 +66,11 @@ public class PluginHandler {
     public PluginHandler(final String parameterGroupName) throws PluginInitializationException {
         final PluginHandlerParameters params = ParameterService.get(parameterGroupName);
         initializePolicyDecoders(params.getPolicyDecoders());
-        initializePolicyForwarders(params.getPolicyForwarders());
+        final var namedPolicyForwarders = initializePolicyForwarders(params.getPolicyForwarders());
+        initializeForwarderExecutor(params.getForwarderThreadPoolSize());
+        if (ForwardingOutbox.isEnabled(params.getOutboxParameters())) {
+            initializeForwardingOutbox(params.getOutboxParameters(), namedPolicyForwarders);
+        }
     }
 
     /**
@@ -75,6 +91,51 @@ public class PluginHandler {
         return policyForwarders;
     }
 
+    /**
+     * Get the executor on which the policy forwarders are invoked in parallel.
+     *
+     * @return the forwarder executor, or null if the policy forwarders are to be invoked sequentially
+     */
+    public ExecutorService getForwarderExecutor() {
+        return forwarderExecutor;
+    }
+
+    /**
+     * Get the outbox through which the policy forwarders are invoked.
+     *
+     * @return the forwarding outbox, or null if the policies the policy forwarders fail to accept are not retried
+     */
+    public ForwardingOutbox getForwardingOutbox() {
+        return forwardingOutbox;
+    }
+
+    /**
+     * Release the resources held by the plugins, closing the policy forwarders that hold closeable resources.
+     */
+    public void destroy() {
+        if (forwarderExecutor != null) {
+            forwarderExecutor.shutdown();
+        }
+        if (forwardingOutbox != null) {
+            forwardingOutbox.close();
+        }
+        if (policyForwarders != null) {
+            for (final PolicyForwarder policyForwarder : policyForwarders) {
+                closeForwarder(policyForwarder);
+            }
+        }
+    }
+
+    private void closeForwarder(final PolicyForwarder policyForwarder) {
+        if (policyForwarder instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (final Exception exp) {
+                LOGGER.warn("Couldn't close the policy forwarder {}", policyForwarder.getClass(), exp);
+            }
+        }
+    }
+
     /**
      * Initialize policy decoders.
      *
@@ -106,25 +167,63 @@ public class PluginHandler {
      * Initialize policy forwarders.
      *
      * @param policyForwarderParameters exception if it occurs
+     * @return the policy forwarders, by name
      * @throws PluginInitializationException exception if it occurs
      */
     @SuppressWarnings("unchecked")
-    private void initializePolicyForwarders(final Map<String, PolicyForwarderParameters> policyForwarderParameters)
+    private Map<String, PolicyForwarder> initializePolicyForwarders(
+            final Map<String, PolicyForwarderParameters> policyForwarderParameters)
             throws PluginInitializationException {
-        policyForwarders = new ArrayList<>();
-        for (final PolicyForwarderParameters forwarderParameters : policyForwarderParameters.values()) {
+        final Map<String, PolicyForwarder> namedPolicyForwarders = new LinkedHashMap<>();
+        for (final var forwarderEntry : policyForwarderParameters.entrySet()) {
+            final var forwarderParameters = forwarderEntry.getValue();
             try {
                 final Class<PolicyForwarder> policyForwarderClass =
                         (Class<PolicyForwarder>) Class.forName(forwarderParameters.getForwarderClassName());
                 final var policyForwarder = policyForwarderClass.getDeclaredConstructor().newInstance();
                 policyForwarder.configure(forwarderParameters.getForwarderConfigurationName());
-                policyForwarders.add(policyForwarder);
+                namedPolicyForwarders.put(forwarderEntry.getKey(), policyForwarder);
             } catch (final ClassNotFoundException | InstantiationException | IllegalAccessException
                     | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
                     | SecurityException | HttpClientConfigException exp) {
                 throw new PluginInitializationException(exp.getMessage(), exp.getCause());
             }
         }
+        policyForwarders = new ArrayList<>(namedPolicyForwarders.values());
+        return namedPolicyForwarders;
+    }
+
+    /**
+     * Initialize the outbox in which the policies the policy forwarders fail to accept are kept to be retried.
+     *
+     * @param outboxParameters the outbox parameters
+     * @param namedPolicyForwarders the policy forwarders, by name
+     * @throws PluginInitializationException if the outbox file can't be opened
+     */
+    private void initializeForwardingOutbox(final OutboxParameters outboxParameters,
+            final Map<String, PolicyForwarder> namedPolicyForwarders) throws PluginInitializationException {
+        try {
+            forwardingOutbox = new ForwardingOutbox(outboxParameters, namedPolicyForwarders);
+        } catch (final IOException exp) {
+            throw new PluginInitializationException("Couldn't open the forwarding outbox "
+                    + outboxParameters.getOutboxFile(), exp);
+        }
     }
 
+    /**
+     * Initialize the executor used to invoke the policy forwarders in parallel.
+     *
+     * @param threadPoolSize the number of forwarder threads, parallel forwarding is disabled if less than two
+     */
+    private void initializeForwarderExecutor(final int threadPoolSize) {
+        if (threadPoolSize < 2) {
+            return;
+        }
+        final var threadCount = new AtomicInteger();
+        forwarderExecutor = Executors.newFixedThreadPool(threadPoolSize, runnable -> {
+            final var thread = new Thread(runnable, "policy-forwarder-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 }
@@ -0,0 +1,48 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.onap.policy.distribution.forwarding.PolicyForwarder;
+import org.onap.policy.distribution.forwarding.PolicyForwardingException;
+
+/**
+ * Holds the outcome of forwarding a set of policies to a single {@link PolicyForwarder}.
+ */
+@Getter
+@AllArgsConstructor
+public class PolicyForwardingResult {
+
+    private final PolicyForwarder policyForwarder;
+
+    // The failure raised by the forwarder, null if forwarding succeeded
+    private final PolicyForwardingException exception;
+
+    /**
+     * Check if the policies were forwarded successfully.
+     *
+     * @return true if forwarding succeeded, false otherwise
+     */
+    public boolean isSuccessful() {
+        return exception == null;
+    }
+}
@@ -0,0 +1,169 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.onap.policy.distribution.model.PolicyInput;
+import org.onap.policy.distribution.reception.decoding.PolicyDecodingException;
+import org.onap.policy.distribution.reception.parameters.PluginHandlerParameters;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaEntity;
+
+/**
+ * Staged pipeline that decodes and forwards the inputs received by a reception handler. Decoding and forwarding run on
+ * separate worker pools, each fed by its own bounded queue. A stage whose queue is full blocks the stage feeding it,
+ * so a burst of inputs ends up blocking the threads handing inputs to the pipeline rather than piling up in memory.
+ */
+public class ReceptionPipeline {
+
+    private static final int DEFAULT_QUEUE_SIZE_PER_THREAD = 10;
+
+    private static final RejectedExecutionHandler BLOCK_WHEN_FULL = (runnable, executor) -> {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Reception pipeline stage is shut down");
+        }
+        try {
+            executor.getQueue().put(runnable);
+        } catch (final InterruptedException exp) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted waiting for reception pipeline stage capacity", exp);
+        }
+        // a stage shut down while waiting may have no worker left to take the task from its queue
+        if (executor.isShutdown() && executor.getQueue().remove(runnable)) {
+            throw new RejectedExecutionException("Reception pipeline stage is shut down");
+        }
+    };
+
+    private final AbstractReceptionHandler receptionHandler;
+    private final ThreadPoolExecutor decodeStage;
+    private final ThreadPoolExecutor forwardStage;
+
+    /**
+     * Create the pipeline of the given reception handler.
+     *
+     * @param receptionHandler the reception handler whose decoders and forwarders the pipeline invokes
+     * @param parameters the plugin handler parameters holding the sizes of the pipeline stages
+     */
+    public ReceptionPipeline(final AbstractReceptionHandler receptionHandler,
+            final PluginHandlerParameters parameters) {
+        this.receptionHandler = receptionHandler;
+        final var decodeThreads = parameters.getDecodeThreads();
+        final var forwardThreads = parameters.getForwardThreads() > 0 ? parameters.getForwardThreads() : decodeThreads;
+        decodeStage = createStage("reception-decode-", decodeThreads, parameters.getDecodeQueueSize());
+        forwardStage = createStage("reception-forward-", forwardThreads, parameters.getForwardQueueSize());
+    }
+
+    /**
+     * Check if the staged pipeline is enabled by the given parameters.
+     *
+     * @param parameters the plugin handler parameters
+     * @return true if inputs are to be processed by a staged pipeline, false if they are to be processed inline
+     */
+    public static boolean isEnabled(final PluginHandlerParameters parameters) {
+        return parameters.getDecodeThreads() > 0;
+    }
+
+    /**
+     * Submit an input to the pipeline. The calling thread is blocked while the decode queue is full.
+     *
+     * @param policyInput the input to decode and forward
+     * @return a future completed with the forwarding results, or completed exceptionally if the input could not be
+     *         decoded or was rejected by the pipeline
+     */
+    public CompletableFuture<List<PolicyForwardingResult>> submit(final PolicyInput policyInput) {
+        final var result = new CompletableFuture<List<PolicyForwardingResult>>();
+        try {
+            decodeStage.execute(() -> decode(policyInput, result));
+        } catch (final RejectedExecutionException exp) {
+            result.completeExceptionally(new PolicyDecodingException("Input rejected by the reception pipeline", exp));
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of inputs waiting to be decoded.
+     *
+     * @return the decode queue depth
+     */
+    public int getDecodeQueueDepth() {
+        return decodeStage.getQueue().size();
+    }
+
+    /**
+     * Get the number of decoded inputs waiting to be forwarded.
+     *
+     * @return the forward queue depth
+     */
+    public int getForwardQueueDepth() {
+        return forwardStage.getQueue().size();
+    }
+
+    /**
+     * Stop the pipeline, inputs already queued are still processed.
+     */
+    public void shutdown() {
+        decodeStage.shutdown();
+        forwardStage.shutdown();
+    }
+
+    private void decode(final PolicyInput policyInput, final CompletableFuture<List<PolicyForwardingResult>> result) {
+        final Collection<ToscaEntity> policies;
+        try {
+            policies = receptionHandler.decodePolicies(policyInput);
+        } catch (final PolicyDecodingException | RuntimeException exp) {
+            result.completeExceptionally(exp);
+            return;
+        }
+
+        try {
+            forwardStage.execute(() -> forward(policies, result));
+        } catch (final RejectedExecutionException exp) {
+            result.completeExceptionally(exp);
+        }
+    }
+
+    private void forward(final Collection<ToscaEntity> policies,
+            final CompletableFuture<List<PolicyForwardingResult>> result) {
+        try {
+            result.complete(receptionHandler.forwardPolicies(policies));
+        } catch (final RuntimeException exp) {
+            result.completeExceptionally(exp);
+        }
+    }
+
+    private static ThreadPoolExecutor createStage(final String threadPrefix, final int threads, final int queueSize) {
+        final var capacity = queueSize > 0 ? queueSize : threads * DEFAULT_QUEUE_SIZE_PER_THREAD;
+        final var threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacity),
+            runnable -> {
+                final var thread = new Thread(runnable, threadPrefix + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, BLOCK_WHEN_FULL);
+    }
+}
@@ -0,0 +1,58 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter between the attempts of an operation that keeps failing. The delay doubles with every
+ * failed attempt up to a maximum, and a random jitter between half and all of it is applied so that several clients
+ * failing together do not retry in step.
+ */
+public class RetryBackoff {
+
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+
+    /**
+     * Create the backoff.
+     *
+     * @param initialDelayMillis the delay before the first retry, at least 1 millisecond
+     * @param maxDelayMillis the maximum delay, at least the initial delay
+     */
+    public RetryBackoff(final long initialDelayMillis, final long maxDelayMillis) {
+        this.initialDelayMillis = Math.max(1, initialDelayMillis);
+        this.maxDelayMillis = Math.max(this.initialDelayMillis, maxDelayMillis);
+    }
+
+    /**
+     * Get the delay before the next attempt.
+     *
+     * @param attempts the number of consecutive failed attempts
+     * @return the delay in milliseconds
+     */
+    public long nextDelayMillis(final int attempts) {
+        // the shift is bounded so that the backoff cannot overflow
+        final var shift = Math.max(0, Math.min(attempts - 1, Long.numberOfLeadingZeros(initialDelayMillis) - 1));
+        final var delay = Math.min(initialDelayMillis << shift, maxDelayMillis);
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay - delay / 2 + 1);
+    }
+}
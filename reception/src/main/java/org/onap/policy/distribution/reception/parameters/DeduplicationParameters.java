@@ -0,0 +1,48 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.parameters;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.parameters.annotations.Min;
+
+/**
+ * Class to hold the parameters of the cache used to skip inputs identical to inputs already distributed.
+ */
+@Getter
+@Setter
+public class DeduplicationParameters {
+
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private boolean enabled;
+
+    // Maximum number of inputs remembered, the least recently seen inputs are forgotten first
+    @Min(1)
+    private int cacheSize = DEFAULT_CACHE_SIZE;
+
+    // Time after which an input is forgotten, inputs are only forgotten when the cache is full if not set
+    @Min(0)
+    private long timeToLiveSeconds;
+
+    // File in which the remembered inputs are kept across restarts, they are only kept in memory if not set
+    private String indexFile;
+}
@@ -0,0 +1,69 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.parameters;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.parameters.annotations.Min;
+
+/**
+ * Class to hold the parameters of the outbox in which the policies that could not be forwarded are kept until the
+ * policy forwarders accept them.
+ */
+@Getter
+@Setter
+public class OutboxParameters {
+
+    private static final long DEFAULT_INITIAL_RETRY_DELAY_MILLIS = 1000;
+    private static final long DEFAULT_MAX_RETRY_DELAY_MILLIS = 300000;
+    private static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    private static final long DEFAULT_OPEN_CIRCUIT_MILLIS = 60000;
+    private static final int DEFAULT_WRITE_BATCH_SIZE = 100;
+    private static final int DEFAULT_MAX_ATTEMPTS = 100;
+
+    private boolean enabled;
+
+    // File in which the pending policies are kept across restarts, required when the outbox is enabled
+    private String outboxFile;
+
+    // Delay before the first retry of a forwarder, doubled on each further failure up to the maximum delay
+    @Min(1)
+    private long initialRetryDelayMillis = DEFAULT_INITIAL_RETRY_DELAY_MILLIS;
+
+    @Min(1)
+    private long maxRetryDelayMillis = DEFAULT_MAX_RETRY_DELAY_MILLIS;
+
+    // Number of consecutive failures of a forwarder after which it is no longer invoked directly
+    @Min(1)
+    private int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+
+    // Time during which a forwarder that reached the failure threshold is left alone before it is tried again
+    @Min(0)
+    private long openCircuitMillis = DEFAULT_OPEN_CIRCUIT_MILLIS;
+
+    // Maximum number of outbox records written to the outbox file before it is forced to disk
+    @Min(1)
+    private int writeBatchSize = DEFAULT_WRITE_BATCH_SIZE;
+
+    // Number of times a batch kept in the outbox is retried before it is dropped
+    @Min(1)
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+}
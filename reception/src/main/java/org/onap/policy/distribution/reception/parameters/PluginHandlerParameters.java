@@ -22,10 +22,14 @@
 package org.onap.policy.distribution.reception.parameters;
 
 import java.util.Map;
+import lombok.Getter;
 import lombok.Setter;
 import org.onap.policy.common.parameters.BeanValidationResult;
 import org.onap.policy.common.parameters.BeanValidator;
+import org.onap.policy.common.parameters.ObjectValidationResult;
 import org.onap.policy.common.parameters.ParameterGroup;
+import org.onap.policy.common.parameters.ValidationStatus;
+import org.onap.policy.common.parameters.annotations.Min;
 import org.onap.policy.common.parameters.annotations.NotNull;
 import org.onap.policy.common.parameters.annotations.Size;
 import org.onap.policy.common.parameters.annotations.Valid;
@@ -36,20 +40,64 @@ import org.onap.policy.distribution.forwarding.parameters.PolicyForwarderParamet
  *
  * @author Ram Krishna Verma (ram.krishna.verma@ericsson.com)
  */
-@NotNull
 public class PluginHandlerParameters implements ParameterGroup {
 
     private static final String PLUGIN_HANDLER = "_PluginHandler";
 
+    @NotNull
     @Setter
     private String name;
 
+    @NotNull
     @Size(min = 1)
     private Map<String, @NotNull @Valid PolicyDecoderParameters> policyDecoders;
 
+    @NotNull
     @Size(min = 1)
     private Map<String, @NotNull @Valid PolicyForwarderParameters> policyForwarders;
 
+    // Number of threads used to invoke the forwarders in parallel, forwarders are invoked sequentially if not set
+    @Min(0)
+    @Getter
+    @Setter
+    private int forwarderThreadPoolSize;
+
+    // Number of decode workers of the staged reception pipeline, inputs are processed inline if not set
+    @Min(0)
+    @Getter
+    @Setter
+    private int decodeThreads;
+
+    // Capacity of the queue feeding the decode workers of the staged reception pipeline
+    @Min(0)
+    @Getter
+    @Setter
+    private int decodeQueueSize;
+
+    // Number of forward workers of the staged reception pipeline
+    @Min(0)
+    @Getter
+    @Setter
+    private int forwardThreads;
+
+    // Capacity of the queue feeding the forward workers of the staged reception pipeline
+    @Min(0)
+    @Getter
+    @Setter
+    private int forwardQueueSize;
+
+    // Skipping of inputs identical to ones already distributed, inputs are always distributed if not set
+    @Valid
+    @Getter
+    @Setter
+    private DeduplicationParameters deduplicationParameters;
+
+    // Retrying of the policies the forwarders fail to accept, such policies are dropped if not set
+    @Valid
+    @Getter
+    @Setter
+    private OutboxParameters outboxParameters;
+
     /**
      * Constructor for instantiating PluginHandlerParameters.
      *
@@ -91,6 +139,13 @@ public class PluginHandlerParameters implements ParameterGroup {
      */
     @Override
     public BeanValidationResult validate() {
-        return new BeanValidator().validateTop(getClass().getSimpleName(), this);
+        final var validationResult = new BeanValidator().validateTop(getClass().getSimpleName(), this);
+        if (outboxParameters != null && outboxParameters.isEnabled()
+                && (outboxParameters.getOutboxFile() == null || outboxParameters.getOutboxFile().isBlank())) {
+            // policies kept only in memory would be reported as forwarded and then lost on a restart
+            validationResult.addResult(new ObjectValidationResult("outboxFile", outboxParameters.getOutboxFile(),
+                    ValidationStatus.INVALID, "must be set when the outbox is enabled"));
+        }
+        return validationResult;
     }
 }
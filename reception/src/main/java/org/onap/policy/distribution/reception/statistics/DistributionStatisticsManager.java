@@ -2,7 +2,7 @@
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2018 Ericsson. All rights reserved.
  *  Modifications Copyright (C) 2022 Bell Canada. All rights reserved.
- *  Modifications Copyright (C) 2025 Nordix Foundation.
+ *  Modifications Copyright (C) 2025-2026 Nordix Foundation.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,9 @@
 package org.onap.policy.distribution.reception.statistics;
 
 import io.prometheus.metrics.core.metrics.Counter;
+import io.prometheus.metrics.core.metrics.Gauge;
+import io.prometheus.metrics.core.metrics.Histogram;
+import io.prometheus.metrics.model.snapshots.Unit;
 
 /**
  * Class to hold statistical data for distribution component.
@@ -54,6 +57,118 @@ public class DistributionStatisticsManager {
                     .name("download_failure_count")
                     .help("Total number of download failures.").register();
 
+    private static final Counter DEDUPLICATION_HIT_COUNT = Counter.builder()
+                    .name("distribution_deduplication_hit_count")
+                    .help("Total number of inputs skipped as identical to inputs already distributed.").register();
+
+    private static final Counter DEDUPLICATION_MISS_COUNT = Counter.builder()
+                    .name("distribution_deduplication_miss_count")
+                    .help("Total number of inputs not found in the deduplication cache.").register();
+
+    private static final String RECEPTION_HANDLER_LABEL = "reception_handler";
+
+    // Buckets from 1ms doubling up to 32s, covering a single HTTP call as well as a whole distribution
+    private static final double DURATION_BUCKET_START = 0.001;
+    private static final double DURATION_BUCKET_FACTOR = 2;
+    private static final int DURATION_BUCKET_COUNT = 16;
+
+    private static final Histogram DOWNLOAD_DURATION = durationHistogram("distribution_download_duration_seconds",
+                    "Time taken to download an artifact.", RECEPTION_HANDLER_LABEL);
+
+    private static final Histogram DECODE_DURATION = durationHistogram("distribution_decode_duration_seconds",
+                    "Time taken by a decoder to decode an input.", RECEPTION_HANDLER_LABEL, "decoder");
+
+    private static final Histogram FORWARD_DURATION = durationHistogram("distribution_forward_duration_seconds",
+                    "Time taken by a forwarder to forward the policies decoded from an input.",
+                    RECEPTION_HANDLER_LABEL, "forwarder");
+
+    private static final Histogram FORWARD_REQUEST_DURATION = durationHistogram(
+                    "distribution_forward_request_duration_seconds",
+                    "Time taken by a request of a forwarder to a target URI.", "forwarder", "uri");
+
+    private static final Histogram DISTRIBUTION_DURATION = durationHistogram(
+                    "distribution_end_to_end_duration_seconds",
+                    "Time taken from the reception of an input until its policies are forwarded.",
+                    RECEPTION_HANDLER_LABEL);
+
+    private static final Gauge FILE_QUEUE_DEPTH = Gauge.builder()
+                    .name("distribution_file_queue_depth")
+                    .help("Number of complete files waiting for a worker, including the files held back by admission.")
+                    .labelNames(RECEPTION_HANDLER_LABEL).register();
+
+    private static final Gauge FILE_IN_FLIGHT_BYTES = Gauge.builder()
+                    .name("distribution_file_in_flight_bytes")
+                    .help("Total size of the files admitted for processing and not processed yet.")
+                    .labelNames(RECEPTION_HANDLER_LABEL).register();
+
+    private static final Histogram FILE_QUEUE_WAIT_DURATION = durationHistogram(
+                    "distribution_file_queue_wait_duration_seconds",
+                    "Time a complete file waited before a worker started processing it.", RECEPTION_HANDLER_LABEL);
+
+    private static final Counter SDC_STATUS_REPORT_COUNT = Counter.builder()
+                    .name("distribution_sdc_status_report_count")
+                    .help("Total number of status reports sent to SDC, by result: sent, retried or failed.")
+                    .labelNames(RECEPTION_HANDLER_LABEL, "result").register();
+
+    private static final Gauge SDC_STATUS_QUEUE_DEPTH = Gauge.builder()
+                    .name("distribution_sdc_status_queue_depth")
+                    .help("Number of status reports waiting to be sent to SDC.")
+                    .labelNames(RECEPTION_HANDLER_LABEL).register();
+
+    private static final Histogram SDC_STATUS_DELAY = durationHistogram("distribution_sdc_status_delay_seconds",
+                    "Time from the queuing of a status report until it is sent to SDC.", RECEPTION_HANDLER_LABEL);
+
+    private static final Counter SDC_CLIENT_RETRY_COUNT = Counter.builder()
+                    .name("distribution_sdc_client_retry_count")
+                    .help("Total number of failed attempts to start or stop the SDC client that were retried.")
+                    .labelNames(RECEPTION_HANDLER_LABEL, "operation").register();
+
+    private static final Gauge SDC_CLIENT_RETRY_ATTEMPTS = Gauge.builder()
+                    .name("distribution_sdc_client_retry_attempts")
+                    .help("Number of consecutive failed attempts to start or stop the SDC client, 0 once it succeeds.")
+                    .labelNames(RECEPTION_HANDLER_LABEL, "operation").register();
+
+    private static final Gauge SDC_CLIENT_RETRY_DELAY = Gauge.builder()
+                    .name("distribution_sdc_client_retry_delay_seconds")
+                    .help("Delay before the next attempt to start or stop the SDC client, 0 once it succeeds.")
+                    .labelNames(RECEPTION_HANDLER_LABEL, "operation").register();
+
+    private static final Counter SDC_ARTIFACT_CACHE_COUNT = Counter.builder()
+                    .name("distribution_sdc_artifact_cache_count")
+                    .help("Total number of lookups of SDC artifacts in the artifact cache, by result: hit or miss.")
+                    .labelNames(RECEPTION_HANDLER_LABEL, "result").register();
+
+    private static final Gauge SDC_ARTIFACT_CACHE_BYTES = Gauge.builder()
+                    .name("distribution_sdc_artifact_cache_bytes")
+                    .help("Total size of the SDC artifacts held in the artifact cache.")
+                    .labelNames(RECEPTION_HANDLER_LABEL).register();
+
+    private static final Counter SDC_ARTIFACT_SKIPPED_COUNT = Counter.builder()
+                    .name("distribution_sdc_artifact_skipped_count")
+                    .help("Total number of SDC artifacts skipped without being downloaded as they are not relevant.")
+                    .labelNames(RECEPTION_HANDLER_LABEL).register();
+
+    private static final Counter SDC_NOTIFICATION_RESUMED_COUNT = Counter.builder()
+                    .name("distribution_sdc_notification_resumed_count")
+                    .help("Total number of SDC notifications resumed on startup as they were not completed.")
+                    .labelNames(RECEPTION_HANDLER_LABEL).register();
+
+    private static final Counter FORWARDING_OUTBOX_COUNT = Counter.builder()
+                    .name("distribution_forwarding_outbox_count")
+                    .help("Total number of batches of policies handled by the forwarding outbox, by result: deferred, "
+                                    + "delivered, retried or dropped.")
+                    .labelNames("forwarder", "result").register();
+
+    private static final Gauge FORWARDING_OUTBOX_DEPTH = Gauge.builder()
+                    .name("distribution_forwarding_outbox_depth")
+                    .help("Number of batches of policies waiting in the forwarding outbox.")
+                    .labelNames("forwarder").register();
+
+    private static final Gauge FORWARDING_CIRCUIT_OPEN = Gauge.builder()
+                    .name("distribution_forwarding_circuit_open")
+                    .help("1 while a forwarder is no longer invoked directly after repeated failures, otherwise 0.")
+                    .labelNames("forwarder").register();
+
     private DistributionStatisticsManager() {
         throw new IllegalStateException("Instantiation of the class is not allowed");
     }
@@ -106,6 +221,367 @@ public class DistributionStatisticsManager {
         DOWNLOAD_FAILURE_COUNT.inc();
     }
 
+    /**
+     * Method to update the deduplication hit count.
+     *
+     */
+    public static void updateDeduplicationHitCount() {
+        DEDUPLICATION_HIT_COUNT.inc();
+    }
+
+    /**
+     * Method to update the deduplication miss count.
+     *
+     */
+    public static void updateDeduplicationMissCount() {
+        DEDUPLICATION_MISS_COUNT.inc();
+    }
+
+    /**
+     * Method to record the time taken to download an artifact.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param durationNanos the duration in nanoseconds
+     */
+    public static void observeDownloadDuration(final String receptionHandler, final long durationNanos) {
+        DOWNLOAD_DURATION.labelValues(receptionHandler).observe(Unit.nanosToSeconds(durationNanos));
+    }
+
+    /**
+     * Method to record the time taken by a decoder to decode an input.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param decoder the name of the decoder
+     * @param durationNanos the duration in nanoseconds
+     */
+    public static void observeDecodeDuration(final String receptionHandler, final String decoder,
+                    final long durationNanos) {
+        DECODE_DURATION.labelValues(receptionHandler, decoder).observe(Unit.nanosToSeconds(durationNanos));
+    }
+
+    /**
+     * Method to record the time taken by a forwarder to forward the policies decoded from an input.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param forwarder the name of the forwarder
+     * @param durationNanos the duration in nanoseconds
+     */
+    public static void observeForwardDuration(final String receptionHandler, final String forwarder,
+                    final long durationNanos) {
+        FORWARD_DURATION.labelValues(receptionHandler, forwarder).observe(Unit.nanosToSeconds(durationNanos));
+    }
+
+    /**
+     * Method to record the time taken by a request of a forwarder to a target URI.
+     *
+     * @param forwarder the name of the forwarder
+     * @param uri the target URI
+     * @param durationNanos the duration in nanoseconds
+     */
+    public static void observeForwardRequestDuration(final String forwarder, final String uri,
+                    final long durationNanos) {
+        FORWARD_REQUEST_DURATION.labelValues(forwarder, uri).observe(Unit.nanosToSeconds(durationNanos));
+    }
+
+    /**
+     * Method to record the time taken from the reception of an input until its policies are forwarded.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param durationNanos the duration in nanoseconds
+     */
+    public static void observeDistributionDuration(final String receptionHandler, final long durationNanos) {
+        DISTRIBUTION_DURATION.labelValues(receptionHandler).observe(Unit.nanosToSeconds(durationNanos));
+    }
+
+    /**
+     * Method to record the number of complete files waiting for a worker of a reception handler.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param depth the number of files waiting
+     */
+    public static void setFileQueueDepth(final String receptionHandler, final long depth) {
+        FILE_QUEUE_DEPTH.labelValues(receptionHandler).set(depth);
+    }
+
+    /**
+     * Method to record the total size of the files being processed by a reception handler.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param bytes the total size of the files
+     */
+    public static void setFileInFlightBytes(final String receptionHandler, final long bytes) {
+        FILE_IN_FLIGHT_BYTES.labelValues(receptionHandler).set(bytes);
+    }
+
+    /**
+     * Method to record the time a complete file waited before a worker started processing it.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param durationNanos the duration in nanoseconds
+     */
+    public static void observeFileQueueWaitDuration(final String receptionHandler, final long durationNanos) {
+        FILE_QUEUE_WAIT_DURATION.labelValues(receptionHandler).observe(Unit.nanosToSeconds(durationNanos));
+    }
+
+    /**
+     * Returns the current number of complete files waiting for a worker of a reception handler.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @return the number of files waiting
+     */
+    public static long getFileQueueDepth(final String receptionHandler) {
+        return (long) FILE_QUEUE_DEPTH.labelValues(receptionHandler).get();
+    }
+
+    /**
+     * Returns the current total size of the files being processed by a reception handler.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @return the total size of the files
+     */
+    public static long getFileInFlightBytes(final String receptionHandler) {
+        return (long) FILE_IN_FLIGHT_BYTES.labelValues(receptionHandler).get();
+    }
+
+    /**
+     * Method to update the number of status reports sent to SDC with a given result.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param result the result of the report, sent, retried or failed
+     */
+    public static void updateSdcStatusReportCount(final String receptionHandler, final String result) {
+        SDC_STATUS_REPORT_COUNT.labelValues(receptionHandler, result).inc();
+    }
+
+    /**
+     * Method to record the number of status reports waiting to be sent to SDC.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param depth the number of status reports waiting
+     */
+    public static void setSdcStatusQueueDepth(final String receptionHandler, final long depth) {
+        SDC_STATUS_QUEUE_DEPTH.labelValues(receptionHandler).set(depth);
+    }
+
+    /**
+     * Method to record the time from the queuing of a status report until it is sent to SDC.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param durationNanos the duration in nanoseconds
+     */
+    public static void observeSdcStatusDelay(final String receptionHandler, final long durationNanos) {
+        SDC_STATUS_DELAY.labelValues(receptionHandler).observe(Unit.nanosToSeconds(durationNanos));
+    }
+
+    /**
+     * Returns the number of status reports sent to SDC with a given result.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param result the result of the report, sent, retried or failed
+     * @return the number of status reports
+     */
+    public static long getSdcStatusReportCount(final String receptionHandler, final String result) {
+        return (long) SDC_STATUS_REPORT_COUNT.labelValues(receptionHandler, result).get();
+    }
+
+    /**
+     * Returns the current number of status reports waiting to be sent to SDC.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @return the number of status reports waiting
+     */
+    public static long getSdcStatusQueueDepth(final String receptionHandler) {
+        return (long) SDC_STATUS_QUEUE_DEPTH.labelValues(receptionHandler).get();
+    }
+
+    /**
+     * Method to record a failed attempt to start or stop the SDC client and the delay before it is retried.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param operation the SDC client operation
+     * @param attempts the number of consecutive failed attempts
+     * @param retryDelayMillis the delay before the next attempt in milliseconds
+     */
+    public static void updateSdcClientRetry(final String receptionHandler, final String operation,
+                    final int attempts, final long retryDelayMillis) {
+        SDC_CLIENT_RETRY_COUNT.labelValues(receptionHandler, operation).inc();
+        SDC_CLIENT_RETRY_ATTEMPTS.labelValues(receptionHandler, operation).set(attempts);
+        SDC_CLIENT_RETRY_DELAY.labelValues(receptionHandler, operation).set(retryDelayMillis / 1000.0);
+    }
+
+    /**
+     * Method to record that an SDC client operation is no longer being retried.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param operation the SDC client operation
+     */
+    public static void resetSdcClientRetry(final String receptionHandler, final String operation) {
+        SDC_CLIENT_RETRY_ATTEMPTS.labelValues(receptionHandler, operation).set(0);
+        SDC_CLIENT_RETRY_DELAY.labelValues(receptionHandler, operation).set(0);
+    }
+
+    /**
+     * Returns the number of failed attempts of an SDC client operation that were retried.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param operation the SDC client operation
+     * @return the number of retries
+     */
+    public static long getSdcClientRetryCount(final String receptionHandler, final String operation) {
+        return (long) SDC_CLIENT_RETRY_COUNT.labelValues(receptionHandler, operation).get();
+    }
+
+    /**
+     * Returns the number of consecutive failed attempts of an SDC client operation.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param operation the SDC client operation
+     * @return the number of consecutive failed attempts
+     */
+    public static long getSdcClientRetryAttempts(final String receptionHandler, final String operation) {
+        return (long) SDC_CLIENT_RETRY_ATTEMPTS.labelValues(receptionHandler, operation).get();
+    }
+
+    /**
+     * Method to update the number of lookups of SDC artifacts in the artifact cache with a given result.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param result the result of the lookup, hit or miss
+     */
+    public static void updateSdcArtifactCacheCount(final String receptionHandler, final String result) {
+        SDC_ARTIFACT_CACHE_COUNT.labelValues(receptionHandler, result).inc();
+    }
+
+    /**
+     * Method to record the total size of the SDC artifacts held in the artifact cache.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param bytes the total size of the artifacts
+     */
+    public static void setSdcArtifactCacheBytes(final String receptionHandler, final long bytes) {
+        SDC_ARTIFACT_CACHE_BYTES.labelValues(receptionHandler).set(bytes);
+    }
+
+    /**
+     * Returns the number of lookups of SDC artifacts in the artifact cache with a given result.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @param result the result of the lookup, hit or miss
+     * @return the number of lookups
+     */
+    public static long getSdcArtifactCacheCount(final String receptionHandler, final String result) {
+        return (long) SDC_ARTIFACT_CACHE_COUNT.labelValues(receptionHandler, result).get();
+    }
+
+    /**
+     * Returns the total size of the SDC artifacts held in the artifact cache.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @return the total size of the artifacts
+     */
+    public static long getSdcArtifactCacheBytes(final String receptionHandler) {
+        return (long) SDC_ARTIFACT_CACHE_BYTES.labelValues(receptionHandler).get();
+    }
+
+    /**
+     * Method to update the number of SDC artifacts skipped without being downloaded.
+     *
+     * @param receptionHandler the name of the reception handler
+     */
+    public static void updateSdcArtifactSkippedCount(final String receptionHandler) {
+        SDC_ARTIFACT_SKIPPED_COUNT.labelValues(receptionHandler).inc();
+    }
+
+    /**
+     * Returns the number of SDC artifacts skipped without being downloaded.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @return the number of skipped artifacts
+     */
+    public static long getSdcArtifactSkippedCount(final String receptionHandler) {
+        return (long) SDC_ARTIFACT_SKIPPED_COUNT.labelValues(receptionHandler).get();
+    }
+
+    /**
+     * Method to update the number of SDC notifications resumed on startup.
+     *
+     * @param receptionHandler the name of the reception handler
+     */
+    public static void updateSdcNotificationResumedCount(final String receptionHandler) {
+        SDC_NOTIFICATION_RESUMED_COUNT.labelValues(receptionHandler).inc();
+    }
+
+    /**
+     * Returns the number of SDC notifications resumed on startup.
+     *
+     * @param receptionHandler the name of the reception handler
+     * @return the number of resumed notifications
+     */
+    public static long getSdcNotificationResumedCount(final String receptionHandler) {
+        return (long) SDC_NOTIFICATION_RESUMED_COUNT.labelValues(receptionHandler).get();
+    }
+
+    /**
+     * Method to update the number of batches of policies handled by the forwarding outbox with a given result.
+     *
+     * @param forwarder the name of the policy forwarder
+     * @param result the result, deferred, delivered, retried or dropped
+     */
+    public static void updateForwardingOutboxCount(final String forwarder, final String result) {
+        FORWARDING_OUTBOX_COUNT.labelValues(forwarder, result).inc();
+    }
+
+    /**
+     * Method to record the number of batches of policies waiting in the forwarding outbox.
+     *
+     * @param forwarder the name of the policy forwarder
+     * @param depth the number of waiting batches
+     */
+    public static void setForwardingOutboxDepth(final String forwarder, final long depth) {
+        FORWARDING_OUTBOX_DEPTH.labelValues(forwarder).set(depth);
+    }
+
+    /**
+     * Method to record whether a forwarder is no longer invoked directly after repeated failures.
+     *
+     * @param forwarder the name of the policy forwarder
+     * @param open true while the forwarder is no longer invoked directly
+     */
+    public static void setForwardingCircuitOpen(final String forwarder, final boolean open) {
+        FORWARDING_CIRCUIT_OPEN.labelValues(forwarder).set(open ? 1 : 0);
+    }
+
+    /**
+     * Returns the number of batches of policies handled by the forwarding outbox with a given result.
+     *
+     * @param forwarder the name of the policy forwarder
+     * @param result the result, deferred, delivered, retried or dropped
+     * @return the number of batches
+     */
+    public static long getForwardingOutboxCount(final String forwarder, final String result) {
+        return (long) FORWARDING_OUTBOX_COUNT.labelValues(forwarder, result).get();
+    }
+
+    /**
+     * Returns the number of batches of policies waiting in the forwarding outbox.
+     *
+     * @param forwarder the name of the policy forwarder
+     * @return the number of waiting batches
+     */
+    public static long getForwardingOutboxDepth(final String forwarder) {
+        return (long) FORWARDING_OUTBOX_DEPTH.labelValues(forwarder).get();
+    }
+
+    /**
+     * Returns whether a forwarder is no longer invoked directly after repeated failures.
+     *
+     * @param forwarder the name of the policy forwarder
+     * @return true while the forwarder is no longer invoked directly
+     */
+    public static boolean isForwardingCircuitOpen(final String forwarder) {
+        return FORWARDING_CIRCUIT_OPEN.labelValues(forwarder).get() > 0;
+    }
+
     /**
      * Returns the current value of totalDistributionCount.
      *
@@ -160,6 +636,24 @@ public class DistributionStatisticsManager {
         return (long) DOWNLOAD_FAILURE_COUNT.get();
     }
 
+    /**
+     * Returns the current value of deduplicationHitCount.
+     *
+     * @return the deduplicationHitCount
+     */
+    public static long getDeduplicationHitCount() {
+        return (long) DEDUPLICATION_HIT_COUNT.get();
+    }
+
+    /**
+     * Returns the current value of deduplicationMissCount.
+     *
+     * @return the deduplicationMissCount
+     */
+    public static long getDeduplicationMissCount() {
+        return (long) DEDUPLICATION_MISS_COUNT.get();
+    }
+
     /**
      * Reset all the statistics counts to 0.
      */
@@ -170,5 +664,35 @@ public class DistributionStatisticsManager {
         TOTAL_DOWNLOAD_RECEIVED_COUNT.clear();
         DOWNLOAD_SUCCESS_COUNT.clear();
         DOWNLOAD_FAILURE_COUNT.clear();
+        DEDUPLICATION_HIT_COUNT.clear();
+        DEDUPLICATION_MISS_COUNT.clear();
+        DOWNLOAD_DURATION.clear();
+        DECODE_DURATION.clear();
+        FORWARD_DURATION.clear();
+        FORWARD_REQUEST_DURATION.clear();
+        DISTRIBUTION_DURATION.clear();
+        FILE_QUEUE_DEPTH.clear();
+        FILE_IN_FLIGHT_BYTES.clear();
+        FILE_QUEUE_WAIT_DURATION.clear();
+        SDC_STATUS_REPORT_COUNT.clear();
+        SDC_STATUS_QUEUE_DEPTH.clear();
+        SDC_STATUS_DELAY.clear();
+        SDC_CLIENT_RETRY_COUNT.clear();
+        SDC_CLIENT_RETRY_ATTEMPTS.clear();
+        SDC_CLIENT_RETRY_DELAY.clear();
+        SDC_ARTIFACT_CACHE_COUNT.clear();
+        SDC_ARTIFACT_CACHE_BYTES.clear();
+        SDC_ARTIFACT_SKIPPED_COUNT.clear();
+        SDC_NOTIFICATION_RESUMED_COUNT.clear();
+        FORWARDING_OUTBOX_COUNT.clear();
+        FORWARDING_OUTBOX_DEPTH.clear();
+        FORWARDING_CIRCUIT_OPEN.clear();
+    }
+
+    private static Histogram durationHistogram(final String name, final String help, final String... labelNames) {
+        return Histogram.builder().name(name).help(help).labelNames(labelNames).classicOnly()
+                        .classicExponentialUpperBounds(DURATION_BUCKET_START, DURATION_BUCKET_FACTOR,
+                                        DURATION_BUCKET_COUNT)
+                        .register();
     }
 }
@@ -22,24 +22,35 @@
 package org.onap.policy.distribution.reception.handling;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.onap.policy.common.parameters.ParameterService;
 import org.onap.policy.distribution.forwarding.PolicyForwarder;
+import org.onap.policy.distribution.forwarding.PolicyForwardingException;
 import org.onap.policy.distribution.forwarding.parameters.PolicyForwarderParameters;
+import org.onap.policy.distribution.model.Csar;
 import org.onap.policy.distribution.model.PolicyInput;
 import org.onap.policy.distribution.reception.decoding.PluginInitializationException;
 import org.onap.policy.distribution.reception.decoding.PolicyDecoder;
 import org.onap.policy.distribution.reception.decoding.PolicyDecodingException;
+import org.onap.policy.distribution.reception.parameters.DeduplicationParameters;
+import org.onap.policy.distribution.reception.parameters.OutboxParameters;
 import org.onap.policy.distribution.reception.parameters.PluginHandlerParameters;
 import org.onap.policy.distribution.reception.parameters.PolicyDecoderParameters;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaEntity;
 
 /**
@@ -96,6 +107,123 @@ class AbstractReceptionHandlerTest {
         assertTrue(policyForwarder2.receivedPolicy(generatedPolicy2));
     }
 
+    @Test
+    void testInputReceivedParallelForwarding() throws PolicyDecodingException, NoSuchFieldException,
+            SecurityException, IllegalArgumentException, IllegalAccessException, PluginInitializationException {
+        final var handler = new DummyReceptionHandler();
+
+        final var generatedPolicy = new DummyPolicy1();
+        final var policyDecoder = new DummyDecoder(true, Collections.singletonList(generatedPolicy));
+
+        final var policyForwarder1 = new DummyPolicyForwarder();
+        final var policyForwarder2 = new DummyPolicyForwarder();
+
+        final Collection<PolicyForwarder> policyForwarders = new ArrayList<>();
+        policyForwarders.add(policyForwarder1);
+        policyForwarders.add(policyForwarder2);
+
+        setUpPlugins(handler, Collections.singleton(policyDecoder), policyForwarders, 2);
+
+        handler.inputReceived(new DummyPolicyInput());
+
+        assertEquals(1, policyForwarder1.getNumberOfPoliciesReceived());
+        assertTrue(policyForwarder1.receivedPolicy(generatedPolicy));
+        assertEquals(1, policyForwarder2.getNumberOfPoliciesReceived());
+        assertTrue(policyForwarder2.receivedPolicy(generatedPolicy));
+        handler.destroyPlugins();
+    }
+
+    @Test
+    void testForwardPoliciesResults() throws NoSuchFieldException, SecurityException, IllegalArgumentException,
+            IllegalAccessException, PluginInitializationException {
+        final var handler = new DummyReceptionHandler();
+
+        final var policyForwarder = new DummyPolicyForwarder();
+        final PolicyForwarder failingForwarder = new DummyPolicyForwarder() {
+            @Override
+            public void forward(final Collection<ToscaEntity> policies) throws PolicyForwardingException {
+                throw new PolicyForwardingException("forwarding failed");
+            }
+        };
+
+        final Collection<PolicyForwarder> policyForwarders = new ArrayList<>();
+        policyForwarders.add(policyForwarder);
+        policyForwarders.add(failingForwarder);
+
+        setUpPlugins(handler, Collections.emptySet(), policyForwarders, 2);
+
+        final var results = handler.forwardPolicies(Collections.singletonList(new DummyPolicy1()));
+
+        assertEquals(2, results.size());
+        assertSame(policyForwarder, results.get(0).getPolicyForwarder());
+        assertTrue(results.get(0).isSuccessful());
+        assertSame(failingForwarder, results.get(1).getPolicyForwarder());
+        assertFalse(results.get(1).isSuccessful());
+        assertEquals("forwarding failed", results.get(1).getException().getMessage());
+        handler.destroyPlugins();
+    }
+
+    @Test
+    void testForwardPoliciesThroughOutbox(@TempDir final Path tempDir) throws NoSuchFieldException, SecurityException,
+            IllegalArgumentException, IllegalAccessException, PluginInitializationException, IOException {
+        final var handler = new DummyReceptionHandler();
+
+        final PolicyForwarder failingForwarder = new DummyPolicyForwarder() {
+            @Override
+            public void forward(final Collection<ToscaEntity> policies) throws PolicyForwardingException {
+                throw new PolicyForwardingException("forwarding failed", true);
+            }
+        };
+        setUpPlugins(handler, Collections.emptySet(), Collections.singleton(failingForwarder));
+
+        final var outboxParameters = new OutboxParameters();
+        outboxParameters.setEnabled(true);
+        outboxParameters.setOutboxFile(tempDir.resolve("outbox.jsonl").toString());
+        outboxParameters.setInitialRetryDelayMillis(60_000);
+        final var pluginHandlerField = AbstractReceptionHandler.class.getDeclaredField("pluginHandler");
+        pluginHandlerField.setAccessible(true);
+        final var outboxField = PluginHandler.class.getDeclaredField("forwardingOutbox");
+        outboxField.setAccessible(true);
+        outboxField.set(pluginHandlerField.get(handler),
+                new ForwardingOutbox(outboxParameters, Map.of(FORWARDER_KEY, failingForwarder)));
+
+        final var results = handler.forwardPolicies(Collections.singletonList(new DummyPolicy1()));
+
+        assertEquals(1, results.size());
+        assertTrue(results.get(0).isSuccessful());
+        assertEquals(1L, DistributionStatisticsManager.getForwardingOutboxDepth(FORWARDER_KEY));
+        handler.destroyPlugins();
+    }
+
+    @Test
+    void testInputReceivedDuplicateSkipped(@TempDir final Path tempDir) throws IOException, PolicyDecodingException,
+            NoSuchFieldException, SecurityException, IllegalArgumentException, IllegalAccessException,
+            PluginInitializationException {
+        final var handler = new DummyReceptionHandler();
+
+        final var generatedPolicy = new DummyPolicy1();
+        final var policyDecoder = new DummyDecoder(true, Collections.singletonList(generatedPolicy));
+        final var policyForwarder = new DummyPolicyForwarder();
+        setUpPlugins(handler, Collections.singleton(policyDecoder), Collections.singleton(policyForwarder));
+
+        final var deduplicationParameters = new DeduplicationParameters();
+        deduplicationParameters.setEnabled(true);
+        final var deduplicationCacheField = AbstractReceptionHandler.class.getDeclaredField("deduplicationCache");
+        deduplicationCacheField.setAccessible(true);
+        deduplicationCacheField.set(handler, new InputDeduplicationCache(deduplicationParameters));
+
+        final var csarFile = Files.writeString(tempDir.resolve("service.csar"), "csar contents");
+        handler.inputReceived(new Csar(csarFile.toString()));
+        handler.inputReceived(new Csar(csarFile.toString()));
+
+        assertEquals(1, policyForwarder.getNumberOfPoliciesReceived());
+
+        Files.writeString(csarFile, "changed csar contents");
+        handler.inputReceived(new Csar(csarFile.toString()));
+
+        assertEquals(2, policyForwarder.getNumberOfPoliciesReceived());
+    }
+
     @Test
     void testInputReceivedNoSupportingDecoder() throws NoSuchFieldException,
             SecurityException, IllegalArgumentException, IllegalAccessException, PluginInitializationException {
@@ -143,7 +271,16 @@ class AbstractReceptionHandlerTest {
             final Collection<PolicyDecoder<PolicyInput, ToscaEntity>> decoders,
             final Collection<PolicyForwarder> forwarders) throws NoSuchFieldException, SecurityException,
             IllegalArgumentException, IllegalAccessException, PluginInitializationException {
+        setUpPlugins(receptionHandler, decoders, forwarders, 0);
+    }
+
+    private void setUpPlugins(final AbstractReceptionHandler receptionHandler,
+            final Collection<PolicyDecoder<PolicyInput, ToscaEntity>> decoders,
+            final Collection<PolicyForwarder> forwarders, final int forwarderThreadPoolSize)
+            throws NoSuchFieldException, SecurityException, IllegalArgumentException, IllegalAccessException,
+            PluginInitializationException {
         final var pluginParameters = getPluginHandlerParameters();
+        pluginParameters.setForwarderThreadPoolSize(forwarderThreadPoolSize);
         pluginParameters.setName(DISTRIBUTION_GROUP);
         ParameterService.register(pluginParameters);
         final var pluginHandler = new PluginHandler(pluginParameters.getName());
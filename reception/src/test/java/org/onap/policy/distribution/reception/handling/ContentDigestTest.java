@@ -0,0 +1,55 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.distribution.reception.handling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class to perform unit test of {@link ContentDigest}.
+ */
+class ContentDigestTest {
+
+    @Test
+    void testSha256() throws Exception {
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                ContentDigest.sha256(new ByteArrayInputStream("abc".getBytes(StandardCharsets.UTF_8))));
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855",
+                ContentDigest.sha256(new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    void testSha256LargerThanBuffer() throws Exception {
+        final var contents = new byte[20_000];
+        contents[contents.length - 1] = 1;
+
+        // the digest covers the whole stream, not only its first read
+        final var digest = ContentDigest.sha256(new ByteArrayInputStream(contents));
+        contents[contents.length - 1] = 2;
+        assertEquals(64, digest.length());
+        assertNotEquals(digest, ContentDigest.sha256(new ByteArrayInputStream(contents)));
+    }
+}
@@ -0,0 +1,298 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.policy.distribution.forwarding.PolicyForwarder;
+import org.onap.policy.distribution.forwarding.PolicyForwardingException;
+import org.onap.policy.distribution.reception.parameters.OutboxParameters;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaEntity;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+
+/**
+ * Class to perform unit test of {@link ForwardingOutbox}.
+ */
+class ForwardingOutboxTest {
+
+    private static final String FORWARDER = "forwarder";
+
+    @TempDir
+    Path tempDir;
+
+    private OutboxParameters parameters;
+    private final List<ForwardingOutbox> outboxes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        DistributionStatisticsManager.resetAllStatistics();
+        parameters = new OutboxParameters();
+        parameters.setEnabled(true);
+        parameters.setOutboxFile(tempDir.resolve("outbox.jsonl").toString());
+        parameters.setInitialRetryDelayMillis(10);
+        parameters.setMaxRetryDelayMillis(20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxes.forEach(ForwardingOutbox::close);
+    }
+
+    @Test
+    void testIsEnabled() {
+        assertFalse(ForwardingOutbox.isEnabled(null));
+        assertTrue(ForwardingOutbox.isEnabled(parameters));
+
+        parameters.setEnabled(false);
+        assertFalse(ForwardingOutbox.isEnabled(parameters));
+    }
+
+    @Test
+    void testForwardDirectly() throws Exception {
+        final var forwarder = new FlakyPolicyForwarder(0, 1);
+        final var outbox = createOutbox(forwarder);
+
+        outbox.forward(forwarder, List.of(policy("policy1")));
+
+        assertEquals(List.of("policy1"), forwarder.getReceivedPolicyNames());
+        assertEquals(0L, DistributionStatisticsManager.getForwardingOutboxCount(FORWARDER, ForwardingOutbox.DEFERRED));
+    }
+
+    @Test
+    void testFailedPoliciesRetried() throws Exception {
+        final var forwarder = new FlakyPolicyForwarder(2, 2);
+        final var outbox = createOutbox(forwarder);
+
+        outbox.forward(forwarder, List.of(policy("policy1")));
+        outbox.forward(forwarder, List.of(policy("policy2")));
+
+        assertTrue(forwarder.awaitDelivered());
+        awaitEmptyOutbox();
+        assertEquals(List.of("policy1", "policy2"), forwarder.getReceivedPolicyNames());
+        assertEquals(2L, DistributionStatisticsManager.getForwardingOutboxCount(FORWARDER, ForwardingOutbox.DEFERRED));
+        assertEquals(2L,
+                DistributionStatisticsManager.getForwardingOutboxCount(FORWARDER, ForwardingOutbox.DELIVERED));
+        assertEquals(1L, DistributionStatisticsManager.getForwardingOutboxCount(FORWARDER, ForwardingOutbox.RETRIED));
+    }
+
+    @Test
+    void testForwarderLeftAloneAfterRepeatedFailures() throws Exception {
+        parameters.setInitialRetryDelayMillis(60_000);
+        parameters.setMaxRetryDelayMillis(60_000);
+        parameters.setFailureThreshold(2);
+        final var forwarder = new FlakyPolicyForwarder(Integer.MAX_VALUE, 1);
+        final var outbox = createOutbox(forwarder);
+
+        outbox.forward(forwarder, List.of(policy("policy1")));
+        assertFalse(DistributionStatisticsManager.isForwardingCircuitOpen(FORWARDER));
+
+        // the outbox is not empty, so the policies wait behind the ones already in it
+        outbox.forward(forwarder, List.of(policy("policy2")));
+        assertEquals(1, forwarder.getAttempts());
+        assertEquals(2L, DistributionStatisticsManager.getForwardingOutboxDepth(FORWARDER));
+    }
+
+    @Test
+    void testCircuitOpensAndCloses() throws Exception {
+        parameters.setFailureThreshold(1);
+        parameters.setOpenCircuitMillis(200);
+        final var forwarder = new FlakyPolicyForwarder(1, 1);
+        final var outbox = createOutbox(forwarder);
+
+        outbox.forward(forwarder, List.of(policy("policy1")));
+        assertTrue(DistributionStatisticsManager.isForwardingCircuitOpen(FORWARDER));
+
+        assertTrue(forwarder.awaitDelivered());
+        awaitEmptyOutbox();
+        assertEquals(2, forwarder.getAttempts());
+        assertFalse(DistributionStatisticsManager.isForwardingCircuitOpen(FORWARDER));
+    }
+
+    @Test
+    void testRejectedPoliciesNotDeferred() throws Exception {
+        final var forwarder = new FlakyPolicyForwarder(0, 1, "rejected");
+        final var outbox = createOutbox(forwarder);
+
+        assertThatThrownBy(() -> outbox.forward(forwarder, List.of(policy("rejected"))))
+                .isInstanceOf(PolicyForwardingException.class).hasMessage("policy rejected");
+        outbox.forward(forwarder, List.of(policy("policy1")));
+
+        assertEquals(List.of("policy1"), forwarder.getReceivedPolicyNames());
+        assertEquals(0L, DistributionStatisticsManager.getForwardingOutboxCount(FORWARDER, ForwardingOutbox.DEFERRED));
+        assertFalse(DistributionStatisticsManager.isForwardingCircuitOpen(FORWARDER));
+    }
+
+    @Test
+    void testRejectedPoliciesDoNotBlockOutbox() throws Exception {
+        final var forwarder = new FlakyPolicyForwarder(1, 2, "rejected");
+        final var outbox = createOutbox(forwarder);
+
+        // the forwarder is unavailable, so the rejected policy is deferred and the others wait behind it
+        outbox.forward(forwarder, List.of(policy("rejected")));
+        outbox.forward(forwarder, List.of(policy("policy1")));
+        outbox.forward(forwarder, List.of(policy("policy2")));
+
+        assertTrue(forwarder.awaitDelivered());
+        awaitEmptyOutbox();
+        assertEquals(List.of("policy1", "policy2"), forwarder.getReceivedPolicyNames());
+        assertEquals(1L, DistributionStatisticsManager.getForwardingOutboxCount(FORWARDER, ForwardingOutbox.DROPPED));
+        assertEquals(2L,
+                DistributionStatisticsManager.getForwardingOutboxCount(FORWARDER, ForwardingOutbox.DELIVERED));
+        outboxes.forEach(ForwardingOutbox::close);
+
+        try (var journal = new ForwardingOutboxJournal(Path.of(parameters.getOutboxFile()), 1)) {
+            assertThat(journal.getLoadedBatches()).isEmpty();
+        }
+    }
+
+    @Test
+    void testPoliciesDroppedAfterMaxAttempts() throws Exception {
+        parameters.setMaxAttempts(2);
+        final var forwarder = new FlakyPolicyForwarder(Integer.MAX_VALUE, 1);
+        final var outbox = createOutbox(forwarder);
+
+        outbox.forward(forwarder, List.of(policy("policy1")));
+
+        awaitEmptyOutbox();
+        assertEquals(3, forwarder.getAttempts());
+        assertEquals(1L, DistributionStatisticsManager.getForwardingOutboxCount(FORWARDER, ForwardingOutbox.RETRIED));
+        assertEquals(1L, DistributionStatisticsManager.getForwardingOutboxCount(FORWARDER, ForwardingOutbox.DROPPED));
+        assertEquals(0L,
+                DistributionStatisticsManager.getForwardingOutboxCount(FORWARDER, ForwardingOutbox.DELIVERED));
+    }
+
+    @Test
+    void testPoliciesKeptAcrossRestart() throws Exception {
+        parameters.setInitialRetryDelayMillis(60_000);
+        parameters.setMaxRetryDelayMillis(60_000);
+        final var failingForwarder = new FlakyPolicyForwarder(Integer.MAX_VALUE, 1);
+        final var failingOutbox = createOutbox(failingForwarder);
+
+        failingOutbox.forward(failingForwarder, List.of(policy("policy1"), policy("policy2")));
+        failingOutbox.forward(failingForwarder, List.of(policy("policy3")));
+        failingOutbox.close();
+
+        parameters.setInitialRetryDelayMillis(10);
+        final var forwarder = new FlakyPolicyForwarder(0, 2);
+        createOutbox(forwarder);
+
+        assertTrue(forwarder.awaitDelivered());
+        awaitEmptyOutbox();
+        assertEquals(List.of("policy1", "policy2", "policy3"), forwarder.getReceivedPolicyNames());
+        outboxes.forEach(ForwardingOutbox::close);
+
+        try (var journal = new ForwardingOutboxJournal(Path.of(parameters.getOutboxFile()), 1)) {
+            assertThat(journal.getLoadedBatches()).isEmpty();
+            assertTrue(journal.getLastId() >= 2);
+        }
+    }
+
+    private ForwardingOutbox createOutbox(final PolicyForwarder forwarder) throws IOException {
+        final var outbox = new ForwardingOutbox(parameters, Map.of(FORWARDER, forwarder));
+        outboxes.add(outbox);
+        return outbox;
+    }
+
+    private static void awaitEmptyOutbox() throws InterruptedException {
+        final var deadline = System.currentTimeMillis() + 5000;
+        while (DistributionStatisticsManager.getForwardingOutboxDepth(FORWARDER) > 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0L, DistributionStatisticsManager.getForwardingOutboxDepth(FORWARDER));
+    }
+
+    private static ToscaPolicy policy(final String name) {
+        final var policy = new ToscaPolicy();
+        policy.setName(name);
+        policy.setVersion("1.0.0");
+        return policy;
+    }
+
+    /**
+     * Forwarder failing a given number of times before accepting policies, and rejecting a given policy.
+     */
+    private static class FlakyPolicyForwarder implements PolicyForwarder {
+        private final List<String> receivedPolicyNames = new ArrayList<>();
+        private final CountDownLatch delivered;
+        private final String rejectedPolicyName;
+        private int failuresLeft;
+        private int attempts;
+
+        FlakyPolicyForwarder(final int failures, final int expectedBatches) {
+            this(failures, expectedBatches, null);
+        }
+
+        FlakyPolicyForwarder(final int failures, final int expectedBatches, final String rejectedPolicyName) {
+            this.failuresLeft = failures;
+            this.delivered = new CountDownLatch(expectedBatches);
+            this.rejectedPolicyName = rejectedPolicyName;
+        }
+
+        @Override
+        public synchronized void forward(final Collection<ToscaEntity> policies) throws PolicyForwardingException {
+            attempts++;
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new PolicyForwardingException("forwarder unavailable", true);
+            }
+            if (policies.stream().anyMatch(policy -> policy.getName().equals(rejectedPolicyName))) {
+                throw new PolicyForwardingException("policy rejected");
+            }
+            policies.forEach(policy -> receivedPolicyNames.add(policy.getName()));
+            delivered.countDown();
+        }
+
+        synchronized List<String> getReceivedPolicyNames() {
+            return List.copyOf(receivedPolicyNames);
+        }
+
+        synchronized int getAttempts() {
+            return attempts;
+        }
+
+        boolean awaitDelivered() throws InterruptedException {
+            return delivered.await(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void configure(final String parameterGroupName) {
+            // nothing to configure
+        }
+    }
+}
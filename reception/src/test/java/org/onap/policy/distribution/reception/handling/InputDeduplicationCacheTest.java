@@ -0,0 +1,187 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.policy.distribution.model.Csar;
+import org.onap.policy.distribution.reception.parameters.DeduplicationParameters;
+import org.onap.policy.distribution.reception.statistics.DistributionStatisticsManager;
+
+/**
+ * Class to perform unit test of {@link InputDeduplicationCache}.
+ */
+class InputDeduplicationCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final MutableClock clock = new MutableClock();
+    private DeduplicationParameters parameters;
+
+    @BeforeEach
+    void setUp() {
+        DistributionStatisticsManager.resetAllStatistics();
+        parameters = new DeduplicationParameters();
+        parameters.setEnabled(true);
+    }
+
+    @Test
+    void testIsEnabled() {
+        assertFalse(InputDeduplicationCache.isEnabled(null));
+        assertTrue(InputDeduplicationCache.isEnabled(parameters));
+
+        parameters.setEnabled(false);
+        assertFalse(InputDeduplicationCache.isEnabled(parameters));
+    }
+
+    @Test
+    void testDigest() throws IOException {
+        final var cache = new InputDeduplicationCache(parameters, clock);
+
+        final var csar1 = new Csar(Files.writeString(tempDir.resolve("1.csar"), "contents").toString());
+        final var csar2 = new Csar(Files.writeString(tempDir.resolve("2.csar"), "contents").toString());
+        final var csar3 = new Csar(Files.writeString(tempDir.resolve("3.csar"), "other contents").toString());
+
+        assertEquals(64, cache.digest(csar1).length());
+        assertEquals(cache.digest(csar1), cache.digest(csar2));
+        assertNotEquals(cache.digest(csar1), cache.digest(csar3));
+        assertNull(cache.digest(new Csar(tempDir.resolve("unknown.csar").toString())));
+        assertNull(cache.digest(new AbstractReceptionHandlerTest.DummyPolicyInput()));
+    }
+
+    @Test
+    void testIsDuplicate() {
+        final var cache = new InputDeduplicationCache(parameters, clock);
+
+        assertFalse(cache.isDuplicate("digest"));
+        cache.record("digest");
+        assertTrue(cache.isDuplicate("digest"));
+
+        assertEquals(1L, DistributionStatisticsManager.getDeduplicationHitCount());
+        assertEquals(1L, DistributionStatisticsManager.getDeduplicationMissCount());
+    }
+
+    @Test
+    void testLeastRecentlySeenEvicted() {
+        parameters.setCacheSize(2);
+        final var cache = new InputDeduplicationCache(parameters, clock);
+
+        cache.record("digest1");
+        cache.record("digest2");
+        assertTrue(cache.isDuplicate("digest1"));
+        cache.record("digest3");
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.isDuplicate("digest1"));
+        assertFalse(cache.isDuplicate("digest2"));
+        assertTrue(cache.isDuplicate("digest3"));
+    }
+
+    @Test
+    void testExpiry() {
+        parameters.setTimeToLiveSeconds(60);
+        final var cache = new InputDeduplicationCache(parameters, clock);
+
+        cache.record("digest");
+        clock.advance(Duration.ofSeconds(60));
+        assertTrue(cache.isDuplicate("digest"));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertFalse(cache.isDuplicate("digest"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testIndexFile() {
+        parameters.setTimeToLiveSeconds(60);
+        parameters.setIndexFile(tempDir.resolve("index").toString());
+        final var cache = new InputDeduplicationCache(parameters, clock);
+
+        cache.record("digest1");
+        clock.advance(Duration.ofSeconds(30));
+        cache.record("digest2");
+
+        final var reloaded = new InputDeduplicationCache(parameters, clock);
+        assertEquals(2, reloaded.size());
+        assertTrue(reloaded.isDuplicate("digest1"));
+
+        clock.advance(Duration.ofSeconds(31));
+        final var expired = new InputDeduplicationCache(parameters, clock);
+        assertEquals(1, expired.size());
+        assertFalse(expired.isDuplicate("digest1"));
+        assertTrue(expired.isDuplicate("digest2"));
+    }
+
+    @Test
+    void testIndexFileCompacted() throws IOException {
+        parameters.setCacheSize(2);
+        parameters.setIndexFile(tempDir.resolve("index").toString());
+        final var cache = new InputDeduplicationCache(parameters, clock);
+
+        for (var count = 0; count < 10; count++) {
+            cache.record("digest" + count);
+        }
+
+        assertTrue(Files.readAllLines(tempDir.resolve("index")).size() <= 4);
+        final var reloaded = new InputDeduplicationCache(parameters, clock);
+        assertTrue(reloaded.isDuplicate("digest9"));
+        assertTrue(reloaded.isDuplicate("digest8"));
+        assertFalse(reloaded.isDuplicate("digest7"));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+
+package org.onap.policy.distribution.reception.handling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Class to perform unit test of {@link JournalFiles}.
+ */
+class JournalFilesTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReplace() throws Exception {
+        final var file = tempDir.resolve("journal");
+        Files.writeString(file, "old contents");
+
+        JournalFiles.replace(file, "new contents");
+
+        assertEquals("new contents", Files.readString(file));
+        // the temporary file is moved over the file rather than left behind
+        assertThat(tempDir).isDirectoryContaining(path -> path.equals(file))
+                .isDirectoryNotContaining(path -> !path.equals(file));
+    }
+
+    @Test
+    void testReplaceMissingFile() throws Exception {
+        final var file = tempDir.resolve("journal");
+
+        JournalFiles.replace(file, "contents");
+
+        assertEquals("contents", Files.readString(file));
+    }
+}
@@ -0,0 +1,152 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.distribution.model.PolicyInput;
+import org.onap.policy.distribution.reception.decoding.PolicyDecodingException;
+import org.onap.policy.distribution.reception.parameters.PluginHandlerParameters;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaEntity;
+
+/**
+ * Class to perform unit test of {@link ReceptionPipeline}.
+ */
+class ReceptionPipelineTest {
+
+    private final CountDownLatch decodeLatch = new CountDownLatch(1);
+    private final AtomicInteger forwardedInputs = new AtomicInteger();
+    private ReceptionPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        decodeLatch.countDown();
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    void testIsEnabled() {
+        final var parameters = getParameters(0, 0);
+        assertFalse(ReceptionPipeline.isEnabled(parameters));
+
+        parameters.setDecodeThreads(1);
+        assertTrue(ReceptionPipeline.isEnabled(parameters));
+    }
+
+    @Test
+    void testSubmit() throws InterruptedException, ExecutionException {
+        decodeLatch.countDown();
+        pipeline = new ReceptionPipeline(new PipelineReceptionHandler(), getParameters(2, 4));
+
+        final var result = pipeline.submit(new AbstractReceptionHandlerTest.DummyPolicyInput()).get();
+
+        assertEquals(1, result.size());
+        assertTrue(result.get(0).isSuccessful());
+        assertEquals(1, forwardedInputs.get());
+    }
+
+    @Test
+    void testSubmitDecodingFailure() {
+        final var handler = new PipelineReceptionHandler() {
+            @Override
+            protected Collection<ToscaEntity> decodePolicies(final PolicyInput policyInput)
+                    throws PolicyDecodingException {
+                throw new PolicyDecodingException("No decoder available matching requirements");
+            }
+        };
+        pipeline = new ReceptionPipeline(handler, getParameters(1, 1));
+
+        final var result = pipeline.submit(new AbstractReceptionHandlerTest.DummyPolicyInput());
+
+        assertThatThrownBy(result::get).hasCauseInstanceOf(PolicyDecodingException.class);
+        assertEquals(0, forwardedInputs.get());
+    }
+
+    @Test
+    void testBackpressure() throws InterruptedException {
+        pipeline = new ReceptionPipeline(new PipelineReceptionHandler(), getParameters(1, 1));
+
+        // the first input occupies the decode worker and the second one fills the decode queue
+        final var first = pipeline.submit(new AbstractReceptionHandlerTest.DummyPolicyInput());
+        final var second = pipeline.submit(new AbstractReceptionHandlerTest.DummyPolicyInput());
+
+        final var submitted = new CountDownLatch(1);
+        final var submitter = new Thread(() -> {
+            pipeline.submit(new AbstractReceptionHandlerTest.DummyPolicyInput()).join();
+            submitted.countDown();
+        });
+        submitter.start();
+
+        assertFalse(submitted.await(200, TimeUnit.MILLISECONDS));
+
+        decodeLatch.countDown();
+        assertTrue(submitted.await(5, TimeUnit.SECONDS));
+        CompletableFuture.allOf(first, second).join();
+        assertEquals(3, forwardedInputs.get());
+        assertThat(pipeline.getDecodeQueueDepth()).isZero();
+    }
+
+    private PluginHandlerParameters getParameters(final int threads, final int queueSize) {
+        final var parameters = new PluginHandlerParameters(new HashMap<>(), new HashMap<>());
+        parameters.setDecodeThreads(threads);
+        parameters.setDecodeQueueSize(queueSize);
+        parameters.setForwardThreads(threads);
+        parameters.setForwardQueueSize(queueSize);
+        return parameters;
+    }
+
+    private class PipelineReceptionHandler extends DummyReceptionHandler {
+
+        @Override
+        protected Collection<ToscaEntity> decodePolicies(final PolicyInput policyInput)
+                throws PolicyDecodingException {
+            try {
+                decodeLatch.await();
+            } catch (final InterruptedException exp) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.singletonList(new AbstractReceptionHandlerTest.DummyPolicy1());
+        }
+
+        @Override
+        protected List<PolicyForwardingResult> forwardPolicies(final Collection<ToscaEntity> policies) {
+            forwardedInputs.incrementAndGet();
+            return List.of(new PolicyForwardingResult(new DummyPolicyForwarder(), null));
+        }
+    }
+}
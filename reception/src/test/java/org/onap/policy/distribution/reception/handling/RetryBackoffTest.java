@@ -0,0 +1,54 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.reception.handling;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class to perform unit test of {@link RetryBackoff}.
+ */
+class RetryBackoffTest {
+
+    @Test
+    void testNextDelay() {
+        final var backoff = new RetryBackoff(1000, 30_000);
+
+        for (var attempt = 1; attempt <= 100; attempt++) {
+            final var expected = Math.min(1000L << Math.min(attempt - 1, 20), 30_000L);
+            final var delay = backoff.nextDelayMillis(attempt);
+            assertTrue(delay >= expected / 2 && delay <= expected, "delay " + delay + " for attempt " + attempt);
+        }
+    }
+
+    @Test
+    void testDelaysClamped() {
+        final var backoff = new RetryBackoff(0, 0);
+
+        assertTrue(backoff.nextDelayMillis(0) <= 1);
+        assertTrue(backoff.nextDelayMillis(Integer.MAX_VALUE) <= 1);
+
+        // the delay of a large initial delay doesn't overflow however many attempts failed
+        final var delay = new RetryBackoff(Long.MAX_VALUE / 4, Long.MAX_VALUE).nextDelayMillis(64);
+        assertTrue(delay >= Long.MAX_VALUE / 4, "delay " + delay);
+    }
+}
@@ -54,6 +54,23 @@ class TestPluginHandlerParameters {
         assertThat(result.getResult()).contains("\"policyForwarders\"", "minimum").doesNotContain("\"policyDecoders\"");
     }
 
+    @Test
+    void testValidate_OutboxEnabledWithoutFile() {
+        var parameters = new PluginHandlerParameters(getPolicyDecoders(), getPolicyForwarders());
+        var outboxParameters = new OutboxParameters();
+        outboxParameters.setEnabled(true);
+        parameters.setOutboxParameters(outboxParameters);
+
+        assertThat(parameters.validate().getResult()).contains("outboxFile", "must be set");
+
+        outboxParameters.setOutboxFile("outbox.jsonl");
+        assertThat(parameters.validate().isValid()).isTrue();
+
+        outboxParameters.setOutboxFile(null);
+        outboxParameters.setEnabled(false);
+        assertThat(parameters.validate().isValid()).isTrue();
+    }
+
     private Map<String, PolicyDecoderParameters> getPolicyDecoders() {
         final Map<String, PolicyDecoderParameters> policyDecoders = new HashMap<>();
         final var pDParameters =
@@ -21,7 +21,11 @@
 package org.onap.policy.distribution.reception.statistics;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.prometheus.metrics.model.registry.PrometheusRegistry;
+import io.prometheus.metrics.model.snapshots.HistogramSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -74,6 +78,116 @@ class TestDistributionStatisticsManager {
         assertEquals(1L, DistributionStatisticsManager.getDownloadFailureCount());
     }
 
+    @Test
+    void testUpdateDeduplicationCounts() {
+        DistributionStatisticsManager.updateDeduplicationHitCount();
+        DistributionStatisticsManager.updateDeduplicationMissCount();
+        DistributionStatisticsManager.updateDeduplicationMissCount();
+        assertEquals(1L, DistributionStatisticsManager.getDeduplicationHitCount());
+        assertEquals(2L, DistributionStatisticsManager.getDeduplicationMissCount());
+    }
+
+    @Test
+    void testObserveDurations() {
+        DistributionStatisticsManager.observeDownloadDuration("SDC", 1_000_000L);
+        DistributionStatisticsManager.observeDecodeDuration("SDC", "Decoder", 1_000_000L);
+        DistributionStatisticsManager.observeDecodeDuration("SDC", "Decoder", 2_000_000L);
+        DistributionStatisticsManager.observeForwardDuration("SDC", "Forwarder", 1_000_000L);
+        DistributionStatisticsManager.observeForwardRequestDuration("Forwarder", "/uri", 1_000_000L);
+        DistributionStatisticsManager.observeDistributionDuration("FILE", 1_000_000_000L);
+
+        assertEquals(1L, getObservationCount("distribution_download_duration_seconds"));
+        assertEquals(2L, getObservationCount("distribution_decode_duration_seconds"));
+        assertEquals(1L, getObservationCount("distribution_forward_duration_seconds"));
+        assertEquals(1L, getObservationCount("distribution_forward_request_duration_seconds"));
+        assertEquals(1L, getObservationCount("distribution_end_to_end_duration_seconds"));
+
+        DistributionStatisticsManager.resetAllStatistics();
+        assertEquals(0L, getObservationCount("distribution_decode_duration_seconds"));
+    }
+
+    @Test
+    void testFileQueueStatistics() {
+        DistributionStatisticsManager.setFileQueueDepth("FILE", 3);
+        DistributionStatisticsManager.setFileInFlightBytes("FILE", 1024);
+        DistributionStatisticsManager.observeFileQueueWaitDuration("FILE", 1_000_000L);
+
+        assertEquals(3L, DistributionStatisticsManager.getFileQueueDepth("FILE"));
+        assertEquals(1024L, DistributionStatisticsManager.getFileInFlightBytes("FILE"));
+        assertEquals(1L, getObservationCount("distribution_file_queue_wait_duration_seconds"));
+
+        DistributionStatisticsManager.resetAllStatistics();
+        assertEquals(0L, DistributionStatisticsManager.getFileQueueDepth("FILE"));
+    }
+
+    @Test
+    void testSdcStatusStatistics() {
+        DistributionStatisticsManager.updateSdcStatusReportCount("SDC", "sent");
+        DistributionStatisticsManager.updateSdcStatusReportCount("SDC", "sent");
+        DistributionStatisticsManager.updateSdcStatusReportCount("SDC", "failed");
+        DistributionStatisticsManager.setSdcStatusQueueDepth("SDC", 5);
+        DistributionStatisticsManager.observeSdcStatusDelay("SDC", 1_000_000L);
+
+        assertEquals(2L, DistributionStatisticsManager.getSdcStatusReportCount("SDC", "sent"));
+        assertEquals(1L, DistributionStatisticsManager.getSdcStatusReportCount("SDC", "failed"));
+        assertEquals(5L, DistributionStatisticsManager.getSdcStatusQueueDepth("SDC"));
+        assertEquals(1L, getObservationCount("distribution_sdc_status_delay_seconds"));
+
+        DistributionStatisticsManager.resetAllStatistics();
+        assertEquals(0L, DistributionStatisticsManager.getSdcStatusReportCount("SDC", "sent"));
+    }
+
+    @Test
+    void testSdcClientRetryStatistics() {
+        DistributionStatisticsManager.updateSdcClientRetry("SDC", "START", 1, 1000);
+        DistributionStatisticsManager.updateSdcClientRetry("SDC", "START", 2, 2000);
+        assertEquals(2L, DistributionStatisticsManager.getSdcClientRetryCount("SDC", "START"));
+        assertEquals(2L, DistributionStatisticsManager.getSdcClientRetryAttempts("SDC", "START"));
+
+        DistributionStatisticsManager.resetSdcClientRetry("SDC", "START");
+        assertEquals(2L, DistributionStatisticsManager.getSdcClientRetryCount("SDC", "START"));
+        assertEquals(0L, DistributionStatisticsManager.getSdcClientRetryAttempts("SDC", "START"));
+    }
+
+    @Test
+    void testSdcArtifactCacheStatistics() {
+        DistributionStatisticsManager.updateSdcArtifactCacheCount("SDC", "hit");
+        DistributionStatisticsManager.updateSdcArtifactCacheCount("SDC", "miss");
+        DistributionStatisticsManager.updateSdcArtifactCacheCount("SDC", "miss");
+        DistributionStatisticsManager.setSdcArtifactCacheBytes("SDC", 1024);
+
+        assertEquals(1L, DistributionStatisticsManager.getSdcArtifactCacheCount("SDC", "hit"));
+        assertEquals(2L, DistributionStatisticsManager.getSdcArtifactCacheCount("SDC", "miss"));
+        assertEquals(1024L, DistributionStatisticsManager.getSdcArtifactCacheBytes("SDC"));
+    }
+
+    @Test
+    void testSdcArtifactSkippedAndNotificationResumedStatistics() {
+        DistributionStatisticsManager.updateSdcArtifactSkippedCount("SDC");
+        DistributionStatisticsManager.updateSdcNotificationResumedCount("SDC");
+        assertEquals(1L, DistributionStatisticsManager.getSdcArtifactSkippedCount("SDC"));
+        assertEquals(1L, DistributionStatisticsManager.getSdcNotificationResumedCount("SDC"));
+
+        DistributionStatisticsManager.resetAllStatistics();
+        assertEquals(0L, DistributionStatisticsManager.getSdcArtifactSkippedCount("SDC"));
+    }
+
+    @Test
+    void testForwardingOutboxStatistics() {
+        DistributionStatisticsManager.updateForwardingOutboxCount("forwarder", "deferred");
+        DistributionStatisticsManager.updateForwardingOutboxCount("forwarder", "deferred");
+        DistributionStatisticsManager.setForwardingOutboxDepth("forwarder", 2);
+        DistributionStatisticsManager.setForwardingCircuitOpen("forwarder", true);
+
+        assertEquals(2L, DistributionStatisticsManager.getForwardingOutboxCount("forwarder", "deferred"));
+        assertEquals(2L, DistributionStatisticsManager.getForwardingOutboxDepth("forwarder"));
+        assertTrue(DistributionStatisticsManager.isForwardingCircuitOpen("forwarder"));
+
+        DistributionStatisticsManager.resetAllStatistics();
+        assertEquals(0L, DistributionStatisticsManager.getForwardingOutboxDepth("forwarder"));
+        assertFalse(DistributionStatisticsManager.isForwardingCircuitOpen("forwarder"));
+    }
+
     @Test
     void testGetTotalDistributionCount() {
         assertEquals(0L, DistributionStatisticsManager.getTotalDistributionCount());
@@ -103,4 +217,10 @@ class TestDistributionStatisticsManager {
     void testGetDownloadFailureCount() {
         assertEquals(0L, DistributionStatisticsManager.getDownloadFailureCount());
     }
+
+    private long getObservationCount(final String name) {
+        return PrometheusRegistry.defaultRegistry.scrape(name::equals).stream()
+                .flatMap(snapshot -> ((HistogramSnapshot) snapshot).getDataPoints().stream())
+                .mapToLong(HistogramSnapshot.HistogramDataPointSnapshot::getCount).sum();
+    }
 }
@@ -0,0 +1,122 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import org.onap.policy.common.parameters.ParameterGroup;
+import org.onap.policy.common.parameters.ParameterService;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.distribution.forwarding.lifecycle.api.LifecycleApiForwarderParameters;
+import org.onap.policy.distribution.forwarding.lifecycle.api.LifecycleApiPolicyForwarder;
+import org.onap.policy.distribution.forwarding.parameters.PolicyForwarderParameters;
+import org.onap.policy.distribution.reception.decoding.policy.file.AutomationCompositionDecoderFileInCsar;
+import org.onap.policy.distribution.reception.decoding.policy.file.AutomationCompositionDecoderFileInCsarParameterGroup;
+import org.onap.policy.distribution.reception.decoding.policy.file.PolicyDecoderFileInCsarToPolicy;
+import org.onap.policy.distribution.reception.decoding.policy.file.PolicyDecoderFileInCsarToPolicyParameterGroup;
+import org.onap.policy.distribution.reception.parameters.PolicyDecoderParameters;
+
+/**
+ * The plugin configurations used by the benchmarks, matching the configuration of the performance test suite.
+ */
+final class BenchmarkParameters {
+
+    static final String POLICY_DECODER_CONFIGURATION = "benchmarkPolicyDecoderConfiguration";
+    static final String AUTOMATION_COMPOSITION_DECODER_CONFIGURATION = "benchmarkAcDecoderConfiguration";
+    static final String LIFECYCLE_API_FORWARDER_CONFIGURATION = "benchmarkLifecycleApiForwarderConfiguration";
+
+    static final String POLICY_FILE_NAME = "tosca_policy";
+    static final String POLICY_TYPE_FILE_NAME = "tosca_policy_type";
+
+    private static final StandardCoder CODER = new StandardCoder();
+
+    private BenchmarkParameters() {
+        // static methods only
+    }
+
+    /**
+     * Register the configurations of the decoders.
+     */
+    static void registerDecoderConfigurations() {
+        register("{\"policyFileName\":\"" + POLICY_FILE_NAME + "\",\"policyTypeFileName\":\"" + POLICY_TYPE_FILE_NAME
+            + "\"}", PolicyDecoderFileInCsarToPolicyParameterGroup.class, POLICY_DECODER_CONFIGURATION);
+        register("{\"automationCompositionType\":\"acm\"}", AutomationCompositionDecoderFileInCsarParameterGroup.class,
+            AUTOMATION_COMPOSITION_DECODER_CONFIGURATION);
+    }
+
+    /**
+     * Register the configuration of the lifecycle api forwarder, forwarding to the given port of the loopback
+     * interface.
+     *
+     * @param port the port of the policy-api and policy-pap stand in
+     * @param maxInFlightRequests the maximum number of templates forwarded concurrently
+     */
+    static void registerForwarderConfiguration(final int port, final int maxInFlightRequests) {
+        final var clientParameters = "{\"hostname\":\"localhost\",\"port\":" + port
+            + ",\"useHttps\":false,\"userName\":\"policyadmin\",\"password\":\"zb!XztG34\",\"clientName\":\"";
+        register("{\"apiParameters\":" + clientParameters + "policy-api\"},\"papParameters\":" + clientParameters
+            + "policy-pap\"},\"deployPolicies\":true,\"maxInFlightRequests\":" + maxInFlightRequests + "}",
+            LifecycleApiForwarderParameters.class, LIFECYCLE_API_FORWARDER_CONFIGURATION);
+    }
+
+    /**
+     * Get the decoders of the reception handler.
+     *
+     * @return the decoder parameters keyed by decoder name
+     */
+    static Map<String, PolicyDecoderParameters> getDecoders() {
+        return Map.of(
+            "PolicyDecoder", new PolicyDecoderParameters("PolicyDecoderFileInCsarToPolicy",
+                PolicyDecoderFileInCsarToPolicy.class.getName(), POLICY_DECODER_CONFIGURATION),
+            "AutomationCompositionDecoder", new PolicyDecoderParameters("AutomationCompositionDecoderFileInCsar",
+                AutomationCompositionDecoderFileInCsar.class.getName(), AUTOMATION_COMPOSITION_DECODER_CONFIGURATION));
+    }
+
+    /**
+     * Get the forwarders of the reception handler.
+     *
+     * @return the forwarder parameters keyed by forwarder name
+     */
+    static Map<String, PolicyForwarderParameters> getForwarders() {
+        return Map.of("LifecycleApiForwarder", new PolicyForwarderParameters("LifecycleApiForwarder",
+            LifecycleApiPolicyForwarder.class.getName(), LIFECYCLE_API_FORWARDER_CONFIGURATION));
+    }
+
+    /**
+     * Deregister all the configurations.
+     */
+    static void deregisterConfigurations() {
+        List.of(POLICY_DECODER_CONFIGURATION, AUTOMATION_COMPOSITION_DECODER_CONFIGURATION,
+            LIFECYCLE_API_FORWARDER_CONFIGURATION).forEach(ParameterService::deregister);
+    }
+
+    private static <T extends ParameterGroup> void register(final String json, final Class<T> groupClass,
+            final String name) {
+        try {
+            final var parameters = CODER.decode(json, groupClass);
+            parameters.setName(name);
+            ParameterService.register(parameters, true);
+        } catch (final CoderException exp) {
+            throw new IllegalArgumentException("cannot decode the parameters of " + name, exp);
+        }
+    }
+}
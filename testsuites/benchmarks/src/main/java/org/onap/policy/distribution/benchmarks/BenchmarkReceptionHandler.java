@@ -0,0 +1,58 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.benchmarks;
+
+import org.onap.policy.distribution.model.PolicyInput;
+import org.onap.policy.distribution.reception.decoding.PolicyDecodingException;
+import org.onap.policy.distribution.reception.handling.AbstractReceptionHandler;
+
+/**
+ * Reception handler that hands the inputs given by the benchmarks to its plugins, as a reception handler does with
+ * the inputs it receives.
+ */
+public class BenchmarkReceptionHandler extends AbstractReceptionHandler {
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected void initializeReception(final String parameterGroupName) {
+        // the inputs are given by the benchmarks
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void destroy() {
+        destroyPlugins();
+    }
+
+    /**
+     * Decode and forward an input.
+     *
+     * @param policyInput the input
+     * @throws PolicyDecodingException if no decoder can handle the input
+     */
+    public void receive(final PolicyInput policyInput) throws PolicyDecodingException {
+        inputReceived(policyInput);
+    }
+}
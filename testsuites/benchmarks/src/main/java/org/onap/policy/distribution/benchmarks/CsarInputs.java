@@ -0,0 +1,122 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.onap.policy.distribution.model.InMemoryCsar;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The CSARs of the performance test suite, copied out of the benchmark jar into a temporary directory so that they can
+ * be read as files by the decoders, and also held in memory as downloaded artifacts are. The benchmarks cycle through
+ * the CSARs so that consecutive invocations read different files.
+ */
+@State(Scope.Benchmark)
+public class CsarInputs {
+
+    private static final int CSAR_COUNT = 10;
+
+    private Path csarDirectory;
+    private List<Path> csarFiles;
+    private List<byte[]> csarPayloads;
+    private final AtomicInteger nextCsar = new AtomicInteger();
+
+    /**
+     * Copy the CSARs into a temporary directory.
+     *
+     * @throws IOException if the CSARs can't be copied
+     */
+    @Setup
+    public void copyCsars() throws IOException {
+        csarDirectory = Files.createTempDirectory("distribution-benchmarks");
+        csarFiles = new ArrayList<>();
+        csarPayloads = new ArrayList<>();
+        for (var index = 1; index <= CSAR_COUNT; index++) {
+            final var csarName = "test_csar_" + index + ".csar";
+            try (var csarData = CsarInputs.class.getResourceAsStream("/testCsars/" + csarName)) {
+                if (csarData == null) {
+                    throw new IOException("CSAR " + csarName + " not found on the class path");
+                }
+                final var csarFile = csarDirectory.resolve(csarName);
+                Files.copy(csarData, csarFile, StandardCopyOption.REPLACE_EXISTING);
+                csarFiles.add(csarFile);
+                csarPayloads.add(Files.readAllBytes(csarFile));
+            }
+        }
+    }
+
+    /**
+     * Delete the temporary directory holding the CSARs.
+     *
+     * @throws IOException if the CSARs can't be deleted
+     */
+    @TearDown
+    public void deleteCsars() throws IOException {
+        try (var paths = Files.walk(csarDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (final IOException exp) {
+                    throw new UncheckedIOException(exp);
+                }
+            });
+        }
+    }
+
+    /**
+     * Get all the CSAR files.
+     *
+     * @return the CSAR files
+     */
+    public List<Path> getCsarFiles() {
+        return csarFiles;
+    }
+
+    /**
+     * Get the path of the next CSAR file to read.
+     *
+     * @return the path of the CSAR file
+     */
+    public String nextCsar() {
+        return csarFiles.get(Math.floorMod(nextCsar.getAndIncrement(), csarFiles.size())).toString();
+    }
+
+    /**
+     * Get the next CSAR to read from memory.
+     *
+     * @return the CSAR held in memory
+     */
+    public InMemoryCsar nextInMemoryCsar() {
+        final var index = Math.floorMod(nextCsar.getAndIncrement(), csarFiles.size());
+        return new InMemoryCsar(csarFiles.get(index).getFileName().toString(), csarPayloads.get(index));
+    }
+}
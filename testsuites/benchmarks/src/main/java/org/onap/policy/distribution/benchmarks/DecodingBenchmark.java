@@ -0,0 +1,147 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.benchmarks;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.distribution.model.Csar;
+import org.onap.policy.distribution.reception.decoding.PolicyDecodingException;
+import org.onap.policy.distribution.reception.decoding.policy.file.AutomationCompositionDecoderFileInCsar;
+import org.onap.policy.distribution.reception.decoding.policy.file.PolicyDecoderFileInCsarToPolicy;
+import org.onap.policy.distribution.reception.util.ReceptionUtil;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaEntity;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the decoding of the policies and automation compositions of a CSAR. Each invocation reads a CSAR that
+ * hasn't been opened yet, as happens when a distribution is received.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecodingBenchmark {
+
+    private PolicyDecoderFileInCsarToPolicy policyDecoder;
+    private AutomationCompositionDecoderFileInCsar automationCompositionDecoder;
+
+    /**
+     * Configure the decoders.
+     */
+    @Setup
+    public void configureDecoders() {
+        BenchmarkParameters.registerDecoderConfigurations();
+
+        policyDecoder = new PolicyDecoderFileInCsarToPolicy();
+        policyDecoder.configure(BenchmarkParameters.POLICY_DECODER_CONFIGURATION);
+        automationCompositionDecoder = new AutomationCompositionDecoderFileInCsar();
+        automationCompositionDecoder.configure(BenchmarkParameters.AUTOMATION_COMPOSITION_DECODER_CONFIGURATION);
+    }
+
+    /**
+     * Deregister the configurations of the decoders.
+     */
+    @TearDown
+    public void deregisterDecoders() {
+        BenchmarkParameters.deregisterConfigurations();
+    }
+
+    /**
+     * Unzip and decode the policy entries of a CSAR.
+     *
+     * @param inputs the CSARs
+     * @return the decoded templates
+     * @throws PolicyDecodingException if the CSAR can't be read
+     * @throws CoderException if the entries can't be decoded
+     */
+    @Benchmark
+    public Map<String, ToscaServiceTemplate> unzip(final CsarInputs inputs)
+            throws PolicyDecodingException, CoderException {
+        final Map<String, ToscaServiceTemplate> templates = new HashMap<>();
+        ReceptionUtil.unzip(inputs.nextCsar(), templates, BenchmarkParameters.POLICY_FILE_NAME,
+            BenchmarkParameters.POLICY_TYPE_FILE_NAME);
+        return templates;
+    }
+
+    /**
+     * Decode the policies of a CSAR.
+     *
+     * @param inputs the CSARs
+     * @return the decoded policies
+     * @throws PolicyDecodingException if the policies can't be decoded
+     * @throws IOException if the CSAR can't be closed
+     */
+    @Benchmark
+    public Collection<ToscaEntity> decodePolicies(final CsarInputs inputs) throws PolicyDecodingException, IOException {
+        try (var csar = new Csar(inputs.nextCsar())) {
+            return policyDecoder.decode(csar);
+        }
+    }
+
+    /**
+     * Decode the policies of a CSAR held in memory, as the SDC reception handler does with downloaded artifacts.
+     *
+     * @param inputs the CSARs
+     * @return the decoded policies
+     * @throws PolicyDecodingException if the policies can't be decoded
+     * @throws IOException if the CSAR can't be closed
+     */
+    @Benchmark
+    public Collection<ToscaEntity> decodeInMemoryPolicies(final CsarInputs inputs)
+            throws PolicyDecodingException, IOException {
+        try (var csar = inputs.nextInMemoryCsar()) {
+            return policyDecoder.decode(csar);
+        }
+    }
+
+    /**
+     * Decode the automation compositions of a CSAR.
+     *
+     * @param inputs the CSARs
+     * @return the decoded automation compositions
+     * @throws PolicyDecodingException if the automation compositions can't be decoded
+     * @throws IOException if the CSAR can't be closed
+     */
+    @Benchmark
+    public Collection<ToscaEntity> decodeAutomationCompositions(final CsarInputs inputs)
+            throws PolicyDecodingException, IOException {
+        try (var csar = new Csar(inputs.nextCsar())) {
+            return automationCompositionDecoder.decode(csar);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.onap.policy.common.endpoints.http.client.HttpClientConfigException;
+import org.onap.policy.distribution.forwarding.PolicyForwardingException;
+import org.onap.policy.distribution.forwarding.lifecycle.api.LifecycleApiPolicyForwarder;
+import org.onap.policy.distribution.model.Csar;
+import org.onap.policy.distribution.reception.decoding.PolicyDecodingException;
+import org.onap.policy.distribution.reception.decoding.policy.file.PolicyDecoderFileInCsarToPolicy;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the forwarding of decoded policies by the lifecycle api forwarder to an in-process stand in for
+ * policy-api and policy-pap, so that the cost of the forwarder and its HTTP client is measured without the latency of
+ * the policy framework.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ForwardingBenchmark {
+
+    // The number of templates forwarded concurrently, 0 to forward them one at a time
+    @Param({"0", "4"})
+    private int maxInFlightRequests;
+
+    private StubPolicyFrameworkServer server;
+    private LifecycleApiPolicyForwarder forwarder;
+    private List<Collection<ToscaEntity>> decodedCsars;
+    private final AtomicInteger nextCsar = new AtomicInteger();
+
+    /**
+     * Decode the CSARs, start the stand in for the policy framework and configure the forwarder.
+     *
+     * @param inputs the CSARs
+     * @throws IOException if the server can't be started
+     * @throws PolicyDecodingException if the CSARs can't be decoded
+     * @throws HttpClientConfigException if the forwarder can't be configured
+     */
+    @Setup(Level.Trial)
+    public void configureForwarder(final CsarInputs inputs)
+            throws IOException, PolicyDecodingException, HttpClientConfigException {
+        BenchmarkParameters.registerDecoderConfigurations();
+        final var decoder = new PolicyDecoderFileInCsarToPolicy();
+        decoder.configure(BenchmarkParameters.POLICY_DECODER_CONFIGURATION);
+        decodedCsars = new ArrayList<>();
+        for (final var csarFile : inputs.getCsarFiles()) {
+            try (var csar = new Csar(csarFile.toString())) {
+                decodedCsars.add(decoder.decode(csar));
+            }
+        }
+
+        server = new StubPolicyFrameworkServer();
+        BenchmarkParameters.registerForwarderConfiguration(server.getPort(), maxInFlightRequests);
+        forwarder = new LifecycleApiPolicyForwarder();
+        forwarder.configure(BenchmarkParameters.LIFECYCLE_API_FORWARDER_CONFIGURATION);
+    }
+
+    /**
+     * Stop the forwarder and the stand in for the policy framework.
+     */
+    @TearDown(Level.Trial)
+    public void stopForwarder() {
+        forwarder.close();
+        server.close();
+        BenchmarkParameters.deregisterConfigurations();
+    }
+
+    /**
+     * Forward the policy types and policies decoded from a CSAR and deploy the policies.
+     *
+     * @throws PolicyForwardingException if the policies can't be forwarded
+     */
+    @Benchmark
+    public void forward() throws PolicyForwardingException {
+        forwarder.forward(decodedCsars.get(Math.floorMod(nextCsar.getAndIncrement(), decodedCsars.size())));
+    }
+}
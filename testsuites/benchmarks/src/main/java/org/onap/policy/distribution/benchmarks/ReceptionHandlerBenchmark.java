@@ -0,0 +1,109 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.common.parameters.ParameterService;
+import org.onap.policy.distribution.model.Csar;
+import org.onap.policy.distribution.reception.decoding.PluginInitializationException;
+import org.onap.policy.distribution.reception.decoding.PolicyDecodingException;
+import org.onap.policy.distribution.reception.parameters.PluginHandlerParameters;
+import org.onap.policy.distribution.reception.parameters.ReceptionHandlerParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the handling of a received CSAR, from its decoding by the policy and automation composition decoders to
+ * the forwarding of the decoded entities to an in-process stand in for policy-api and policy-pap.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReceptionHandlerBenchmark {
+
+    private static final String RECEPTION_HANDLER_NAME = "benchmarkReceptionHandler";
+
+    private StubPolicyFrameworkServer server;
+    private ReceptionHandlerParameters receptionHandlerParameters;
+    private BenchmarkReceptionHandler receptionHandler;
+
+    /**
+     * Start the stand in for the policy framework and initialize the reception handler.
+     *
+     * @throws IOException if the server can't be started
+     * @throws PluginInitializationException if the reception handler can't be initialized
+     */
+    @Setup(Level.Trial)
+    public void initializeReceptionHandler() throws IOException, PluginInitializationException {
+        server = new StubPolicyFrameworkServer();
+        BenchmarkParameters.registerDecoderConfigurations();
+        BenchmarkParameters.registerForwarderConfiguration(server.getPort(), 0);
+
+        final var pluginHandlerParameters =
+            new PluginHandlerParameters(BenchmarkParameters.getDecoders(), BenchmarkParameters.getForwarders());
+        pluginHandlerParameters.setName(RECEPTION_HANDLER_NAME);
+        receptionHandlerParameters = new ReceptionHandlerParameters("BenchmarkReceptionHandler",
+            BenchmarkReceptionHandler.class.getName(), null, pluginHandlerParameters);
+        receptionHandlerParameters.setName(RECEPTION_HANDLER_NAME);
+        ParameterService.register(pluginHandlerParameters, true);
+        ParameterService.register(receptionHandlerParameters, true);
+
+        receptionHandler = new BenchmarkReceptionHandler();
+        receptionHandler.initialize(receptionHandlerParameters.getName());
+    }
+
+    /**
+     * Destroy the reception handler and stop the stand in for the policy framework.
+     */
+    @TearDown(Level.Trial)
+    public void destroyReceptionHandler() {
+        receptionHandler.destroy();
+        server.close();
+        ParameterService.deregister(receptionHandlerParameters.getName());
+        ParameterService.deregister(receptionHandlerParameters.getPluginHandlerParameters().getName());
+        BenchmarkParameters.deregisterConfigurations();
+    }
+
+    /**
+     * Decode and forward a CSAR.
+     *
+     * @param inputs the CSARs
+     * @throws PolicyDecodingException if the CSAR can't be decoded
+     */
+    @Benchmark
+    public void inputReceived(final CsarInputs inputs) throws PolicyDecodingException {
+        receptionHandler.receive(new Csar(inputs.nextCsar()));
+    }
+}
@@ -0,0 +1,104 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.distribution.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process stand in for the policy-api and policy-pap REST interfaces, so that the forwarders can be benchmarked
+ * without a running policy framework. Created policy types and policies are echoed back, as policy-api does, and
+ * deployments are accepted, as policy-pap does.
+ */
+public class StubPolicyFrameworkServer implements Closeable {
+
+    private static final String EMPTY_TEMPLATE = "{\"tosca_definitions_version\":\"tosca_simple_yaml_1_1_0\"}";
+    private static final int THREAD_COUNT = 8;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Start the server on an ephemeral port of the loopback interface.
+     *
+     * @throws IOException if the server can't be started
+     */
+    public StubPolicyFrameworkServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/policy/api/v1/", this::handleApiRequest);
+        server.createContext("/policy/pap/v1/", this::handlePapRequest);
+
+        final var threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(THREAD_COUNT, runnable -> {
+            final var thread = new Thread(runnable, "stub-policy-framework-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Get the port the server listens on.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void handleApiRequest(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final var body = exchange.getRequestBody().readAllBytes();
+            respond(exchange, 200, body.length > 0 ? body : EMPTY_TEMPLATE.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void handlePapRequest(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 202, "{}".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void respond(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+}